@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.benchmarks;
+
+import org.contextmapper.discovery.ContextMapSerializer;
+import org.contextmapper.discovery.cml.ContextMapToCMLConverter;
+import org.contextmapper.discovery.fixtures.SyntheticContextMapGenerator;
+import org.contextmapper.discovery.model.ContextMap;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion of discovered Context Maps into CML models and their serialization, with generated Context
+ * Maps of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CMLSerializationBenchmark {
+
+    @Param({"10", "100"})
+    public int boundedContexts;
+
+    @Param({"5"})
+    public int aggregatesPerContext;
+
+    @Param({"10"})
+    public int domainObjectsPerAggregate;
+
+    private ContextMap contextMap;
+    private File cmlFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        contextMap = new SyntheticContextMapGenerator(boundedContexts, aggregatesPerContext, domainObjectsPerAggregate).generate();
+        cmlFile = Files.createTempFile("serialization-benchmark", ".cml").toFile();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cmlFile.delete();
+    }
+
+    @Benchmark
+    public ContextMappingModel convert() {
+        return new ContextMapToCMLConverter().convert(contextMap);
+    }
+
+    @Benchmark
+    public void serializeToFile() throws IOException {
+        new ContextMapSerializer().serializeContextMap(contextMap, cmlFile);
+    }
+
+    @Benchmark
+    public void serializeToWriter() throws IOException {
+        new ContextMapSerializer().serializeContextMap(contextMap, Writer.nullWriter());
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.benchmarks;
+
+import org.contextmapper.discovery.ContextMapDiscoverer;
+import org.contextmapper.discovery.fixtures.SyntheticDockerComposeGenerator;
+import org.contextmapper.discovery.model.BoundedContext;
+import org.contextmapper.discovery.model.ContextMap;
+import org.contextmapper.discovery.strategies.relationships.DockerComposeRelationshipDiscoveryStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the docker-compose relationship discovery on generated compose files with different numbers of services.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DockerComposeDiscoveryBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int services;
+
+    private File directory;
+    private File composeFile;
+    private Set<BoundedContext> boundedContexts;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("compose-benchmark").toFile();
+        composeFile = new SyntheticDockerComposeGenerator(services, 3).generate(directory);
+        boundedContexts = new HashSet<>();
+        for (int i = 0; i < services; i++) {
+            boundedContexts.add(new BoundedContext(SyntheticDockerComposeGenerator.serviceName(i)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        composeFile.delete();
+        directory.delete();
+    }
+
+    @Benchmark
+    public ContextMap discoverRelationships() {
+        return new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(() -> boundedContexts)
+                .usingRelationshipDiscoveryStrategies(new DockerComposeRelationshipDiscoveryStrategy(directory))
+                .discoverContextMap();
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.benchmarks;
+
+import org.contextmapper.discovery.fixtures.SyntheticOpenAPIGenerator;
+import org.contextmapper.discovery.model.BoundedContext;
+import org.contextmapper.discovery.strategies.boundedcontexts.OASBoundedContextDiscoveryStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the OpenAPI discovery strategy on generated specifications of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class OASDiscoveryBenchmark {
+
+    /**
+     * The size of the specification: endpoints x schemas.
+     */
+    @Param({"10x20", "500x1000"})
+    public String size;
+
+    private File directory;
+    private File specification;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        String[] dimensions = size.split("x");
+        directory = Files.createTempDirectory("oas-benchmark").toFile();
+        specification = new SyntheticOpenAPIGenerator(Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]))
+                .generate("SyntheticAPI", new File(directory, "synthetic-api.yml"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        specification.delete();
+        directory.delete();
+    }
+
+    @Benchmark
+    public Set<BoundedContext> discoverBoundedContexts() {
+        return new OASBoundedContextDiscoveryStrategy(specification.getPath()).discoverBoundedContexts();
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.benchmarks;
+
+import org.contextmapper.discovery.ContextMapSerializer;
+import org.contextmapper.discovery.cml.CMLSetup;
+import org.contextmapper.discovery.fixtures.SyntheticContextMapGenerator;
+import org.contextmapper.discovery.model.ContextMap;
+import org.contextmapper.discovery.snapshot.SnapshotReader;
+import org.contextmapper.discovery.snapshot.SnapshotWriter;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares storing and reloading discovered Context Maps as snapshots with serializing and parsing them as CML, with
+ * generated Context Maps of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SnapshotBenchmark {
+
+    @Param({"10", "100"})
+    public int boundedContexts;
+
+    @Param({"5"})
+    public int aggregatesPerContext;
+
+    @Param({"10"})
+    public int domainObjectsPerAggregate;
+
+    private ContextMap contextMap;
+    private File snapshotFile;
+    private File cmlFile;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        contextMap = new SyntheticContextMapGenerator(boundedContexts, aggregatesPerContext, domainObjectsPerAggregate).generate();
+        snapshotFile = Files.createTempFile("snapshot-benchmark", ".snapshot").toFile();
+        cmlFile = Files.createTempFile("snapshot-benchmark", ".cml").toFile();
+        writeSnapshot();
+        new ContextMapSerializer().serializeContextMap(contextMap, cmlFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        snapshotFile.delete();
+        cmlFile.delete();
+    }
+
+    @Benchmark
+    public void writeSnapshot() throws IOException {
+        try (OutputStream out = Files.newOutputStream(snapshotFile.toPath())) {
+            new SnapshotWriter().writeContextMap(contextMap, out);
+        }
+    }
+
+    @Benchmark
+    public ContextMap readSnapshot() throws IOException {
+        return new SnapshotReader().readContextMap(snapshotFile);
+    }
+
+    @Benchmark
+    public Resource parseCML() {
+        return CMLSetup.createResourceSet().getResource(URI.createFileURI(cmlFile.getAbsolutePath()), true);
+    }
+
+}
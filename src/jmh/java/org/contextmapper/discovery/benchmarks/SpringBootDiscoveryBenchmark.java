@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.benchmarks;
+
+import org.contextmapper.discovery.model.BoundedContext;
+import org.contextmapper.discovery.strategies.boundedcontexts.SpringBootBoundedContextDiscoveryStrategy;
+import org.contextmapper.discovery.strategies.helper.AnnotationScanner;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures classpath scanning and the Spring Boot discovery strategy, with a cold and a warm (shared) scan index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SpringBootDiscoveryBenchmark {
+
+    @Param({"test.application.spring.boot", "test.microservice.spring.boot"})
+    public String packageName;
+
+    private AnnotationScanner warmScanner;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        warmScanner = new AnnotationScanner();
+        warmScanner.scanForAnnotatedType(packageName, SpringBootApplication.class);
+    }
+
+    @Benchmark
+    public Set<Class<?>> scanCold() {
+        return new AnnotationScanner().scanForAnnotatedType(packageName, SpringBootApplication.class);
+    }
+
+    @Benchmark
+    public Set<Class<?>> scanWarm() {
+        return warmScanner.scanForAnnotatedType(packageName, SpringBootApplication.class);
+    }
+
+    @Benchmark
+    public Set<BoundedContext> discoverBoundedContexts() {
+        return new SpringBootBoundedContextDiscoveryStrategy(packageName).discoverBoundedContexts();
+    }
+
+    @Benchmark
+    public Set<BoundedContext> discoverBoundedContextsWithWarmScanner() {
+        return new SpringBootBoundedContextDiscoveryStrategy(packageName, warmScanner).discoverBoundedContexts();
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.benchmarks;
+
+import org.contextmapper.discovery.fixtures.SyntheticSpringBootGenerator;
+import org.contextmapper.discovery.model.BoundedContext;
+import org.contextmapper.discovery.strategies.boundedcontexts.SpringBootBoundedContextDiscoveryStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the Spring Boot discovery strategy on generated (compiled) code bases of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SyntheticSpringBootDiscoveryBenchmark {
+
+    private static final String BASE_PACKAGE = "synthetic.spring.boot";
+
+    @Param({"10", "100"})
+    public int applications;
+
+    @Param({"10", "100"})
+    public int controllersPerApplication;
+
+    @Param({"5"})
+    public int dtoDepth;
+
+    private File directory;
+    private URLClassLoader classLoader;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("spring-boot-benchmark").toFile();
+        classLoader = new SyntheticSpringBootGenerator(BASE_PACKAGE, applications, controllersPerApplication, dtoDepth).generate(directory);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        classLoader.close();
+        try (Stream<Path> files = Files.walk(directory.toPath())) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public Set<BoundedContext> discoverBoundedContexts() throws Exception {
+        return SyntheticSpringBootGenerator.runWithClassLoader(classLoader,
+                () -> new SpringBootBoundedContextDiscoveryStrategy(BASE_PACKAGE).discoverBoundedContexts());
+    }
+
+}
@@ -15,16 +15,31 @@
  */
 package org.contextmapper.discovery;
 
+import org.contextmapper.discovery.metrics.DiscoveryCount;
+import org.contextmapper.discovery.metrics.DiscoveryMetricsListener;
+import org.contextmapper.discovery.metrics.DiscoveryPhase;
+import org.contextmapper.discovery.metrics.PhaseMeasurement;
+import org.contextmapper.discovery.model.Aggregate;
 import org.contextmapper.discovery.model.BoundedContext;
 import org.contextmapper.discovery.model.ContextMap;
+import org.contextmapper.discovery.model.Relationship;
+import org.contextmapper.discovery.snapshot.SnapshotReader;
 import org.contextmapper.discovery.strategies.boundedcontexts.BoundedContextDiscoveryStrategy;
 import org.contextmapper.discovery.strategies.names.BoundedContextNameMappingStrategy;
 import org.contextmapper.discovery.strategies.names.DefaultBoundedContextNameMappingStrategy;
 import org.contextmapper.discovery.strategies.relationships.RelationshipDiscoveryStrategy;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Discovers Bounded Contexts and relationships between them with given strategies.
@@ -33,10 +48,20 @@ import java.util.List;
  */
 public class ContextMapDiscoverer {
 
+    private static final String CONTEXT_MAP_METRICS_SOURCE = "ContextMap";
+
     private ContextMap contextMap;
     private List<BoundedContextDiscoveryStrategy> boundedContextDiscoveryStrategies = new ArrayList<>();
     private List<RelationshipDiscoveryStrategy> relationshipDiscoveryStrategies = new ArrayList<>();
     private List<BoundedContextNameMappingStrategy> boundedContextNameMappingStrategies = new ArrayList<>();
+    private ExecutorService boundedContextDiscoveryExecutor;
+    private Map<BoundedContextDiscoveryStrategy, Set<BoundedContext>> boundedContextResults = new IdentityHashMap<>();
+    private Map<RelationshipDiscoveryStrategy, Set<Relationship>> relationshipResults = new IdentityHashMap<>();
+    private Map<String, BoundedContext> boundedContextIndex;
+    private Map<String, Optional<BoundedContext>> lookupResults = new ConcurrentHashMap<>();
+    private DiscoveryMetricsListener metricsListener = DiscoveryMetricsListener.NONE;
+    private final LongAdder lookupNanos = new LongAdder();
+    private final LongAdder lookups = new LongAdder();
 
     public ContextMapDiscoverer() {
         this.contextMap = new ContextMap();
@@ -74,6 +99,47 @@ public class ContextMapDiscoverer {
      */
     public ContextMapDiscoverer usingBoundedContextNameMappingStrategies(BoundedContextNameMappingStrategy... boundedContextNameMappingStrategies) {
         this.boundedContextNameMappingStrategies.addAll(Arrays.asList(boundedContextNameMappingStrategies));
+        this.lookupResults.clear();
+        return this;
+    }
+
+    /**
+     * Applies the Bounded Context discovery strategies concurrently, using the given executor. The results are merged in
+     * the order in which the strategies have been registered, and the relationship discovery strategies are only applied
+     * once all Bounded Context discovery strategies have finished. The executor is passed to the strategies as well (see
+     * {@link BoundedContextDiscoveryStrategy#setExecutor(java.util.concurrent.Executor)}), which may use it for their
+     * internal work.
+     * <p>
+     * On JDK 21 or newer you can pass {@code Executors.newVirtualThreadPerTaskExecutor()}. The executor is not shut down
+     * by the discoverer.
+     *
+     * @param executor the executor on which the Bounded Context discovery strategies shall be applied
+     */
+    public ContextMapDiscoverer usingParallelBoundedContextDiscovery(ExecutorService executor) {
+        if (executor == null)
+            throw new IllegalArgumentException("The executor for the parallel Bounded Context discovery must not be null.");
+        this.boundedContextDiscoveryExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Applies the Bounded Context discovery strategies concurrently, using the common fork-join pool.
+     * See {@link #usingParallelBoundedContextDiscovery(ExecutorService)}.
+     */
+    public ContextMapDiscoverer usingParallelBoundedContextDiscovery() {
+        return usingParallelBoundedContextDiscovery(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Reports the metrics of the discovery runs (phase timings, counts and allocation estimates) to the given listener.
+     * The listener is passed to the Bounded Context discovery strategies as well.
+     *
+     * @param metricsListener the listener receiving the metrics
+     */
+    public ContextMapDiscoverer usingMetricsListener(DiscoveryMetricsListener metricsListener) {
+        if (metricsListener == null)
+            throw new IllegalArgumentException("The metrics listener must not be null.");
+        this.metricsListener = metricsListener;
         return this;
     }
 
@@ -83,32 +149,287 @@ public class ContextMapDiscoverer {
      * @return the Context Map with the discovered Bounded Contexts and relationships
      */
     public ContextMap discoverContextMap() {
+        metricsListener.discoveryStarted();
+        List<Set<BoundedContext>> results = discoverBoundedContexts(boundedContextDiscoveryStrategies);
+        for (int i = 0; i < results.size(); i++) {
+            boundedContextResults.put(boundedContextDiscoveryStrategies.get(i), results.get(i));
+            contextMap.addAllBoundedContexts(results.get(i));
+        }
+        indexBoundedContexts();
+        for (RelationshipDiscoveryStrategy strategy : relationshipDiscoveryStrategies) {
+            Set<Relationship> relationships = discoverRelationships(strategy);
+            relationshipResults.put(strategy, relationships);
+            contextMap.addAllRelationships(relationships);
+        }
+        completeDiscovery();
+        return contextMap;
+    }
+
+    /**
+     * Rediscovers the Context Map after the given inputs have changed. Only the strategies affected by the changed inputs
+     * (see {@link BoundedContextDiscoveryStrategy#isAffectedBy(String)}) are applied again; the results of all other
+     * strategies are reused from the previous run of this discoverer. A relationship discovery strategy is applied again
+     * if it is affected itself, if the set of Bounded Context names changed, or if one of its relationships refers to a
+     * rediscovered Bounded Context.
+     * <p>
+     * Strategies which have not been applied before are always applied. Without a previous run, this method is
+     * equivalent to {@link #discoverContextMap()}.
+     *
+     * @param changedInputs the changed inputs (package or type names, file paths, etc.)
+     * @return a new Context Map with the discovered Bounded Contexts and relationships
+     */
+    public ContextMap rediscoverContextMap(String... changedInputs) {
+        metricsListener.discoveryStarted();
+        List<BoundedContextDiscoveryStrategy> affectedStrategies = boundedContextDiscoveryStrategies.stream()
+                .filter(s -> !boundedContextResults.containsKey(s) || isAffected(s::isAffectedBy, changedInputs))
+                .collect(Collectors.toList());
+        Set<String> previousNames = getBoundedContextNames(boundedContextResults.values());
+        Set<String> rediscoveredNames = new HashSet<>();
+        List<Set<BoundedContext>> results = discoverBoundedContexts(affectedStrategies);
+        for (int i = 0; i < results.size(); i++) {
+            Set<BoundedContext> previousResult = boundedContextResults.put(affectedStrategies.get(i), results.get(i));
+            rediscoveredNames.addAll(getBoundedContextNames(Collections.singleton(results.get(i))));
+            if (previousResult != null)
+                rediscoveredNames.addAll(getBoundedContextNames(Collections.singleton(previousResult)));
+        }
+
+        this.contextMap = new ContextMap();
         for (BoundedContextDiscoveryStrategy strategy : boundedContextDiscoveryStrategies) {
-            contextMap.addAllBoundedContexts(strategy.discoverBoundedContexts());
+            contextMap.addAllBoundedContexts(boundedContextResults.get(strategy));
         }
+        indexBoundedContexts();
+        boolean namesChanged = !previousNames.equals(getBoundedContextNames(boundedContextResults.values()));
         for (RelationshipDiscoveryStrategy strategy : relationshipDiscoveryStrategies) {
-            contextMap.addAllRelationships(strategy.discoverRelationships());
+            Set<Relationship> relationships = relationshipResults.get(strategy);
+            if (relationships == null || namesChanged || isAffected(strategy::isAffectedBy, changedInputs)
+                    || refersToAny(relationships, rediscoveredNames)) {
+                relationships = discoverRelationships(strategy);
+                relationshipResults.put(strategy, relationships);
+            }
+            contextMap.addAllRelationships(relationships);
+        }
+        completeDiscovery();
+        return contextMap;
+    }
+
+    /**
+     * Rediscovers a Context Map of a previous run (for example one of another process) after the given inputs have
+     * changed. Only the strategies affected by the changed inputs (see
+     * {@link BoundedContextDiscoveryStrategy#isAffectedBy(String)}) are applied; the Bounded Contexts of the previous
+     * Context Map are reused for all other strategies. A Bounded Context of the previous Context Map is replaced if an
+     * affected strategy discovers one with the same name. As the previous Context Map does not record which strategy
+     * discovered a Bounded Context, Bounded Contexts which an affected strategy does not discover anymore are kept; use
+     * {@link #discoverContextMap()} if inputs have been removed.
+     * <p>
+     * The relationships of the previous Context Map are reused if no strategy is affected. Otherwise all relationship
+     * discovery strategies are applied again, as it is not known either which of them discovered a relationship.
+     *
+     * @param previousContextMap the Context Map of a previous run
+     * @param changedInputs      the changed inputs (package or type names, file paths, etc.)
+     * @return a new Context Map with the reused and rediscovered Bounded Contexts and relationships
+     */
+    public ContextMap rediscoverContextMap(ContextMap previousContextMap, String... changedInputs) {
+        metricsListener.discoveryStarted();
+        List<BoundedContextDiscoveryStrategy> affectedStrategies = boundedContextDiscoveryStrategies.stream()
+                .filter(s -> isAffected(s::isAffectedBy, changedInputs))
+                .collect(Collectors.toList());
+        boundedContextResults.clear();
+        relationshipResults.clear();
+        this.contextMap = new ContextMap();
+        List<Set<BoundedContext>> results = discoverBoundedContexts(affectedStrategies);
+        for (int i = 0; i < results.size(); i++) {
+            boundedContextResults.put(affectedStrategies.get(i), results.get(i));
+            contextMap.addAllBoundedContexts(results.get(i));
+        }
+        Set<String> rediscoveredNames = getBoundedContextNames(results);
+        contextMap.addAllBoundedContexts(previousContextMap.getBoundedContexts().stream()
+                .filter(bc -> !rediscoveredNames.contains(bc.getName()))
+                .collect(Collectors.toSet()));
+        indexBoundedContexts();
+
+        boolean relationshipsAffected = relationshipDiscoveryStrategies.stream().anyMatch(s -> isAffected(s::isAffectedBy, changedInputs));
+        if (affectedStrategies.isEmpty() && !relationshipsAffected) {
+            contextMap.addAllRelationships(previousContextMap.getRelationships());
+        } else {
+            for (RelationshipDiscoveryStrategy strategy : relationshipDiscoveryStrategies) {
+                Set<Relationship> relationships = discoverRelationships(strategy);
+                relationshipResults.put(strategy, relationships);
+                contextMap.addAllRelationships(relationships);
+            }
         }
+        completeDiscovery();
         return contextMap;
     }
 
+    /**
+     * Rediscovers the Context Map stored in a snapshot (written with
+     * {@link org.contextmapper.discovery.snapshot.SnapshotWriter#writeContextMap(ContextMap, java.io.OutputStream)})
+     * after the given inputs have changed. See {@link #rediscoverContextMap(ContextMap, String...)}.
+     *
+     * @param snapshotFile  the snapshot of the Context Map of a previous run
+     * @param changedInputs the changed inputs (package or type names, file paths, etc.)
+     * @return a new Context Map with the reused and rediscovered Bounded Contexts and relationships
+     * @throws IOException if the snapshot cannot be read
+     */
+    public ContextMap rediscoverContextMap(File snapshotFile, String... changedInputs) throws IOException {
+        return rediscoverContextMap(new SnapshotReader().readContextMap(snapshotFile), changedInputs);
+    }
+
     /**
      * Finds discovered Bounded Context by name, using lookup strategy if configured.
+     * <p>
+     * The Bounded Contexts are indexed by name and the result of each lookup is remembered, so that repeated lookups of
+     * the same name (for example by relationship discovery strategies) neither map the name again nor search the
+     * Context Map. If Bounded Contexts have been added to the Context Map in the meantime, the index is rebuilt and the
+     * remembered results are discarded. Lookups may be run concurrently.
      *
      * @param name the Bounded Context name to be looked up
      * @return the corresponding Bounded Context or null, if the name was not found
      */
     public BoundedContext lookupBoundedContext(String name) {
+        long start = System.nanoTime();
+        Map<String, BoundedContext> index = getBoundedContextIndex();
+        Optional<BoundedContext> result = lookupResults.computeIfAbsent(name, n -> Optional.ofNullable(mapAndLookupBoundedContext(index, n)));
+        lookupNanos.add(System.nanoTime() - start);
+        lookups.increment();
+        return result.orElse(null);
+    }
+
+    private BoundedContext mapAndLookupBoundedContext(Map<String, BoundedContext> index, String name) {
         for (BoundedContextNameMappingStrategy strategy : boundedContextNameMappingStrategies) {
-            BoundedContext bc = getBoundedContextByName(strategy.mapBoundedContextName(name));
+            BoundedContext bc = index.get(strategy.mapBoundedContextName(name));
             if (bc != null)
                 return bc;
         }
         return null;
     }
 
-    private BoundedContext getBoundedContextByName(String name) {
-        return this.contextMap.getBoundedContexts().stream().filter(bc -> bc.getName().equals(name)).findFirst().orElse(null);
+    /**
+     * Gets the index of the Bounded Contexts by name. The index is rebuilt if Bounded Contexts have been added to the
+     * Context Map since it was built (the Bounded Contexts of a Context Map have unique names).
+     */
+    private synchronized Map<String, BoundedContext> getBoundedContextIndex() {
+        if (boundedContextIndex == null || boundedContextIndex.size() != contextMap.getBoundedContexts().size())
+            indexBoundedContexts();
+        return boundedContextIndex;
+    }
+
+    private synchronized void indexBoundedContexts() {
+        boundedContextIndex = new HashMap<>();
+        for (BoundedContext boundedContext : contextMap.getBoundedContexts()) {
+            boundedContextIndex.put(boundedContext.getName(), boundedContext);
+        }
+        lookupResults.clear();
+    }
+
+    private List<Set<BoundedContext>> discoverBoundedContexts(List<BoundedContextDiscoveryStrategy> strategies) {
+        for (BoundedContextDiscoveryStrategy strategy : strategies) {
+            strategy.setMetricsListener(metricsListener);
+            strategy.setExecutor(boundedContextDiscoveryExecutor);
+        }
+        List<Set<BoundedContext>> results = new ArrayList<>();
+        if (boundedContextDiscoveryExecutor == null) {
+            for (BoundedContextDiscoveryStrategy strategy : strategies) {
+                results.add(discoverBoundedContexts(strategy));
+            }
+            return results;
+        }
+
+        List<Future<Set<BoundedContext>>> futures = new ArrayList<>();
+        for (BoundedContextDiscoveryStrategy strategy : strategies) {
+            futures.add(boundedContextDiscoveryExecutor.submit(() -> discoverBoundedContexts(strategy)));
+        }
+        try {
+            for (Future<Set<BoundedContext>> future : futures) {
+                results.add(getDiscoveryResult(future));
+            }
+        } finally {
+            futures.forEach(f -> f.cancel(true));
+        }
+        return results;
+    }
+
+    /**
+     * Applies a Bounded Context discovery strategy and reports its metrics.
+     */
+    private Set<BoundedContext> discoverBoundedContexts(BoundedContextDiscoveryStrategy strategy) {
+        PhaseMeasurement measurement = PhaseMeasurement.start(metricsListener);
+        Set<BoundedContext> boundedContexts = strategy.discoverBoundedContexts();
+        measurement.complete(getMetricsSource(strategy), DiscoveryPhase.BOUNDED_CONTEXT_DISCOVERY);
+        recordCounts(getMetricsSource(strategy), boundedContexts);
+        return boundedContexts;
+    }
+
+    /**
+     * Applies a relationship discovery strategy and reports its metrics, including the time spent on looking up
+     * Bounded Contexts.
+     */
+    private Set<Relationship> discoverRelationships(RelationshipDiscoveryStrategy strategy) {
+        lookupNanos.reset();
+        lookups.reset();
+        strategy.setMetricsListener(metricsListener);
+        PhaseMeasurement measurement = PhaseMeasurement.start(metricsListener);
+        Set<Relationship> relationships = strategy.discoverRelationships();
+        measurement.complete(getMetricsSource(strategy), DiscoveryPhase.RELATIONSHIP_DISCOVERY);
+        if (lookups.sum() > 0)
+            metricsListener.phaseCompleted(getMetricsSource(strategy), DiscoveryPhase.BOUNDED_CONTEXT_LOOKUP, lookupNanos.sum(), -1);
+        metricsListener.countRecorded(getMetricsSource(strategy), DiscoveryCount.RELATIONSHIPS, relationships.size());
+        return relationships;
+    }
+
+    private void completeDiscovery() {
+        recordCounts(CONTEXT_MAP_METRICS_SOURCE, contextMap.getBoundedContexts());
+        metricsListener.countRecorded(CONTEXT_MAP_METRICS_SOURCE, DiscoveryCount.RELATIONSHIPS, contextMap.getRelationships().size());
+        metricsListener.discoveryCompleted();
+    }
+
+    private void recordCounts(String source, Set<BoundedContext> boundedContexts) {
+        long aggregates = 0;
+        long domainObjects = 0;
+        for (BoundedContext boundedContext : boundedContexts) {
+            if (boundedContext.hasUnresolvedAggregates())
+                continue; // counting would resolve lazily added Aggregates
+            aggregates += boundedContext.getAggregates().size();
+            for (Aggregate aggregate : boundedContext.getAggregates()) {
+                domainObjects += aggregate.getDomainObjects().size();
+            }
+        }
+        metricsListener.countRecorded(source, DiscoveryCount.BOUNDED_CONTEXTS, boundedContexts.size());
+        metricsListener.countRecorded(source, DiscoveryCount.AGGREGATES, aggregates);
+        metricsListener.countRecorded(source, DiscoveryCount.DOMAIN_OBJECTS, domainObjects);
+    }
+
+    private String getMetricsSource(Object strategy) {
+        String name = strategy.getClass().getSimpleName();
+        return name.isEmpty() ? strategy.getClass().getName() : name;
+    }
+
+    private Set<BoundedContext> getDiscoveryResult(Future<Set<BoundedContext>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The Bounded Context discovery has been interrupted.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            if (e.getCause() instanceof Error)
+                throw (Error) e.getCause();
+            throw new IllegalStateException("The Bounded Context discovery failed.", e.getCause());
+        }
+    }
+
+    private boolean isAffected(Predicate<String> strategy, String... changedInputs) {
+        return Arrays.stream(changedInputs).anyMatch(strategy);
+    }
+
+    private Set<String> getBoundedContextNames(Collection<Set<BoundedContext>> boundedContexts) {
+        return boundedContexts.stream().flatMap(Set::stream).map(BoundedContext::getName).collect(Collectors.toSet());
+    }
+
+    private boolean refersToAny(Set<Relationship> relationships, Set<String> boundedContextNames) {
+        return relationships.stream().anyMatch(r -> boundedContextNames.contains(r.getUpstream().getName())
+                || boundedContextNames.contains(r.getDownstream().getName()));
     }
 
 }
@@ -16,17 +16,20 @@
 package org.contextmapper.discovery;
 
 import org.apache.commons.io.FilenameUtils;
+import org.contextmapper.discovery.cml.CMLSetup;
 import org.contextmapper.discovery.cml.ContextMapToCMLConverter;
+import org.contextmapper.discovery.cml.ContextMapToCMLWriter;
+import org.contextmapper.discovery.metrics.DiscoveryMetricsListener;
+import org.contextmapper.discovery.metrics.DiscoveryPhase;
+import org.contextmapper.discovery.metrics.PhaseMeasurement;
 import org.contextmapper.discovery.model.ContextMap;
-import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
-import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.xtext.resource.SaveOptions;
 
-import java.io.File;
-import java.io.IOException;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Serializes discovered {@link org.contextmapper.discovery.model.ContextMap} to Context Mapper DSL (CML) code.
@@ -35,17 +38,67 @@ import java.io.IOException;
  */
 public class ContextMapSerializer {
 
+    private static final String METRICS_SOURCE = ContextMapSerializer.class.getSimpleName();
+
+    private DiscoveryMetricsListener metricsListener = DiscoveryMetricsListener.NONE;
+
+    /**
+     * Reports the duration of the conversion into CML (phase {@link DiscoveryPhase#CML_CONVERSION}) to the given listener.
+     *
+     * @param metricsListener the listener receiving the metrics
+     */
+    public ContextMapSerializer usingMetricsListener(DiscoveryMetricsListener metricsListener) {
+        if (metricsListener == null)
+            throw new IllegalArgumentException("The metrics listener must not be null.");
+        this.metricsListener = metricsListener;
+        return this;
+    }
+
     public void serializeContextMap(ContextMap contextMap, File cmlFile) throws IOException {
         if (!FilenameUtils.getExtension(cmlFile.toString()).equals("cml"))
             throw new IllegalArgumentException("The CML file must end with the file extension '*.cml'!");
-        if (contextMap.getBoundedContexts().size() <= 0)
-            throw new IllegalArgumentException("The Context Map must at least contain one Bounded Context to be serialized!");
+        checkNotEmpty(contextMap);
 
-        ContextMappingDSLStandaloneSetup.doSetup();
-        Resource resource = new ResourceSetImpl().createResource(URI.createURI(cmlFile.toURI().toString()));
+        Resource resource = CMLSetup.createResourceSet().createResource(URI.createURI(cmlFile.toURI().toString()));
+        PhaseMeasurement conversion = PhaseMeasurement.start(metricsListener);
         ContextMappingModel model = new ContextMapToCMLConverter().convert(contextMap);
+        conversion.complete(METRICS_SOURCE, DiscoveryPhase.CML_CONVERSION);
         resource.getContents().add(model);
         resource.save(SaveOptions.defaultOptions().toOptionsMap());
     }
 
+    /**
+     * Streams the CML code of the Context Map to the given writer, without creating the CML model in memory. Use this
+     * mode for large Context Maps. The writer is flushed but not closed.
+     *
+     * @param contextMap the Context Map to be serialized
+     * @param writer     the writer to which the CML code shall be written
+     * @throws IOException if the writer cannot be written to
+     */
+    public void serializeContextMap(ContextMap contextMap, Writer writer) throws IOException {
+        checkNotEmpty(contextMap);
+        Writer bufferedWriter = writer instanceof BufferedWriter || writer instanceof StringWriter ? writer : new BufferedWriter(writer);
+        PhaseMeasurement conversion = PhaseMeasurement.start(metricsListener);
+        new ContextMapToCMLWriter(bufferedWriter).write(contextMap);
+        conversion.complete(METRICS_SOURCE, DiscoveryPhase.CML_CONVERSION);
+        bufferedWriter.flush();
+    }
+
+    /**
+     * Streams the CML code of the Context Map to the given output stream (UTF-8 encoded), without creating the CML model
+     * in memory. The stream is flushed but not closed.
+     *
+     * @param contextMap   the Context Map to be serialized
+     * @param outputStream the stream to which the CML code shall be written
+     * @throws IOException if the stream cannot be written to
+     */
+    public void serializeContextMap(ContextMap contextMap, OutputStream outputStream) throws IOException {
+        serializeContextMap(contextMap, new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    private void checkNotEmpty(ContextMap contextMap) {
+        if (contextMap.getBoundedContexts().size() <= 0)
+            throw new IllegalArgumentException("The Context Map must at least contain one Bounded Context to be serialized!");
+    }
+
 }
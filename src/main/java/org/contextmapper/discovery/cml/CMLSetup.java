@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.cml;
+
+import com.google.inject.Injector;
+import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+import org.eclipse.xtext.resource.XtextResourceSet;
+
+/**
+ * Provides the CML (Xtext) setup shared by all serializations. The Guice injector is created and the EMF packages are
+ * registered only once, on first use; the initialization is thread-safe.
+ */
+public final class CMLSetup {
+
+    private CMLSetup() {
+    }
+
+    /**
+     * Returns the shared CML injector.
+     *
+     * @return the injector of the CML language
+     */
+    public static Injector getInjector() {
+        return InjectorHolder.INJECTOR;
+    }
+
+    /**
+     * Creates a new resource set for CML resources. Resource sets are not thread-safe, so every serialization shall use
+     * its own one.
+     *
+     * @return a new resource set using the shared injector
+     */
+    public static XtextResourceSet createResourceSet() {
+        return getInjector().getInstance(XtextResourceSet.class);
+    }
+
+    /**
+     * Holds the injector; initialized by the JVM when it is first accessed.
+     */
+    private static class InjectorHolder {
+        private static final Injector INJECTOR = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
+    }
+
+}
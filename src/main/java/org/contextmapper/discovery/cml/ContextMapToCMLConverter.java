@@ -34,6 +34,8 @@ import static org.contextmapper.discovery.model.DomainObjectType.ENTITY;
  */
 public class ContextMapToCMLConverter {
 
+    private static final String ROOT_ENTITY_POSTFIX = "_RootEntity";
+
     private Map<String, BoundedContext> boundedContextMap = new HashMap<>();
     private Map<org.contextmapper.discovery.model.DomainObject, DomainObject> domainObjectLookupMap = new HashMap<>();
 
@@ -82,13 +84,24 @@ public class ContextMapToCMLConverter {
         for (org.contextmapper.discovery.model.Service service : inputAggregate.getServices()) {
             aggregate.getServices().add(convert(service));
         }
-        Optional<Entity> rootEntity = aggregate.getDomainObjects().stream().filter(o -> o instanceof Entity).map(o -> (Entity) o)
-                .filter(e -> e.getName().endsWith("_RootEntity")).findFirst();
-        if (rootEntity.isPresent())
-            rootEntity.get().setAggregateRoot(true);
+        org.contextmapper.discovery.model.DomainObject rootEntity = findRootEntity(inputAggregate);
+        if (rootEntity != null)
+            ((Entity) domainObjectLookupMap.get(rootEntity)).setAggregateRoot(true);
         return aggregate;
     }
 
+    /**
+     * Finds the root entity of an Aggregate. For Aggregates without a root entity set, the entity named with the
+     * '_RootEntity' postfix is used (naming convention of the discovery strategies).
+     */
+    static org.contextmapper.discovery.model.DomainObject findRootEntity(org.contextmapper.discovery.model.Aggregate aggregate) {
+        if (aggregate.getRootEntity() != null)
+            return aggregate.getRootEntity();
+        return aggregate.getDomainObjects().stream()
+                .filter(o -> ENTITY.equals(o.getType()) && o.getName().endsWith(ROOT_ENTITY_POSTFIX))
+                .findFirst().orElse(null);
+    }
+
     private DomainObject convert(org.contextmapper.discovery.model.DomainObject inputDomainObject) {
         if (ENTITY.equals(inputDomainObject.getType()))
             return convertDomainObjectToEntity(inputDomainObject);
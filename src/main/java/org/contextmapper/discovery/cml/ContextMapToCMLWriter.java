@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.cml;
+
+import org.contextmapper.discovery.model.*;
+import org.contextmapper.tactic.dsl.tacticdsl.CollectionType;
+import org.eclipse.xtext.GrammarUtil;
+import org.eclipse.xtext.IGrammarAccess;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.contextmapper.discovery.model.DomainObjectType.ENTITY;
+
+/**
+ * Writes a {@link org.contextmapper.discovery.model.ContextMap} as CML text directly to a {@link Writer}, without
+ * creating the CML (EMF) model first.
+ * <p>
+ * The output contains the same constructs as the model created by the {@link ContextMapToCMLConverter} and follows the
+ * layout of the Xtext serializer. Names which are CML keywords are escaped with '^'.
+ */
+public class ContextMapToCMLWriter {
+
+    private final Writer writer;
+
+    public ContextMapToCMLWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Writes the Context Map and all its Bounded Contexts. The writer is not flushed or closed.
+     *
+     * @param contextMap the Context Map to be written
+     * @throws IOException if the writer cannot be written to
+     */
+    public void write(ContextMap contextMap) throws IOException {
+        line(0, "ContextMap {");
+        for (BoundedContext boundedContext : contextMap.getBoundedContexts()) {
+            line(1, "contains " + id(boundedContext.getName()));
+        }
+        if (!contextMap.getRelationships().isEmpty()) {
+            for (Relationship relationship : contextMap.getRelationships()) {
+                writer.write(System.lineSeparator());
+                writeRelationship(relationship);
+            }
+            writer.write(System.lineSeparator());
+        }
+        line(0, "}");
+        for (BoundedContext boundedContext : contextMap.getBoundedContexts()) {
+            writer.write(System.lineSeparator());
+            writeBoundedContext(boundedContext);
+        }
+    }
+
+    private void writeRelationship(Relationship relationship) throws IOException {
+        String header = id(relationship.getUpstream().getName()) + " -> " + id(relationship.getDownstream().getName());
+        Set<String> upstreamAggregates = relationship.getUpstream().getAggregates().stream().map(Aggregate::getName).collect(Collectors.toSet());
+        String exposedAggregates = relationship.getExposedAggregates().stream()
+                .map(Aggregate::getName)
+                .filter(upstreamAggregates::contains)
+                .map(this::id)
+                .collect(Collectors.joining(", "));
+        if (exposedAggregates.isEmpty()) {
+            line(1, header);
+            return;
+        }
+        line(1, header + " {");
+        String comment = relationship.getExposedAggregatesComment();
+        line(2, "exposedAggregates " + exposedAggregates + (hasText(comment) ? " // " + comment : ""));
+        line(1, "}");
+    }
+
+    private void writeBoundedContext(BoundedContext boundedContext) throws IOException {
+        line(0, "BoundedContext " + id(boundedContext.getName()) + " {");
+        if (boundedContext.getTechnology() != null)
+            line(1, "implementationTechnology " + string(boundedContext.getTechnology()));
+        for (Aggregate aggregate : boundedContext.getAggregates()) {
+            writeAggregate(aggregate);
+        }
+        line(0, "}");
+    }
+
+    private void writeAggregate(Aggregate aggregate) throws IOException {
+        comment(1, aggregate.getDiscoveryComment());
+        line(1, "Aggregate " + id(aggregate.getName()) + " {");
+        for (Service service : aggregate.getServices()) {
+            writeService(service);
+        }
+        DomainObject rootEntity = ContextMapToCMLConverter.findRootEntity(aggregate);
+        for (DomainObject domainObject : aggregate.getDomainObjects()) {
+            writeDomainObject(domainObject, domainObject == rootEntity);
+        }
+        line(1, "}");
+    }
+
+    private void writeService(Service service) throws IOException {
+        comment(2, service.getDiscoveryComment());
+        line(2, "Service " + id(service.getName()) + " {");
+        for (Method operation : service.getOperations()) {
+            line(3, returnType(operation) + id(operation.getName()) + " (" + parameters(operation) + ");");
+        }
+        line(2, "}");
+    }
+
+    private void writeDomainObject(DomainObject domainObject, boolean aggregateRoot) throws IOException {
+        if (ENTITY.equals(domainObject.getType())) {
+            line(2, "Entity " + id(domainObject.getName()) + " {");
+        } else {
+            comment(2, domainObject.getDiscoveryComment());
+            line(2, "ValueObject " + id(domainObject.getName()) + " {");
+        }
+        if (aggregateRoot)
+            line(3, "aggregateRoot");
+        for (Attribute attribute : domainObject.getAttributes()) {
+            if (attribute.getType().isPrimitiveType())
+                line(3, type(attribute.getType()) + " " + id(attribute.getName()));
+        }
+        for (Attribute attribute : domainObject.getAttributes()) {
+            if (attribute.getType().isDomainObjectType())
+                line(3, "- " + reference(attribute.getType()) + " " + id(attribute.getName()));
+        }
+        for (Method method : domainObject.getMethods()) {
+            String parameters = method.getParameters().isEmpty() ? "" : " (" + parameters(method) + ")";
+            line(3, "def " + returnType(method) + id(method.getName()) + parameters + ";");
+        }
+        line(2, "}");
+    }
+
+    private String returnType(Method method) {
+        return method.getReturnType() == null ? "" : complexType(method.getReturnType()) + " ";
+    }
+
+    private String parameters(Method method) {
+        return method.getParameters().stream()
+                .map(p -> complexType(p.getType()) + " " + id(p.getName()))
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Formats a type of an operation or parameter (domain object types are prefixed with '@').
+     */
+    private String complexType(Type type) {
+        String name = type.isDomainObjectType() ? "@" + id(type.getDomainObjectType().getName()) : typeName(type.getPrimitiveType());
+        return collection(type, name);
+    }
+
+    /**
+     * Formats the type of an attribute.
+     */
+    private String type(Type type) {
+        return collection(type, typeName(type.getPrimitiveType()));
+    }
+
+    /**
+     * Formats the type of a reference.
+     */
+    private String reference(Type type) {
+        return collection(type, id(type.getDomainObjectType().getName()));
+    }
+
+    private String collection(Type type, String name) {
+        if (!type.isCollectionType())
+            return name;
+        CollectionType collectionType = CollectionType.get(type.getCollectionType());
+        if (collectionType == null || collectionType == CollectionType.NONE)
+            return name;
+        return collectionType.getLiteral() + "<" + name + ">";
+    }
+
+    private String typeName(String name) {
+        String[] segments = name.split("\\.");
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = id(segments[i]);
+        }
+        return String.join(".", segments);
+    }
+
+    private String id(String name) {
+        return Keywords.ALL.contains(name) ? "^" + name : name;
+    }
+
+    private String string(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n").replace("\r", "\\r") + "\"";
+    }
+
+    private boolean hasText(String text) {
+        return text != null && !"".equals(text);
+    }
+
+    private void comment(int indentation, String comment) throws IOException {
+        if (hasText(comment))
+            line(indentation, "/* " + comment + " */");
+    }
+
+    private void line(int indentation, String text) throws IOException {
+        for (int i = 0; i < indentation; i++) {
+            writer.write('\t');
+        }
+        writer.write(text);
+        writer.write(System.lineSeparator());
+    }
+
+    /**
+     * The keywords of the CML grammar, which have to be escaped if used as names. Loaded once, on first use.
+     */
+    private static class Keywords {
+        private static final Set<String> ALL = GrammarUtil.getAllKeywords(CMLSetup.getInjector()
+                .getInstance(IGrammarAccess.class).getGrammar());
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.diff;
+
+import java.util.Objects;
+
+/**
+ * Represents one change between two Context Maps, for example an added Aggregate or an attribute whose type changed.
+ */
+public class Change {
+
+    private final ChangeType changeType;
+    private final ElementType elementType;
+    private final String path;
+    private final String details;
+
+    public Change(ChangeType changeType, ElementType elementType, String path, String details) {
+        this.changeType = changeType;
+        this.elementType = elementType;
+        this.path = path;
+        this.details = details;
+    }
+
+    /**
+     * Gets the kind of the change.
+     *
+     * @return the kind of the change (added, removed or changed)
+     */
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    /**
+     * Gets the type of the changed element.
+     *
+     * @return the type of the changed element
+     */
+    public ElementType getElementType() {
+        return elementType;
+    }
+
+    /**
+     * Gets the path of the changed element, for example 'CustomerManagement/Customers/Customer/name' for an attribute
+     * or 'CustomerManagement -> OrderManagement' for a relationship.
+     *
+     * @return the path of the changed element
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the description of the change of a changed element, for example 'type: String -> long'.
+     *
+     * @return the description of the change or null, if the element has been added or removed
+     */
+    public String getDetails() {
+        return details;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object)
+            return true;
+        if (object == null || getClass() != object.getClass())
+            return false;
+        Change change = (Change) object;
+        return changeType == change.changeType && elementType == change.elementType
+                && path.equals(change.path) && Objects.equals(details, change.details);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(changeType, elementType, path, details);
+    }
+
+    @Override
+    public String toString() {
+        return changeType + " " + elementType + " " + path + (details != null ? " (" + details + ")" : "");
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.diff;
+
+import org.contextmapper.discovery.cml.ContextMapToCMLWriter;
+import org.contextmapper.discovery.model.ContextMap;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The changes between two Context Maps, as computed by the {@link ContextMapDiffer}.
+ */
+public class ContextMapDiff {
+
+    private final ContextMap previous;
+    private final ContextMap current;
+    private final List<Change> changes;
+
+    ContextMapDiff(ContextMap previous, ContextMap current, List<Change> changes) {
+        this.previous = previous;
+        this.current = current;
+        this.changes = Collections.unmodifiableList(changes);
+    }
+
+    /**
+     * Gets the Context Map the changes are based on.
+     *
+     * @return the previous Context Map
+     */
+    public ContextMap getPrevious() {
+        return previous;
+    }
+
+    /**
+     * Gets the Context Map resulting from the changes.
+     *
+     * @return the current Context Map
+     */
+    public ContextMap getCurrent() {
+        return current;
+    }
+
+    /**
+     * Gets the changes, ordered by the paths of the changed elements.
+     *
+     * @return an unmodifiable list of the changes
+     */
+    public List<Change> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Checks whether the two Context Maps differ.
+     *
+     * @return true, if there is at least one change
+     */
+    public boolean hasChanges() {
+        return !changes.isEmpty();
+    }
+
+    /**
+     * Writes the current Context Map as CML, preceded by a comment listing the changes. The writer is not flushed or
+     * closed.
+     *
+     * @param writer the writer to which the CML shall be written
+     * @throws IOException if the writer cannot be written to
+     */
+    public void writeCML(Writer writer) throws IOException {
+        writer.write("/* Changes since the previous discovery run:" + System.lineSeparator());
+        if (changes.isEmpty())
+            writer.write(" * none" + System.lineSeparator());
+        for (Change change : changes) {
+            writer.write(" * " + change.toString().replace("*/", "* /") + System.lineSeparator());
+        }
+        writer.write(" */" + System.lineSeparator());
+        new ContextMapToCMLWriter(writer).write(current);
+    }
+
+}
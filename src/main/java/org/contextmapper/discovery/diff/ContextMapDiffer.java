@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.diff;
+
+import org.contextmapper.discovery.model.*;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.contextmapper.discovery.diff.ChangeType.*;
+import static org.contextmapper.discovery.diff.ElementType.*;
+
+/**
+ * Computes the changes between two Context Maps (for example the results of two discovery runs): added, removed and
+ * changed Bounded Contexts, Aggregates, domain objects, attributes and relationships.
+ * <p>
+ * The elements are matched by their names (relationships by the names of their upstream and downstream Bounded
+ * Contexts) within their parents, using hash maps, so the comparison takes linear time. The children of added or
+ * removed elements are not reported individually.
+ */
+public class ContextMapDiffer {
+
+    private static final String PATH_SEPARATOR = "/";
+
+    /**
+     * Compares two Context Maps.
+     *
+     * @param previous the Context Map of the previous discovery run
+     * @param current  the Context Map of the current discovery run
+     * @return the changes from the previous to the current Context Map
+     */
+    public ContextMapDiff compare(ContextMap previous, ContextMap current) {
+        if (previous == null || current == null)
+            throw new IllegalArgumentException("Please provide two Context Maps to be compared.");
+        List<Change> changes = new ArrayList<>();
+        compare(BOUNDED_CONTEXT, "", previous.getBoundedContexts(), current.getBoundedContexts(), BoundedContext::getName,
+                (path, p, c) -> compareBoundedContexts(path, p, c, changes), changes);
+        compare(RELATIONSHIP, "", previous.getRelationships(), current.getRelationships(), this::getRelationshipName,
+                (path, p, c) -> compareRelationships(path, p, c, changes), changes);
+        changes.sort(Comparator.comparing(Change::getPath).thenComparing(Change::getElementType));
+        return new ContextMapDiff(previous, current, changes);
+    }
+
+    private void compareBoundedContexts(String path, BoundedContext previous, BoundedContext current, List<Change> changes) {
+        if (!Objects.equals(previous.getTechnology(), current.getTechnology()))
+            changes.add(new Change(CHANGED, BOUNDED_CONTEXT, path, "technology: " + previous.getTechnology() + " -> " + current.getTechnology()));
+        compare(AGGREGATE, path + PATH_SEPARATOR, previous.getAggregates(), current.getAggregates(), Aggregate::getName,
+                (aggregatePath, p, c) -> compareAggregates(aggregatePath, p, c, changes), changes);
+    }
+
+    private void compareAggregates(String path, Aggregate previous, Aggregate current, List<Change> changes) {
+        compare(DOMAIN_OBJECT, path + PATH_SEPARATOR, previous.getDomainObjects(), current.getDomainObjects(), DomainObject::getName,
+                (domainObjectPath, p, c) -> compareDomainObjects(domainObjectPath, p, c, changes), changes);
+    }
+
+    private void compareDomainObjects(String path, DomainObject previous, DomainObject current, List<Change> changes) {
+        if (previous.getType() != current.getType())
+            changes.add(new Change(CHANGED, DOMAIN_OBJECT, path, "type: " + previous.getType() + " -> " + current.getType()));
+        compare(ATTRIBUTE, path + PATH_SEPARATOR, previous.getAttributes(), current.getAttributes(), Attribute::getName,
+                (attributePath, p, c) -> compareAttributes(attributePath, p, c, changes), changes);
+    }
+
+    private void compareAttributes(String path, Attribute previous, Attribute current, List<Change> changes) {
+        String previousType = describe(previous.getType());
+        String currentType = describe(current.getType());
+        if (!previousType.equals(currentType))
+            changes.add(new Change(CHANGED, ATTRIBUTE, path, "type: " + previousType + " -> " + currentType));
+    }
+
+    private void compareRelationships(String path, Relationship previous, Relationship current, List<Change> changes) {
+        List<String> previousAggregates = getExposedAggregateNames(previous);
+        List<String> currentAggregates = getExposedAggregateNames(current);
+        if (!previousAggregates.equals(currentAggregates))
+            changes.add(new Change(CHANGED, RELATIONSHIP, path, "exposed Aggregates: " + previousAggregates + " -> " + currentAggregates));
+    }
+
+    /**
+     * Matches the previous and current elements by their keys: unmatched elements are reported as removed or added,
+     * matched elements are passed on to be compared in detail.
+     */
+    private <T> void compare(ElementType elementType, String parentPath, Collection<T> previous, Collection<T> current,
+                             Function<T, String> key, ElementComparison<T> comparison, List<Change> changes) {
+        Map<String, T> previousByKey = index(previous, key);
+        Map<String, T> currentByKey = index(current, key);
+        for (Map.Entry<String, T> entry : previousByKey.entrySet()) {
+            String path = parentPath + entry.getKey();
+            T currentElement = currentByKey.get(entry.getKey());
+            if (currentElement == null)
+                changes.add(new Change(REMOVED, elementType, path, null));
+            else
+                comparison.compare(path, entry.getValue(), currentElement);
+        }
+        for (String currentKey : currentByKey.keySet()) {
+            if (!previousByKey.containsKey(currentKey))
+                changes.add(new Change(ADDED, elementType, parentPath + currentKey, null));
+        }
+    }
+
+    private <T> Map<String, T> index(Collection<T> elements, Function<T, String> key) {
+        Map<String, T> index = new HashMap<>();
+        for (T element : elements) {
+            index.putIfAbsent(key.apply(element), element);
+        }
+        return index;
+    }
+
+    private String getRelationshipName(Relationship relationship) {
+        return relationship.getUpstream().getName() + " -> " + relationship.getDownstream().getName();
+    }
+
+    private List<String> getExposedAggregateNames(Relationship relationship) {
+        return relationship.getExposedAggregates().stream()
+                .map(Aggregate::getName)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private String describe(Type type) {
+        if (type == null)
+            return "void";
+        return type.isCollectionType() ? type.getCollectionType() + "<" + type.getName() + ">" : type.getName();
+    }
+
+    private interface ElementComparison<T> {
+        void compare(String path, T previous, T current);
+    }
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.metrics;
+
+/**
+ * The quantities counted during a discovery run.
+ */
+public enum DiscoveryCount {
+
+    BOUNDED_CONTEXTS,
+    AGGREGATES,
+    DOMAIN_OBJECTS,
+    RELATIONSHIPS,
+
+    /**
+     * The number of classes read from the classpath entries (only known for strategies indexing the class files
+     * themselves).
+     */
+    SCANNED_CLASSES,
+
+    /**
+     * The number of types found by the scans of a strategy (Bounded Context types and REST resources).
+     */
+    RESOURCE_TYPES
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.metrics;
+
+/**
+ * Receives the metrics of discovery runs. Register a listener with
+ * {@link org.contextmapper.discovery.ContextMapDiscoverer#usingMetricsListener(DiscoveryMetricsListener)}.
+ * <p>
+ * Bounded Context discovery strategies may be applied concurrently, so implementations must be thread-safe. All
+ * methods do nothing by default.
+ */
+public interface DiscoveryMetricsListener {
+
+    /**
+     * A listener ignoring all metrics.
+     */
+    DiscoveryMetricsListener NONE = new DiscoveryMetricsListener() {
+    };
+
+    /**
+     * Called when a discovery run starts.
+     */
+    default void discoveryStarted() {
+    }
+
+    /**
+     * Called when a phase has been completed.
+     *
+     * @param source         the strategy (or other component) which executed the phase
+     * @param phase          the completed phase
+     * @param durationNanos  the duration of the phase in nanoseconds
+     * @param allocatedBytes an estimation of the bytes allocated by the executing thread during the phase, or -1 if the
+     *                       allocations have not been measured (or the JVM does not support measuring them)
+     */
+    default void phaseCompleted(String source, DiscoveryPhase phase, long durationNanos, long allocatedBytes) {
+    }
+
+    /**
+     * Called when a quantity has been counted.
+     *
+     * @param source the strategy (or other component) which counted
+     * @param count  the counted quantity
+     * @param value  the value
+     */
+    default void countRecorded(String source, DiscoveryCount count, long value) {
+    }
+
+    /**
+     * Called when a discovery run has been completed.
+     */
+    default void discoveryCompleted() {
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.metrics;
+
+/**
+ * The phases of a discovery run for which metrics are recorded.
+ */
+public enum DiscoveryPhase {
+
+    /**
+     * The complete application of a Bounded Context discovery strategy.
+     */
+    BOUNDED_CONTEXT_DISCOVERY,
+
+    /**
+     * Scanning the classpath for annotated types.
+     */
+    CLASSPATH_SCANNING,
+
+    /**
+     * Creating domain objects, attributes and references by reflection.
+     */
+    REFLECTION,
+
+    /**
+     * Parsing a specification (for example an OpenAPI specification).
+     */
+    SPECIFICATION_PARSING,
+
+    /**
+     * The complete application of a relationship discovery strategy.
+     */
+    RELATIONSHIP_DISCOVERY,
+
+    /**
+     * Looking up Bounded Contexts by name (during relationship discovery).
+     */
+    BOUNDED_CONTEXT_LOOKUP,
+
+    /**
+     * Converting the discovered Context Map into a CML model.
+     */
+    CML_CONVERSION
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * Writes the metrics as JSON report when a discovery run has been completed. The report has the following structure:
+ * <pre>
+ * {
+ *   "phases": [ { "source": "...", "phase": "...", "invocations": 1, "durationNanos": 123, "allocatedBytes": 456 } ],
+ *   "counts": [ { "source": "...", "count": "...", "value": 7 } ]
+ * }
+ * </pre>
+ * A report which cannot be written does not fail the discovery; a warning is logged instead.
+ */
+public class JsonReportDiscoveryMetricsListener extends RecordingDiscoveryMetricsListener {
+
+    private static Logger LOG = LoggerFactory.getLogger(JsonReportDiscoveryMetricsListener.class);
+
+    private final File reportFile;
+
+    public JsonReportDiscoveryMetricsListener(File reportFile) {
+        if (reportFile == null)
+            throw new IllegalArgumentException("The metrics report file must not be null.");
+        this.reportFile = reportFile;
+    }
+
+    @Override
+    public void discoveryCompleted() {
+        try {
+            writeReport();
+        } catch (IOException e) {
+            LOG.warn("Could not write the metrics report '" + reportFile + "': " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the report with the metrics recorded so far (an existing report is overwritten).
+     *
+     * @throws IOException if the report cannot be written
+     */
+    public void writeReport() throws IOException {
+        try (Writer writer = Files.newBufferedWriter(reportFile.toPath(), StandardCharsets.UTF_8)) {
+            writer.write("{\n  \"phases\": [");
+            List<PhaseStatistics> phases = getPhases();
+            for (int i = 0; i < phases.size(); i++) {
+                PhaseStatistics phase = phases.get(i);
+                writer.write(i == 0 ? "\n" : ",\n");
+                writer.write("    { \"source\": " + string(phase.getSource()) + ", \"phase\": " + string(phase.getPhase().name())
+                        + ", \"invocations\": " + phase.getInvocations() + ", \"durationNanos\": " + phase.getDurationNanos()
+                        + ", \"allocatedBytes\": " + phase.getAllocatedBytes() + " }");
+            }
+            writer.write(phases.isEmpty() ? "],\n" : "\n  ],\n");
+            writer.write("  \"counts\": [");
+            List<CountStatistics> counts = getCounts();
+            for (int i = 0; i < counts.size(); i++) {
+                CountStatistics count = counts.get(i);
+                writer.write(i == 0 ? "\n" : ",\n");
+                writer.write("    { \"source\": " + string(count.getSource()) + ", \"count\": " + string(count.getCount().name())
+                        + ", \"value\": " + count.getValue() + " }");
+            }
+            writer.write(counts.isEmpty() ? "]\n" : "\n  ]\n");
+            writer.write("}\n");
+        }
+    }
+
+    private String string(String value) {
+        StringBuilder json = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\')
+                json.append('\\').append(c);
+            else if (c < 0x20)
+                json.append(String.format("\\u%04x", (int) c));
+            else
+                json.append(c);
+        }
+        return json.append('"').toString();
+    }
+
+}
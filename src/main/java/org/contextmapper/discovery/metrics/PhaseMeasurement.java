@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures the duration and the allocations (of the current thread) of a phase.
+ * <p>
+ * Allocations are measured with the HotSpot extension of the {@link ThreadMXBean}; allocations of other threads (for
+ * example of parallel streams used within a phase) are not included, so the values are estimations.
+ */
+public final class PhaseMeasurement {
+
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = findAllocationBean();
+
+    private final DiscoveryMetricsListener listener;
+    private final long startNanos;
+    private final long startAllocatedBytes;
+
+    private PhaseMeasurement(DiscoveryMetricsListener listener) {
+        this.listener = listener;
+        this.startAllocatedBytes = currentAllocatedBytes();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Starts measuring a phase on the current thread.
+     *
+     * @param listener the listener to which the phase shall be reported
+     * @return the started measurement
+     */
+    public static PhaseMeasurement start(DiscoveryMetricsListener listener) {
+        return new PhaseMeasurement(listener);
+    }
+
+    /**
+     * Reports the phase to the listener. Must be called on the thread which started the measurement.
+     *
+     * @param source the strategy (or other component) which executed the phase
+     * @param phase  the completed phase
+     */
+    public void complete(String source, DiscoveryPhase phase) {
+        long durationNanos = System.nanoTime() - startNanos;
+        long allocatedBytes = startAllocatedBytes < 0 ? -1 : currentAllocatedBytes() - startAllocatedBytes;
+        listener.phaseCompleted(source, phase, durationNanos, allocatedBytes);
+    }
+
+    static long currentAllocatedBytes() {
+        if (ALLOCATION_BEAN == null)
+            return -1;
+        return ALLOCATION_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean findAllocationBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+                if (allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled())
+                    return allocationBean;
+            }
+        } catch (LinkageError e) {
+            // the HotSpot management extensions are not available on this JVM
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.metrics;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the metrics of a discovery run in memory: the phases are summed up per source and phase, the counts are
+ * summed up per source and quantity. The records are reset when a new discovery run starts.
+ */
+public class RecordingDiscoveryMetricsListener implements DiscoveryMetricsListener {
+
+    private final Map<List<Object>, PhaseStatistics> phases = new ConcurrentHashMap<>();
+    private final Map<List<Object>, CountStatistics> counts = new ConcurrentHashMap<>();
+
+    @Override
+    public void discoveryStarted() {
+        phases.clear();
+        counts.clear();
+    }
+
+    @Override
+    public void phaseCompleted(String source, DiscoveryPhase phase, long durationNanos, long allocatedBytes) {
+        phases.computeIfAbsent(Arrays.asList(source, phase), k -> new PhaseStatistics(source, phase))
+                .add(durationNanos, allocatedBytes);
+    }
+
+    @Override
+    public void countRecorded(String source, DiscoveryCount count, long value) {
+        counts.computeIfAbsent(Arrays.asList(source, count), k -> new CountStatistics(source, count))
+                .add(value);
+    }
+
+    /**
+     * Gets the recorded phases.
+     *
+     * @return the phase statistics, ordered by phase and source
+     */
+    public List<PhaseStatistics> getPhases() {
+        List<PhaseStatistics> result = new ArrayList<>(phases.values());
+        result.sort(Comparator.comparing(PhaseStatistics::getPhase).thenComparing(PhaseStatistics::getSource));
+        return result;
+    }
+
+    /**
+     * Gets the recorded counts.
+     *
+     * @return the count statistics, ordered by source and quantity
+     */
+    public List<CountStatistics> getCounts() {
+        List<CountStatistics> result = new ArrayList<>(counts.values());
+        result.sort(Comparator.comparing(CountStatistics::getSource).thenComparing(CountStatistics::getCount));
+        return result;
+    }
+
+    /**
+     * The summed up metrics of one phase executed by one source.
+     */
+    public static class PhaseStatistics {
+
+        private final String source;
+        private final DiscoveryPhase phase;
+        private long invocations;
+        private long durationNanos;
+        private long allocatedBytes;
+
+        PhaseStatistics(String source, DiscoveryPhase phase) {
+            this.source = source;
+            this.phase = phase;
+        }
+
+        synchronized void add(long durationNanos, long allocatedBytes) {
+            this.invocations++;
+            this.durationNanos += durationNanos;
+            if (allocatedBytes < 0 || this.allocatedBytes < 0)
+                this.allocatedBytes = -1;
+            else
+                this.allocatedBytes += allocatedBytes;
+        }
+
+        public String getSource() {
+            return source;
+        }
+
+        public DiscoveryPhase getPhase() {
+            return phase;
+        }
+
+        public synchronized long getInvocations() {
+            return invocations;
+        }
+
+        public synchronized long getDurationNanos() {
+            return durationNanos;
+        }
+
+        /**
+         * @return the estimated allocated bytes, or -1 if the allocations have not been measured
+         */
+        public synchronized long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+
+    /**
+     * The summed up value of one quantity counted by one source.
+     */
+    public static class CountStatistics {
+
+        private final String source;
+        private final DiscoveryCount count;
+        private long value;
+
+        CountStatistics(String source, DiscoveryCount count) {
+            this.source = source;
+            this.count = count;
+        }
+
+        synchronized void add(long value) {
+            this.value += value;
+        }
+
+        public String getSource() {
+            return source;
+        }
+
+        public DiscoveryCount getCount() {
+            return count;
+        }
+
+        public synchronized long getValue() {
+            return value;
+        }
+    }
+
+}
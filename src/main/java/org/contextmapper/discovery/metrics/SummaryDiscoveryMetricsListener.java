@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.metrics;
+
+import java.io.PrintStream;
+
+/**
+ * Prints a summary of the metrics when a discovery run has been completed.
+ */
+public class SummaryDiscoveryMetricsListener extends RecordingDiscoveryMetricsListener {
+
+    private final PrintStream out;
+
+    public SummaryDiscoveryMetricsListener() {
+        this(System.out);
+    }
+
+    public SummaryDiscoveryMetricsListener(PrintStream out) {
+        if (out == null)
+            throw new IllegalArgumentException("The output stream for the metrics summary must not be null.");
+        this.out = out;
+    }
+
+    @Override
+    public void discoveryCompleted() {
+        printSummary();
+    }
+
+    /**
+     * Prints the summary of the metrics recorded so far.
+     */
+    public void printSummary() {
+        out.println("Discovery metrics");
+        out.println("  Phases:");
+        for (PhaseStatistics phase : getPhases()) {
+            out.println(String.format("    %-26s %-50s %6dx %12.3f ms %12s", phase.getPhase(), phase.getSource(),
+                    phase.getInvocations(), phase.getDurationNanos() / 1_000_000.0, formatBytes(phase.getAllocatedBytes())));
+        }
+        out.println("  Counts:");
+        for (CountStatistics count : getCounts()) {
+            out.println(String.format("    %-26s %-50s %10d", count.getCount(), count.getSource(), count.getValue()));
+        }
+    }
+
+    private String formatBytes(long bytes) {
+        if (bytes < 0)
+            return "n/a";
+        if (bytes < 1024 * 1024)
+            return String.format("%.1f KB", bytes / 1024.0);
+        return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+
+}
@@ -15,9 +15,7 @@
  */
 package org.contextmapper.discovery.model;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
-
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -31,7 +29,9 @@ public class Aggregate {
     private String name;
     private Set<DomainObject> domainObjects;
     private Set<Service> services;
+    private DomainObject rootEntity;
     private String discoveryComment;
+    private int hashCode;
 
     public Aggregate(String name) {
         setName(name);
@@ -43,11 +43,15 @@ public class Aggregate {
      * Sets the name of this Aggregate.
      *
      * @param name the name of the Aggregate.
+     * @deprecated the name identifies the Aggregate (see {@link #equals(Object)}); pass it to the
+     * constructor instead. Renaming it after it has been added to a set or map makes it unreachable there.
      */
+    @Deprecated
     public void setName(String name) {
         if (name == null || "".equals(name))
             throw new IllegalArgumentException("The name of an Aggregate must not be null or empty.");
         this.name = name;
+        this.hashCode = name.hashCode();
     }
 
     /**
@@ -80,6 +84,29 @@ public class Aggregate {
         }
     }
 
+    /**
+     * Sets the root entity of the Aggregate. The entity is added to the domain objects of the Aggregate, if it is not
+     * part of it yet.
+     *
+     * @param rootEntity the root entity of the Aggregate
+     */
+    public void setRootEntity(DomainObject rootEntity) {
+        if (rootEntity == null || !DomainObjectType.ENTITY.equals(rootEntity.getType()))
+            throw new IllegalArgumentException("The root of an Aggregate must be an entity.");
+        if (!this.domainObjects.contains(rootEntity))
+            addDomainObject(rootEntity);
+        this.rootEntity = rootEntity;
+    }
+
+    /**
+     * Gets the root entity of the Aggregate.
+     *
+     * @return the root entity of the Aggregate or null, if no root entity has been set
+     */
+    public DomainObject getRootEntity() {
+        return rootEntity;
+    }
+
     /**
      * Adds a service to the Aggregate.
      *
@@ -103,19 +130,19 @@ public class Aggregate {
     /**
      * Gets the set of domain objects within the Aggregate.
      *
-     * @return the set of domain objects which are part of the Aggregate
+     * @return an unmodifiable view of the set of domain objects which are part of the Aggregate
      */
     public Set<DomainObject> getDomainObjects() {
-        return new HashSet<>(domainObjects);
+        return Collections.unmodifiableSet(domainObjects);
     }
 
     /**
      * Gets the set of services within the Aggregate.
      *
-     * @return the set of services which are part of the Aggregate
+     * @return an unmodifiable view of the set of services which are part of the Aggregate
      */
     public Set<Service> getServices() {
-        return new HashSet<>(services);
+        return Collections.unmodifiableSet(services);
     }
 
     /**
@@ -138,20 +165,18 @@ public class Aggregate {
 
     @Override
     public boolean equals(Object object) {
+        if (this == object)
+            return true;
         if (!(object instanceof Aggregate))
             return false;
 
         Aggregate bc = (Aggregate) object;
 
-        return new EqualsBuilder()
-                .append(name, bc.name)
-                .isEquals();
+        return hashCode == bc.hashCode && name.equals(bc.name);
     }
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(name)
-                .hashCode();
+        return hashCode;
     }
 }
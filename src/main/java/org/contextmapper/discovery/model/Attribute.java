@@ -15,8 +15,7 @@
  */
 package org.contextmapper.discovery.model;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
+import java.util.Objects;
 
 /**
  * Represents an entity attribute.
@@ -26,12 +25,14 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 public class Attribute {
 
     private DomainObject parent;
-    private String name;
-    private Type type;
+    private final String name;
+    private final Type type;
+    private final int hashCode;
 
     public Attribute(Type type, String name) {
         this.type = type;
         this.name = name;
+        this.hashCode = 31 * Objects.hashCode(name) + Objects.hashCode(type);
     }
 
     /**
@@ -72,24 +73,23 @@ public class Attribute {
 
     @Override
     public boolean equals(Object object) {
+        if (this == object)
+            return true;
         if (!(object instanceof Attribute))
             return false;
 
         Attribute attribute = (Attribute) object;
 
-        return new EqualsBuilder()
-                .append(parent, attribute.parent)
-                .append(name, attribute.name)
-                .append(type, attribute.type)
-                .isEquals();
+        return Objects.equals(name, attribute.name)
+                && Objects.equals(type, attribute.type)
+                && Objects.equals(parent, attribute.parent);
     }
 
+    /**
+     * The hash code does not include the parent, which is set when the attribute is added to a domain object.
+     */
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(parent)
-                .append(name)
-                .append(type)
-                .hashCode();
+        return hashCode;
     }
 }
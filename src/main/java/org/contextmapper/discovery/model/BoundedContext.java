@@ -15,11 +15,10 @@
  */
 package org.contextmapper.discovery.model;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
-
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Represents a discovered Bounded Context.
@@ -31,6 +30,8 @@ public class BoundedContext {
     private String name;
     private String technology;
     private Set<Aggregate> aggregates;
+    private volatile Supplier<Set<Aggregate>> aggregateSupplier;
+    private int hashCode;
 
     public BoundedContext(String name) {
         setName(name);
@@ -41,11 +42,15 @@ public class BoundedContext {
      * Sets the name of this Bounded Context.
      *
      * @param name the name of the Bounded Context.
+     * @deprecated the name identifies the Bounded Context (see {@link #equals(Object)}); pass it to the
+     * constructor instead. Renaming it after it has been added to a set or map makes it unreachable there.
      */
+    @Deprecated
     public void setName(String name) {
         if (name == null || "".equals(name))
             throw new IllegalArgumentException("The name of a Bounded Context must not be null or empty.");
         this.name = name;
+        this.hashCode = name.hashCode();
     }
 
     /**
@@ -94,30 +99,61 @@ public class BoundedContext {
     }
 
     /**
-     * Gets the Aggregates of the Bounded Context.
+     * Adds Aggregates which are resolved lazily: the supplier is called (once) when the Aggregates of the Bounded
+     * Context are accessed for the first time.
      *
-     * @return the set of Aggregates of the Bounded Context
+     * @param aggregateSupplier the supplier of the Aggregates to be added
+     */
+    public void addAggregatesLazily(Supplier<Set<Aggregate>> aggregateSupplier) {
+        resolveAggregates();
+        this.aggregateSupplier = aggregateSupplier;
+    }
+
+    /**
+     * Checks whether the Bounded Context has lazily added Aggregates which have not been resolved yet.
+     *
+     * @return true, if there are Aggregates which will be resolved on the next access
+     */
+    public boolean hasUnresolvedAggregates() {
+        return aggregateSupplier != null;
+    }
+
+    /**
+     * Gets the Aggregates of the Bounded Context. Lazily added Aggregates are resolved first.
+     *
+     * @return an unmodifiable view of the set of Aggregates of the Bounded Context
      */
     public Set<Aggregate> getAggregates() {
-        return new HashSet<>(aggregates);
+        resolveAggregates();
+        return Collections.unmodifiableSet(aggregates);
+    }
+
+    private void resolveAggregates() {
+        if (aggregateSupplier == null)
+            return;
+        synchronized (this) {
+            Supplier<Set<Aggregate>> supplier = aggregateSupplier;
+            if (supplier == null)
+                return;
+            aggregates.addAll(supplier.get());
+            aggregateSupplier = null;
+        }
     }
 
     @Override
     public boolean equals(Object object) {
+        if (this == object)
+            return true;
         if (!(object instanceof BoundedContext))
             return false;
 
         BoundedContext bc = (BoundedContext) object;
 
-        return new EqualsBuilder()
-                .append(name, bc.name)
-                .isEquals();
+        return hashCode == bc.hashCode && name.equals(bc.name);
     }
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(name)
-                .hashCode();
+        return hashCode;
     }
 }
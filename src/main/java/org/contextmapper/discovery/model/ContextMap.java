@@ -15,6 +15,7 @@
  */
 package org.contextmapper.discovery.model;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -73,18 +74,18 @@ public class ContextMap {
     /**
      * Gets the Bounded Contexts of the Context Map
      *
-     * @return a set of Bounded Contexts
+     * @return an unmodifiable view of the set of Bounded Contexts
      */
     public Set<BoundedContext> getBoundedContexts() {
-        return new HashSet<>(boundedContexts);
+        return Collections.unmodifiableSet(boundedContexts);
     }
 
     /**
      * Gets the relationships between Bounded Contexts of this Context Map
      *
-     * @return a set of relationship between Bounded Contexts
+     * @return an unmodifiable view of the set of relationship between Bounded Contexts
      */
     public Set<Relationship> getRelationships() {
-        return new HashSet<>(relationships);
+        return Collections.unmodifiableSet(relationships);
     }
 }
@@ -15,9 +15,7 @@
  */
 package org.contextmapper.discovery.model;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
-
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -28,13 +26,14 @@ import java.util.Set;
  */
 public class DomainObject {
 
-    private String name;
+    private final String name;
     private String originalType;
     private Set<Attribute> attributes;
     private Set<Method> methods;
     private String discoveryComment;
     private DomainObjectType type;
     private Aggregate parent;
+    private int hashCode;
 
     public DomainObject(DomainObjectType type, String name) {
         if (name == null || "".equals(name))
@@ -44,6 +43,7 @@ public class DomainObject {
 
         this.type = type;
         this.name = name;
+        this.hashCode = computeHashCode();
         this.attributes = new HashSet<>();
         this.methods = new HashSet<>();
     }
@@ -84,9 +84,13 @@ public class DomainObject {
      * Sets the type of the domain object.
      *
      * @param type the type of the domain object
+     * @deprecated the type identifies the domain object (see {@link #equals(Object)}); pass it to the constructor
+     * instead. Changing it after the domain object has been added to a set or map makes it unreachable there.
      */
+    @Deprecated
     public void setType(DomainObjectType type) {
         this.type = type;
+        this.hashCode = computeHashCode();
     }
 
     /**
@@ -102,10 +106,10 @@ public class DomainObject {
     /**
      * Gets the set of attributes of the domain object.
      *
-     * @return the set of attributes of the domain object
+     * @return an unmodifiable view of the set of attributes of the domain object
      */
     public Set<Attribute> getAttributes() {
-        return new HashSet<>(attributes);
+        return Collections.unmodifiableSet(attributes);
     }
 
     /**
@@ -121,10 +125,10 @@ public class DomainObject {
     /**
      * Gets the set of methods of the domain object.
      *
-     * @return the set of methods of the domain object
+     * @return an unmodifiable view of the set of methods of the domain object
      */
     public Set<Method> getMethods() {
-        return new HashSet<>(methods);
+        return Collections.unmodifiableSet(methods);
     }
 
     /**
@@ -165,22 +169,22 @@ public class DomainObject {
 
     @Override
     public boolean equals(Object object) {
+        if (this == object)
+            return true;
         if (!(object instanceof DomainObject))
             return false;
 
         DomainObject domainObject = (DomainObject) object;
 
-        return new EqualsBuilder()
-                .append(type, domainObject.type)
-                .append(name, domainObject.name)
-                .isEquals();
+        return hashCode == domainObject.hashCode && type == domainObject.type && name.equals(domainObject.name);
     }
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(type)
-                .append(name)
-                .hashCode();
+        return hashCode;
+    }
+
+    private int computeHashCode() {
+        return 31 * type.name().hashCode() + name.hashCode();
     }
 }
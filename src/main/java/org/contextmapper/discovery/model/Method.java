@@ -15,10 +15,9 @@
  */
 package org.contextmapper.discovery.model;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
-
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -29,13 +28,15 @@ import java.util.Set;
 public class Method {
 
     private DomainObject parent;
-    private String name;
+    private final String name;
     private Type returnType;
     private Set<Parameter> parameters;
+    private final int hashCode;
 
     public Method(String name) {
         this.name = name;
         this.parameters = new HashSet<>();
+        this.hashCode = Objects.hashCode(name);
     }
 
     /**
@@ -86,10 +87,10 @@ public class Method {
     /**
      * Gets the parameters of the method.
      *
-     * @return the set of parameters of the method
+     * @return an unmodifiable view of the set of parameters of the method
      */
     public Set<Parameter> getParameters() {
-        return new HashSet<>(parameters);
+        return Collections.unmodifiableSet(parameters);
     }
 
     /**
@@ -112,22 +113,21 @@ public class Method {
 
     @Override
     public boolean equals(Object object) {
+        if (this == object)
+            return true;
         if (!(object instanceof Method))
             return false;
 
         Method method = (Method) object;
 
-        return new EqualsBuilder()
-                .append(parent, method.parent)
-                .append(name, method.name)
-                .isEquals();
+        return Objects.equals(name, method.name) && Objects.equals(parent, method.parent);
     }
 
+    /**
+     * The hash code does not include the parent, which is set when the method is added to a domain object.
+     */
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(parent)
-                .append(name)
-                .hashCode();
+        return hashCode;
     }
 }
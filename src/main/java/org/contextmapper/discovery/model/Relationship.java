@@ -15,10 +15,9 @@
  */
 package org.contextmapper.discovery.model;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
-
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -28,15 +27,18 @@ import java.util.Set;
  */
 public class Relationship {
 
-    private BoundedContext upstream;
-    private BoundedContext downstream;
+    private final BoundedContext upstream;
+    private final BoundedContext downstream;
     private Set<Aggregate> exposedAggregates;
+    private boolean exposingAllAggregates;
     private String exposedAggregatesComment;
+    private final int hashCode;
 
     public Relationship(BoundedContext upstream, BoundedContext downstream) {
         this.upstream = upstream;
         this.downstream = downstream;
         this.exposedAggregates = new HashSet<>();
+        this.hashCode = 31 * Objects.hashCode(upstream) + Objects.hashCode(downstream);
     }
 
     /**
@@ -60,10 +62,30 @@ public class Relationship {
     /**
      * Gets the exposed Aggregates up the upstream within this relationship.
      *
-     * @return the set of exposed Aggregates by the upstream context
+     * @return an unmodifiable view of the set of exposed Aggregates by the upstream context
      */
     public Set<Aggregate> getExposedAggregates() {
-        return new HashSet<>(exposedAggregates);
+        if (exposingAllAggregates)
+            return upstream.getAggregates();
+        return Collections.unmodifiableSet(exposedAggregates);
+    }
+
+    /**
+     * Exposes all Aggregates of the upstream Bounded Context. In contrast to adding them with
+     * {@link #addExposedAggregates(Set)}, lazily added Aggregates of the upstream are not resolved before the exposed
+     * Aggregates are accessed.
+     */
+    public void exposeAllAggregates() {
+        this.exposingAllAggregates = true;
+    }
+
+    /**
+     * Checks whether all Aggregates of the upstream Bounded Context are exposed (see {@link #exposeAllAggregates()}).
+     *
+     * @return true, if all Aggregates of the upstream are exposed, false otherwise
+     */
+    public boolean isExposingAllAggregates() {
+        return exposingAllAggregates;
     }
 
     /**
@@ -109,22 +131,18 @@ public class Relationship {
 
     @Override
     public boolean equals(Object object) {
+        if (this == object)
+            return true;
         if (!(object instanceof Relationship))
             return false;
 
         Relationship relationship = (Relationship) object;
 
-        return new EqualsBuilder()
-                .append(upstream, relationship.upstream)
-                .append(downstream, relationship.downstream)
-                .isEquals();
+        return Objects.equals(upstream, relationship.upstream) && Objects.equals(downstream, relationship.downstream);
     }
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(upstream)
-                .append(downstream)
-                .hashCode();
+        return hashCode;
     }
 }
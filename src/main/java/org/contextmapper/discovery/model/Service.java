@@ -15,9 +15,7 @@
  */
 package org.contextmapper.discovery.model;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
-
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -31,6 +29,7 @@ public class Service {
     private String name;
     private String discoveryComment;
     private Set<Method> operations;
+    private int hashCode;
 
     public Service(String name) {
         setName(name);
@@ -41,11 +40,15 @@ public class Service {
      * Sets the name of this Service.
      *
      * @param name the name of the Service.
+     * @deprecated the name identifies the Service (see {@link #equals(Object)}); pass it to the
+     * constructor instead. Renaming it after it has been added to a set or map makes it unreachable there.
      */
+    @Deprecated
     public void setName(String name) {
         if (name == null || "".equals(name))
             throw new IllegalArgumentException("The name of a Service must not be null or empty.");
         this.name = name;
+        this.hashCode = name.hashCode();
     }
 
     /**
@@ -69,10 +72,10 @@ public class Service {
     /**
      * Returns all operations of the service.
      *
-     * @return all operations of the service.
+     * @return an unmodifiable view of all operations of the service.
      */
     public Set<Method> getOperations() {
-        return new HashSet<>(operations);
+        return Collections.unmodifiableSet(operations);
     }
 
     /**
@@ -95,20 +98,18 @@ public class Service {
 
     @Override
     public boolean equals(Object object) {
+        if (this == object)
+            return true;
         if (!(object instanceof Service))
             return false;
 
         Service bc = (Service) object;
 
-        return new EqualsBuilder()
-                .append(name, bc.name)
-                .isEquals();
+        return hashCode == bc.hashCode && name.equals(bc.name);
     }
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(name)
-                .hashCode();
+        return hashCode;
     }
 }
@@ -15,8 +15,7 @@
  */
 package org.contextmapper.discovery.model;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
+import java.util.Objects;
 
 /**
  * Represents a discovered type. Can occur in: operation return and parameter types
@@ -25,10 +24,11 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
  */
 public class Type {
 
-    private TypeKind kind;
-    private String primitiveType;
-    private DomainObject domainObjectType;
+    private final TypeKind kind;
+    private final String primitiveType;
+    private final DomainObject domainObjectType;
     private String collectionType;
+    private int hashCode;
 
     /**
      * Creates a primitive type.
@@ -36,12 +36,24 @@ public class Type {
      * @param primitiveType the name of the primitive (or unknown; no domain object available for reference) type.
      */
     public Type(String primitiveType) {
+        this(primitiveType, "");
+    }
+
+    /**
+     * Creates a primitive collection type.
+     *
+     * @param primitiveType  the name of the primitive (or unknown; no domain object available for reference) type.
+     * @param collectionType the collection type (null or empty for types which are no collections).
+     */
+    public Type(String primitiveType, String collectionType) {
         if (primitiveType == null || "".equals(primitiveType))
             throw new RuntimeException("Primitive type cannot be null or empty String!");
 
         this.kind = TypeKind.PRIMITIVE;
         this.primitiveType = primitiveType;
-        this.collectionType = "";
+        this.domainObjectType = null;
+        this.collectionType = normalizeCollectionType(collectionType);
+        this.hashCode = computeHashCode();
     }
 
     /**
@@ -50,12 +62,24 @@ public class Type {
      * @param domainObjectType the domain object that represents the type.
      */
     public Type(DomainObject domainObjectType) {
+        this(domainObjectType, "");
+    }
+
+    /**
+     * Creates a domain object collection type.
+     *
+     * @param domainObjectType the domain object that represents the type.
+     * @param collectionType   the collection type (null or empty for types which are no collections).
+     */
+    public Type(DomainObject domainObjectType, String collectionType) {
         if (domainObjectType == null)
             throw new RuntimeException("The domain object of a domain object type cannot be null!");
 
         this.kind = TypeKind.DOMAIN_OBJECT;
+        this.primitiveType = null;
         this.domainObjectType = domainObjectType;
-        this.collectionType = "";
+        this.collectionType = normalizeCollectionType(collectionType);
+        this.hashCode = computeHashCode();
     }
 
     /**
@@ -132,9 +156,14 @@ public class Type {
      * Sets the collection type (optional).
      *
      * @param collectionType the collection type to be set.
+     * @deprecated the collection type is part of the identity of the type (see {@link #equals(Object)}); use
+     * {@link #Type(String, String)} or {@link #Type(DomainObject, String)} instead. Changing it after the type has been
+     * added to a set or map (for example as the type of an attribute) makes it unreachable there.
      */
+    @Deprecated
     public void setCollectionType(String collectionType) {
-        this.collectionType = collectionType;
+        this.collectionType = normalizeCollectionType(collectionType);
+        this.hashCode = computeHashCode();
     }
 
     /**
@@ -150,36 +179,39 @@ public class Type {
 
     @Override
     public boolean equals(Object object) {
+        if (this == object)
+            return true;
         if (!(object instanceof Type))
             return false;
 
         Type type = (Type) object;
 
+        if (hashCode != type.hashCode || !Objects.equals(collectionType, type.collectionType))
+            return false;
         if (kind == TypeKind.DOMAIN_OBJECT)
-            return new EqualsBuilder()
-                    .append(domainObjectType, type.domainObjectType)
-                    .append(collectionType, type.collectionType)
-                    .isEquals();
+            return Objects.equals(domainObjectType, type.domainObjectType);
         else
-            return new EqualsBuilder()
-                    .append(primitiveType, type.primitiveType)
-                    .append(collectionType, type.collectionType)
-                    .isEquals();
+            return Objects.equals(primitiveType, type.primitiveType);
     }
 
     @Override
     public int hashCode() {
-        if (kind == TypeKind.DOMAIN_OBJECT)
-            return new HashCodeBuilder()
-                    .append(domainObjectType)
-                    .append(kind)
-                    .append(collectionType)
-                    .hashCode();
-        else
-            return new HashCodeBuilder()
-                    .append(primitiveType)
-                    .append(kind)
-                    .append(collectionType)
-                    .hashCode();
+        return hashCode;
+    }
+
+    /**
+     * Types which are no collections have an empty collection type, whether null or an empty String has been passed.
+     */
+    private static String normalizeCollectionType(String collectionType) {
+        return collectionType != null ? collectionType : "";
+    }
+
+    /**
+     * Domain object types are hashed by the name of the domain object (the type of a domain object is part of its
+     * identity as well, but hashing the name is sufficient).
+     */
+    private int computeHashCode() {
+        String typeName = kind == TypeKind.DOMAIN_OBJECT ? domainObjectType.getName() : primitiveType;
+        return 31 * (31 * typeName.hashCode() + kind.name().hashCode()) + Objects.hashCode(collectionType);
     }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.snapshot;
+
+import org.contextmapper.discovery.model.BoundedContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * On-disk cache for discovered Bounded Contexts. Entries are stored as snapshots (see {@link SnapshotWriter}) and are
+ * addressed by a key derived from the content of the discovery inputs, so that an entry is never stale: if an input
+ * changes, its key changes as well.
+ */
+public class DiscoveryCache {
+
+    private static Logger LOG = LoggerFactory.getLogger(DiscoveryCache.class);
+
+    private static final String SNAPSHOT_FILE_EXTENSION = ".cmds";
+
+    private File cacheDirectory;
+
+    public DiscoveryCache(File cacheDirectory) {
+        if (cacheDirectory == null)
+            throw new IllegalArgumentException("The cache directory must not be null.");
+        if (cacheDirectory.exists() && !cacheDirectory.isDirectory())
+            throw new IllegalArgumentException("The cache location '" + cacheDirectory + "' is not a directory.");
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /**
+     * Creates a cache key from the content of all inputs a discovery result depends on.
+     *
+     * @param namespace a namespace separating the entries of different strategies
+     * @param contents  the contents of the inputs (the order matters)
+     * @return the cache key
+     */
+    public String createKey(String namespace, List<byte[]> contents) {
+        MessageDigest digest = createDigest();
+        digest.update(namespace.getBytes(StandardCharsets.UTF_8));
+        digest.update(intToBytes(SnapshotWriter.VERSION));
+        for (byte[] content : contents) {
+            digest.update(intToBytes(content.length));
+            digest.update(content);
+        }
+        StringBuilder key = new StringBuilder();
+        for (byte b : digest.digest()) {
+            key.append(String.format("%02x", b));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Loads the Bounded Contexts cached under the given key.
+     *
+     * @param key the cache key
+     * @return the cached Bounded Contexts or null, if there is no (readable) entry for the key
+     */
+    public Set<BoundedContext> load(String key) {
+        File snapshot = getSnapshotFile(key);
+        if (!snapshot.isFile())
+            return null;
+        try {
+            return new SnapshotReader().readBoundedContexts(snapshot);
+        } catch (IOException | IllegalArgumentException e) {
+            LOG.warn("Ignoring unreadable discovery cache entry '" + snapshot + "': " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Stores the Bounded Contexts under the given key. The entry is written to a temporary file first and moved in place
+     * afterwards, so that concurrent readers never see incomplete entries.
+     *
+     * @param key             the cache key
+     * @param boundedContexts the Bounded Contexts to be cached
+     */
+    public void store(String key, Set<BoundedContext> boundedContexts) {
+        try {
+            Files.createDirectories(cacheDirectory.toPath());
+            Path tempFile = Files.createTempFile(cacheDirectory.toPath(), key, ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(tempFile)) {
+                    new SnapshotWriter().writeBoundedContexts(boundedContexts, out);
+                }
+                Files.move(tempFile, getSnapshotFile(key).toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            LOG.warn("Could not write discovery cache entry for key '" + key + "': " + e.getMessage());
+        }
+    }
+
+    private File getSnapshotFile(String key) {
+        return new File(cacheDirectory, key + SNAPSHOT_FILE_EXTENSION);
+    }
+
+    private MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM.", e);
+        }
+    }
+
+    private byte[] intToBytes(int value) {
+        return new byte[]{(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+    }
+
+}
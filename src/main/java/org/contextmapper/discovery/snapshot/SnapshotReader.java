@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.snapshot;
+
+import org.contextmapper.discovery.model.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.contextmapper.discovery.snapshot.SnapshotWriter.*;
+
+/**
+ * Reads snapshots written by the {@link SnapshotWriter}.
+ */
+public class SnapshotReader {
+
+    /**
+     * Reads the Bounded Contexts of a snapshot file. The file is memory-mapped instead of being copied onto the heap.
+     *
+     * @param snapshotFile the snapshot file
+     * @return the Bounded Contexts stored in the snapshot
+     * @throws IOException if the file cannot be read
+     */
+    public Set<BoundedContext> readBoundedContexts(File snapshotFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshotFile.toPath(), StandardOpenOption.READ)) {
+            return readBoundedContexts(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Reads the Bounded Contexts of a snapshot from the given buffer.
+     *
+     * @param buffer the buffer containing the snapshot
+     * @return the Bounded Contexts stored in the snapshot
+     */
+    public Set<BoundedContext> readBoundedContexts(ByteBuffer buffer) {
+        try {
+            Decoder decoder = new Decoder(buffer);
+            decoder.readHeader();
+            Set<BoundedContext> boundedContexts = decoder.readBoundedContexts();
+            decoder.readRelationships(); // not needed, but ensures that the snapshot is complete
+            return boundedContexts;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("The snapshot is incomplete or corrupt.", e);
+        }
+    }
+
+    /**
+     * Reads the Context Map of a snapshot file. The file is memory-mapped instead of being copied onto the heap.
+     *
+     * @param snapshotFile the snapshot file
+     * @return the Context Map (Bounded Contexts and relationships) stored in the snapshot
+     * @throws IOException if the file cannot be read
+     */
+    public ContextMap readContextMap(File snapshotFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshotFile.toPath(), StandardOpenOption.READ)) {
+            return readContextMap(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Reads the Context Map of a snapshot from the given buffer. Snapshots of Bounded Contexts only result in a Context
+     * Map without relationships.
+     *
+     * @param buffer the buffer containing the snapshot
+     * @return the Context Map (Bounded Contexts and relationships) stored in the snapshot
+     */
+    public ContextMap readContextMap(ByteBuffer buffer) {
+        try {
+            Decoder decoder = new Decoder(buffer);
+            decoder.readHeader();
+            ContextMap contextMap = new ContextMap();
+            contextMap.addAllBoundedContexts(decoder.readBoundedContexts());
+            contextMap.addAllRelationships(decoder.readRelationships());
+            return contextMap;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("The snapshot is incomplete or corrupt.", e);
+        }
+    }
+
+    /**
+     * Holds the state (string table and object indexes) of reading one snapshot.
+     */
+    private static class Decoder {
+
+        private final ByteBuffer buffer;
+        private final List<String> stringTable = new ArrayList<>();
+        private final List<DomainObject> domainObjects = new ArrayList<>();
+        private final List<Aggregate> aggregates = new ArrayList<>();
+        private final List<BoundedContext> boundedContexts = new ArrayList<>();
+
+        Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        void readHeader() {
+            if (buffer.getInt() != MAGIC)
+                throw new IllegalArgumentException("The given input is not a Context Mapper discovery snapshot.");
+            int version = buffer.getInt();
+            if (version != VERSION)
+                throw new IllegalArgumentException("The snapshot version " + version + " is not supported (expected version " + VERSION + ").");
+        }
+
+        Set<BoundedContext> readBoundedContexts() {
+            int boundedContextCount = buffer.getInt();
+            Set<BoundedContext> boundedContexts = new HashSet<>();
+            for (int i = 0; i < boundedContextCount; i++) {
+                BoundedContext boundedContext = new BoundedContext(readString());
+                boundedContext.setTechnology(readString());
+                this.boundedContexts.add(boundedContext);
+                int aggregateCount = buffer.getInt();
+                for (int j = 0; j < aggregateCount; j++) {
+                    boundedContext.addAggregate(readAggregateStructure());
+                }
+                boundedContexts.add(boundedContext);
+            }
+            for (DomainObject domainObject : domainObjects) {
+                readDomainObjectDetails(domainObject);
+            }
+            for (Aggregate aggregate : aggregates) {
+                readServices(aggregate);
+            }
+            return boundedContexts;
+        }
+
+        Set<Relationship> readRelationships() {
+            int relationshipCount = buffer.getInt();
+            Set<Relationship> relationships = new HashSet<>();
+            for (int i = 0; i < relationshipCount; i++) {
+                Relationship relationship = new Relationship(boundedContexts.get(buffer.getInt()), boundedContexts.get(buffer.getInt()));
+                if (buffer.get() == EXPOSING_ALL_AGGREGATES) {
+                    relationship.exposeAllAggregates();
+                } else {
+                    int exposedAggregateCount = buffer.getInt();
+                    for (int j = 0; j < exposedAggregateCount; j++) {
+                        relationship.addExposedAggregate(aggregates.get(buffer.getInt()));
+                    }
+                }
+                relationship.setExposedAggregatesComment(readString());
+                relationships.add(relationship);
+            }
+            return relationships;
+        }
+
+        private Aggregate readAggregateStructure() {
+            Aggregate aggregate = new Aggregate(readString());
+            aggregate.setDiscoveryComment(readString());
+            aggregates.add(aggregate);
+            int domainObjectCount = buffer.getInt();
+            for (int i = 0; i < domainObjectCount; i++) {
+                int index = buffer.getInt();
+                if (index != NEW_DOMAIN_OBJECT) {
+                    aggregate.addDomainObject(domainObjects.get(index));
+                    continue;
+                }
+                DomainObjectType type = DomainObjectType.values()[buffer.get()];
+                DomainObject domainObject = new DomainObject(type, readString(), readString());
+                domainObject.setDiscoveryComment(readString());
+                domainObjects.add(domainObject);
+                aggregate.addDomainObject(domainObject);
+            }
+            int rootEntity = buffer.getInt();
+            if (rootEntity != NO_ROOT_ENTITY)
+                aggregate.setRootEntity(domainObjects.get(rootEntity));
+            return aggregate;
+        }
+
+        private void readDomainObjectDetails(DomainObject domainObject) {
+            int parent = buffer.getInt();
+            domainObject.setParent(parent != NO_PARENT ? aggregates.get(parent) : null);
+            int attributeCount = buffer.getInt();
+            for (int i = 0; i < attributeCount; i++) {
+                String name = readString();
+                domainObject.addAttribute(new Attribute(readType(), name));
+            }
+            int methodCount = buffer.getInt();
+            for (int i = 0; i < methodCount; i++) {
+                domainObject.addMethod(readMethod());
+            }
+        }
+
+        private void readServices(Aggregate aggregate) {
+            int serviceCount = buffer.getInt();
+            for (int i = 0; i < serviceCount; i++) {
+                Service service = new Service(readString());
+                service.setDiscoveryComment(readString());
+                int operationCount = buffer.getInt();
+                for (int j = 0; j < operationCount; j++) {
+                    service.addOperation(readMethod());
+                }
+                aggregate.addService(service);
+            }
+        }
+
+        private Method readMethod() {
+            Method method = new Method(readString());
+            method.setReturnType(readType());
+            int parameterCount = buffer.getInt();
+            for (int i = 0; i < parameterCount; i++) {
+                String name = readString();
+                method.addParameter(new Parameter(name, readType()));
+            }
+            return method;
+        }
+
+        private Type readType() {
+            byte kind = buffer.get();
+            if (kind == NO_TYPE)
+                return null;
+            if (kind == DOMAIN_OBJECT_TYPE) {
+                DomainObject domainObject = domainObjects.get(buffer.getInt());
+                return new Type(domainObject, readString());
+            } else if (kind == PRIMITIVE_TYPE) {
+                String primitiveType = readString();
+                return new Type(primitiveType, readString());
+            }
+            throw new IllegalArgumentException("The snapshot contains an unknown type kind (" + kind + ").");
+        }
+
+        private String readString() {
+            int index = buffer.getInt();
+            if (index == NULL_STRING)
+                return null;
+            if (index != NEW_STRING)
+                return stringTable.get(index);
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            stringTable.add(value);
+            return value;
+        }
+    }
+
+}
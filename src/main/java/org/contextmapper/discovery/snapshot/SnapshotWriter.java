@@ -0,0 +1,264 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.snapshot;
+
+import org.contextmapper.discovery.model.*;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Writes discovered Bounded Contexts or complete Context Maps into a compact binary snapshot, which can be read again
+ * with the {@link SnapshotReader}.
+ * <p>
+ * Strings are written only once and referenced by index afterwards. Domain objects, Bounded Contexts and Aggregates are
+ * referenced by index as well, so that shared references (for example types referring to the same domain object,
+ * domain objects belonging to multiple Aggregates or relationships exposing Aggregates) are restored as such.
+ */
+public class SnapshotWriter {
+
+    static final int MAGIC = 0x434D4453;
+    static final int VERSION = 4;
+
+    static final int NO_ROOT_ENTITY = -1;
+    static final int NO_PARENT = -1;
+    static final int NEW_DOMAIN_OBJECT = -1;
+    static final int NULL_STRING = -1;
+    static final int NEW_STRING = -2;
+
+    static final byte NO_TYPE = 0;
+    static final byte PRIMITIVE_TYPE = 1;
+    static final byte DOMAIN_OBJECT_TYPE = 2;
+
+    static final byte EXPOSING_LISTED_AGGREGATES = 0;
+    static final byte EXPOSING_ALL_AGGREGATES = 1;
+
+    /**
+     * Writes the given Bounded Contexts (including their Aggregates, domain objects and services) to the output stream.
+     * The stream is flushed but not closed.
+     *
+     * @param boundedContexts the Bounded Contexts to be written
+     * @param outputStream    the stream to which the snapshot shall be written
+     * @throws IOException if the snapshot cannot be written to the stream
+     */
+    public void writeBoundedContexts(Set<BoundedContext> boundedContexts, OutputStream outputStream) throws IOException {
+        Encoder encoder = new Encoder(outputStream);
+        encoder.writeHeader();
+        encoder.writeBoundedContexts(boundedContexts);
+        encoder.writeRelationships(Collections.emptySet());
+        encoder.flush();
+    }
+
+    /**
+     * Writes the given Context Map (its Bounded Contexts and the relationships between them) to the output stream. The
+     * stream is flushed but not closed.
+     *
+     * @param contextMap   the Context Map to be written
+     * @param outputStream the stream to which the snapshot shall be written
+     * @throws IOException if the snapshot cannot be written to the stream
+     */
+    public void writeContextMap(ContextMap contextMap, OutputStream outputStream) throws IOException {
+        Encoder encoder = new Encoder(outputStream);
+        encoder.writeHeader();
+        encoder.writeBoundedContexts(contextMap.getBoundedContexts());
+        encoder.writeRelationships(contextMap.getRelationships());
+        encoder.flush();
+    }
+
+    /**
+     * Holds the state (string table and object indexes) of writing one snapshot.
+     */
+    private static class Encoder {
+
+        private final DataOutputStream out;
+        private final Map<String, Integer> stringTable = new HashMap<>();
+        private final Map<DomainObject, Integer> domainObjectIndex = new IdentityHashMap<>();
+        private final List<DomainObject> domainObjects = new ArrayList<>();
+        private final List<Aggregate> aggregates = new ArrayList<>();
+        private final Map<Aggregate, Integer> aggregateIndex = new IdentityHashMap<>();
+        private final Map<BoundedContext, Integer> boundedContextIndex = new IdentityHashMap<>();
+
+        Encoder(OutputStream outputStream) {
+            this.out = new DataOutputStream(new BufferedOutputStream(outputStream));
+        }
+
+        void writeHeader() throws IOException {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+        }
+
+        /**
+         * Writes the structure (Bounded Contexts, Aggregates and domain objects) first, so that all domain objects are
+         * indexed before the types referring to them are written.
+         */
+        void writeBoundedContexts(Set<BoundedContext> boundedContexts) throws IOException {
+            out.writeInt(boundedContexts.size());
+            for (BoundedContext boundedContext : boundedContexts) {
+                boundedContextIndex.put(boundedContext, boundedContextIndex.size());
+                writeString(boundedContext.getName());
+                writeString(boundedContext.getTechnology());
+                out.writeInt(boundedContext.getAggregates().size());
+                for (Aggregate aggregate : boundedContext.getAggregates()) {
+                    writeAggregateStructure(aggregate);
+                }
+            }
+            for (DomainObject domainObject : domainObjects) {
+                writeDomainObjectDetails(domainObject);
+            }
+            for (Aggregate aggregate : aggregates) {
+                writeServices(aggregate);
+            }
+        }
+
+        /**
+         * Writes the relationships, referring to the Bounded Contexts and Aggregates written before.
+         */
+        void writeRelationships(Set<Relationship> relationships) throws IOException {
+            out.writeInt(relationships.size());
+            for (Relationship relationship : relationships) {
+                out.writeInt(indexOf(relationship.getUpstream()));
+                out.writeInt(indexOf(relationship.getDownstream()));
+                if (relationship.isExposingAllAggregates()) {
+                    out.writeByte(EXPOSING_ALL_AGGREGATES);
+                    writeString(relationship.getExposedAggregatesComment());
+                    continue;
+                }
+                out.writeByte(EXPOSING_LISTED_AGGREGATES);
+                out.writeInt(relationship.getExposedAggregates().size());
+                for (Aggregate aggregate : relationship.getExposedAggregates()) {
+                    Integer index = aggregateIndex.get(aggregate);
+                    if (index == null)
+                        throw new IllegalArgumentException("The Aggregate '" + aggregate.getName() +
+                                "' is exposed by a relationship but not part of the Bounded Contexts written to the snapshot.");
+                    out.writeInt(index);
+                }
+                writeString(relationship.getExposedAggregatesComment());
+            }
+        }
+
+        private int indexOf(BoundedContext boundedContext) {
+            Integer index = boundedContextIndex.get(boundedContext);
+            if (index == null)
+                throw new IllegalArgumentException("The Bounded Context '" + boundedContext.getName() +
+                        "' is part of a relationship but not of the Bounded Contexts written to the snapshot.");
+            return index;
+        }
+
+        private void writeAggregateStructure(Aggregate aggregate) throws IOException {
+            aggregateIndex.put(aggregate, aggregates.size());
+            aggregates.add(aggregate);
+            writeString(aggregate.getName());
+            writeString(aggregate.getDiscoveryComment());
+            out.writeInt(aggregate.getDomainObjects().size());
+            for (DomainObject domainObject : aggregate.getDomainObjects()) {
+                Integer index = domainObjectIndex.get(domainObject);
+                if (index != null) {
+                    out.writeInt(index);
+                    continue;
+                }
+                domainObjectIndex.put(domainObject, domainObjects.size());
+                domainObjects.add(domainObject);
+                out.writeInt(NEW_DOMAIN_OBJECT);
+                out.writeByte(domainObject.getType().ordinal());
+                writeString(domainObject.getName());
+                writeString(domainObject.getOriginalType());
+                writeString(domainObject.getDiscoveryComment());
+            }
+            out.writeInt(aggregate.getRootEntity() != null ? domainObjectIndex.get(aggregate.getRootEntity()) : NO_ROOT_ENTITY);
+        }
+
+        private void writeDomainObjectDetails(DomainObject domainObject) throws IOException {
+            Integer parent = domainObject.getParent() != null ? aggregateIndex.get(domainObject.getParent()) : null;
+            out.writeInt(parent != null ? parent : NO_PARENT);
+            out.writeInt(domainObject.getAttributes().size());
+            for (Attribute attribute : domainObject.getAttributes()) {
+                writeString(attribute.getName());
+                writeType(attribute.getType());
+            }
+            out.writeInt(domainObject.getMethods().size());
+            for (Method method : domainObject.getMethods()) {
+                writeMethod(method);
+            }
+        }
+
+        private void writeServices(Aggregate aggregate) throws IOException {
+            out.writeInt(aggregate.getServices().size());
+            for (Service service : aggregate.getServices()) {
+                writeString(service.getName());
+                writeString(service.getDiscoveryComment());
+                out.writeInt(service.getOperations().size());
+                for (Method operation : service.getOperations()) {
+                    writeMethod(operation);
+                }
+            }
+        }
+
+        private void writeMethod(Method method) throws IOException {
+            writeString(method.getName());
+            writeType(method.getReturnType());
+            out.writeInt(method.getParameters().size());
+            for (Parameter parameter : method.getParameters()) {
+                writeString(parameter.getName());
+                writeType(parameter.getType());
+            }
+        }
+
+        private void writeType(Type type) throws IOException {
+            if (type == null) {
+                out.writeByte(NO_TYPE);
+                return;
+            }
+            if (type.isDomainObjectType()) {
+                Integer index = domainObjectIndex.get(type.getDomainObjectType());
+                if (index == null)
+                    throw new IllegalArgumentException("The domain object '" + type.getDomainObjectType().getName() +
+                            "' is referenced but not part of the Bounded Contexts written to the snapshot.");
+                out.writeByte(DOMAIN_OBJECT_TYPE);
+                out.writeInt(index);
+            } else {
+                out.writeByte(PRIMITIVE_TYPE);
+                writeString(type.getPrimitiveType());
+            }
+            writeString(type.isCollectionType() ? type.getCollectionType() : null);
+        }
+
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                out.writeInt(NULL_STRING);
+                return;
+            }
+            Integer index = stringTable.get(value);
+            if (index != null) {
+                out.writeInt(index);
+                return;
+            }
+            stringTable.put(value, stringTable.size());
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(NEW_STRING);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        void flush() throws IOException {
+            out.flush();
+        }
+    }
+
+}
@@ -15,14 +15,148 @@
  */
 package org.contextmapper.discovery.strategies.boundedcontexts;
 
+import org.contextmapper.discovery.metrics.DiscoveryMetricsListener;
 import org.contextmapper.discovery.model.BoundedContext;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
 public abstract class AbstractBoundedContextDiscoveryStrategy implements BoundedContextDiscoveryStrategy {
 
+    protected DiscoveryMetricsListener metricsListener = DiscoveryMetricsListener.NONE;
+    protected Executor executor;
+    private final Set<String> resolvedTypes = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void setMetricsListener(DiscoveryMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
+    @Override
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Applies the task to all items and returns the results in the order of the items. If an executor has been set, the
+     * items are processed concurrently on it; the calling thread takes part in the work, so that the strategy may itself
+     * be running on the executor (even on one with a bounded number of threads). All results are visible to the calling
+     * thread once this method returns.
+     * <p>
+     * If the task fails for an item (with an exception or an error, for example a {@link LinkageError} while reflecting
+     * over an incomplete classpath), the first failure is rethrown on the calling thread once all items are processed.
+     */
+    protected <T, R> List<R> mapConcurrently(List<T> items, Function<T, R> task) {
+        Object[] results = new Object[items.size()];
+        if (executor == null || items.size() < 2) {
+            for (int i = 0; i < items.size(); i++) {
+                results[i] = task.apply(items.get(i));
+            }
+            return toList(results);
+        }
+
+        AtomicInteger nextItem = new AtomicInteger();
+        CountDownLatch completed = new CountDownLatch(items.size());
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Runnable worker = () -> {
+            for (int i = nextItem.getAndIncrement(); i < items.size(); i = nextItem.getAndIncrement()) {
+                try {
+                    results[i] = task.apply(items.get(i));
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    completed.countDown();
+                }
+            }
+        };
+        int workers = Math.min(items.size(), Runtime.getRuntime().availableProcessors()) - 1;
+        try {
+            for (int i = 0; i < workers; i++) {
+                executor.execute(worker);
+            }
+        } catch (RejectedExecutionException e) {
+            // the calling thread processes the remaining items
+        }
+        worker.run();
+        try {
+            completed.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The discovery has been interrupted.", e);
+        }
+        rethrow(failure.get());
+        return toList(results);
+    }
+
+    private void rethrow(Throwable failure) {
+        if (failure == null)
+            return;
+        if (failure instanceof RuntimeException)
+            throw (RuntimeException) failure;
+        if (failure instanceof Error)
+            throw (Error) failure;
+        throw new IllegalStateException("The discovery failed: " + failure.getMessage(), failure);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> List<R> toList(Object[] results) {
+        return new ArrayList<>((List<R>) Arrays.asList(results));
+    }
+
+    /**
+     * The name under which the strategy reports its metrics.
+     */
+    protected String getMetricsSource() {
+        return getClass().getSimpleName();
+    }
+
     protected BoundedContext createBoundedContext(String name, String technology) {
         BoundedContext bc = new BoundedContext(name);
         bc.setTechnology(technology);
         return bc;
     }
 
+    /**
+     * Checks whether a changed package or type name affects the given (scanned) package: this is the case if the
+     * changed input is the package itself, a type or package within it, or one of its parent packages. Changes outside
+     * the package affect it if they concern a type resolved by the last discovery run (see
+     * {@link #recordResolvedType(String)}), for example a superclass of a domain object in another package.
+     */
+    protected boolean isPackageAffectedBy(String packageName, String changedInput) {
+        return changedInput.equals(packageName) || changedInput.startsWith(packageName + ".")
+                || packageName.startsWith(changedInput + ".") || isResolvedTypeAffectedBy(changedInput);
+    }
+
+    /**
+     * Remembers a type whose structure has been read during the current discovery run, so that changes of the type are
+     * recognized by {@link #isPackageAffectedBy(String, String)} even if it is not part of the scanned package. Types
+     * may be recorded concurrently.
+     *
+     * @param typeName the binary name of the type (for example 'com.example.Outer$Inner')
+     */
+    protected void recordResolvedType(String typeName) {
+        resolvedTypes.add(typeName);
+    }
+
+    /**
+     * Forgets the types resolved by the previous discovery run; to be called when a new run starts.
+     */
+    protected void forgetResolvedTypes() {
+        resolvedTypes.clear();
+    }
+
+    private boolean isResolvedTypeAffectedBy(String changedInput) {
+        return resolvedTypes.stream().anyMatch(t -> t.equals(changedInput) || t.startsWith(changedInput + ".")
+                || t.startsWith(changedInput + "$"));
+    }
+
 }
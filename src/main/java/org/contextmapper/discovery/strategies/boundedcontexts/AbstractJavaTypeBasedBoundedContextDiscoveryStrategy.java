@@ -0,0 +1,389 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.strategies.boundedcontexts;
+
+import org.contextmapper.discovery.metrics.DiscoveryCount;
+import org.contextmapper.discovery.metrics.DiscoveryPhase;
+import org.contextmapper.discovery.metrics.PhaseMeasurement;
+import org.contextmapper.discovery.model.*;
+import org.contextmapper.discovery.strategies.helper.JavaField;
+import org.contextmapper.discovery.strategies.helper.JavaMethod;
+import org.contextmapper.discovery.strategies.helper.JavaType;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Discovers Bounded Contexts by types representing them, and their Aggregates by the RESTful HTTP resources within
+ * their packages: each resource becomes an Aggregate with a root entity, and the types used by the resource methods
+ * become value objects (with attributes and references according to their fields).
+ * <p>
+ * The discovery works on {@link JavaType}s; subclasses find the types and read their annotations, either with
+ * reflection ({@link AbstractRESTResourceBasedBoundedContextDiscoveryStrategy}) or from class files
+ * ({@link SpringBootBytecodeBoundedContextDiscoveryStrategy}).
+ *
+ * @param <T> the type representation of the subclass
+ */
+public abstract class AbstractJavaTypeBasedBoundedContextDiscoveryStrategy<T extends JavaType> extends AbstractBoundedContextDiscoveryStrategy {
+
+    private static final String AGG_ROOT_ENTITY_POSTFIX = "_RootEntity";
+    private static final Set<String> COLLECTION_TYPES = new HashSet<>(Arrays.asList("java.util.List", "java.util.Set", "java.util.Collection"));
+
+    protected Set<String> aggregateNames;
+    protected Map<Aggregate, Map<String, DomainObject>> domainObjectMap;
+    protected Map<String, DomainObject> domainObjectsByType;
+    protected Set<String> discoveredDomainObjectNames;
+    private Map<String, JavaType> domainObjectTypes;
+    private boolean lazyAggregates;
+    private AggregateResolution pendingAggregates;
+
+    public AbstractJavaTypeBasedBoundedContextDiscoveryStrategy() {
+        this.aggregateNames = new HashSet<>();
+        this.domainObjectMap = new HashMap<>();
+        this.domainObjectsByType = new HashMap<>();
+        this.discoveredDomainObjectNames = new HashSet<>();
+        this.domainObjectTypes = new HashMap<>();
+    }
+
+    /**
+     * Resolves the Aggregates of the discovered Bounded Contexts lazily: they are created when the Aggregates of one of
+     * the Bounded Contexts are accessed for the first time (then for all Bounded Contexts discovered in the same run, so
+     * that references between them are resolved as in the eager mode). Use this mode if you only need the Bounded
+     * Contexts themselves, for example for an overview or the relationships between them.
+     * <p>
+     * The metrics of the Aggregate discovery are reported when the Aggregates are resolved.
+     *
+     * @return this strategy
+     */
+    public AbstractJavaTypeBasedBoundedContextDiscoveryStrategy<T> usingLazyAggregates() {
+        this.lazyAggregates = true;
+        return this;
+    }
+
+    /**
+     * Discover Bounded Contexts by certain types representing the contexts.
+     */
+    @Override
+    public Set<BoundedContext> discoverBoundedContexts() {
+        resolvePendingAggregates();
+        resetDiscoveryState();
+        Set<BoundedContext> set = new HashSet<>();
+        AggregateResolution aggregates = new AggregateResolution();
+        for (T type : scan(this::findBoundedContextJavaTypes)) {
+            String name = type.getSimpleName();
+            if (name.endsWith("Application"))
+                name = name.substring(0, name.length() - 11);
+            BoundedContext bc = createBoundedContext(name, findBoundedContextTechnology(type));
+            aggregates.add(bc, type.getPackageName());
+            set.add(bc);
+        }
+        if (lazyAggregates) {
+            this.pendingAggregates = aggregates;
+            for (BoundedContext bc : aggregates.boundedContexts) {
+                bc.addAggregatesLazily(() -> aggregates.get(bc));
+            }
+        } else {
+            aggregates.resolve();
+            for (BoundedContext bc : aggregates.boundedContexts) {
+                bc.addAggregates(aggregates.get(bc));
+            }
+        }
+        return set;
+    }
+
+    /**
+     * Resolves the lazy Aggregates of the previous run (if not done yet), before its state is reset. Subclasses call
+     * this before they replace the state their lookups depend on.
+     */
+    protected void resolvePendingAggregates() {
+        if (pendingAggregates != null)
+            pendingAggregates.resolve();
+        pendingAggregates = null;
+    }
+
+    /**
+     * Runs a classpath scan and reports it to the metrics listener.
+     */
+    private Set<T> scan(Supplier<Set<T>> scanner) {
+        PhaseMeasurement scanning = PhaseMeasurement.start(metricsListener);
+        Set<T> types = scanner.get();
+        scanning.complete(getMetricsSource(), DiscoveryPhase.CLASSPATH_SCANNING);
+        metricsListener.countRecorded(getMetricsSource(), DiscoveryCount.RESOURCE_TYPES, types.size());
+        return types;
+    }
+
+    /**
+     * Forgets the names and domain objects of a previous run, so that the strategy can be applied again.
+     */
+    private void resetDiscoveryState() {
+        forgetResolvedTypes();
+        this.aggregateNames.clear();
+        this.domainObjectMap.clear();
+        this.domainObjectsByType.clear();
+        this.discoveredDomainObjectNames.clear();
+        this.domainObjectTypes.clear();
+    }
+
+    /**
+     * Find types representing a Bounded Context.
+     */
+    protected abstract Set<T> findBoundedContextJavaTypes();
+
+    /**
+     * Find the implementation technology of a Bounded Context by the type representing it.
+     */
+    protected abstract String findBoundedContextTechnology(T boundedContextType);
+
+    /**
+     * Find types representing an Aggregate/resource (within a given package).
+     */
+    protected abstract Set<T> findResourceJavaTypes(String packageName);
+
+    /**
+     * Find RESTful HTTP resource path by the given resource type.
+     */
+    protected abstract String findResourcePath(T resourceType);
+
+    /**
+     * Find RESTful HTTP operations by it methods in a given resource type.
+     */
+    protected abstract List<JavaMethod> findResourceMethods(T resourceType);
+
+    /**
+     * Discover Aggregates for RESTful HTTP resources (annotated types)
+     */
+    protected Set<Aggregate> discoverAggregates(BoundedContext bc, String packageName) {
+        Set<Aggregate> resultSet = new HashSet<>();
+        List<T> resourceTypes = new ArrayList<>(scan(() -> findResourceJavaTypes(packageName)));
+        // sorted, so that the names of Aggregates with the same resource path do not depend on the scanning order
+        resourceTypes.sort(Comparator.comparing(JavaType::getName));
+        for (T type : resourceTypes) {
+            String resourePath = findResourcePath(type);
+            if (resourePath == null || "".equals(resourePath))
+                continue;
+            Aggregate aggregate = createAggregate(bc, resourePath);
+            this.domainObjectMap.put(aggregate, new HashMap<>());
+            aggregate.setRootEntity(createRootEntity(aggregate.getName()));
+            PhaseMeasurement reflection = PhaseMeasurement.start(metricsListener);
+            aggregate.addDomainObjects(discoverValueObjectsByMethods(aggregate, type, packageName));
+            reflection.complete(getMetricsSource(), DiscoveryPhase.REFLECTION);
+            aggregate.setDiscoveryComment("This Aggregate has been created on the basis of the RESTful HTTP controller " + type.getName() + ".");
+            resultSet.add(aggregate);
+        }
+        return resultSet;
+    }
+
+    /**
+     * Create an Aggregate for a RESTful HTTP endpoint/resource.
+     */
+    protected Aggregate createAggregate(BoundedContext parentContext, String resourcePath) {
+        return new Aggregate(getAggregateName(parentContext.getName(), resourcePath));
+    }
+
+    protected DomainObject createRootEntity(String aggregateName) {
+        return new DomainObject(DomainObjectType.ENTITY, aggregateName + AGG_ROOT_ENTITY_POSTFIX);
+    }
+
+    private String getAggregateName(String boundedContextName, String resourcePath) {
+        String name = resourcePath;
+        if (name.startsWith("/"))
+            name = name.substring(1);
+        name = name.replaceAll("/", "_");
+        name = name.replaceAll("-", "_");
+
+        if (this.aggregateNames.contains(name))
+            name = boundedContextName + "_" + name;
+
+        int counter = 1;
+        while (this.aggregateNames.contains(name)) {
+            name = name + "_" + counter;
+            counter++;
+        }
+
+        this.aggregateNames.add(name);
+        return name;
+    }
+
+    protected Set<DomainObject> discoverValueObjectsByMethods(Aggregate aggregate, T controllerType, String packageName) {
+        Set<DomainObject> valueObjects = new HashSet<>();
+        for (JavaMethod method : findResourceMethods(controllerType)) {
+            org.contextmapper.discovery.model.Method aggRootMethod = new org.contextmapper.discovery.model.Method(method.getName());
+            DiscoveredType returnType = getDiscoveredType(method.getReturnType());
+            if (returnType.isInPackage(packageName)) {
+                DomainObject returnTypeObject = createValueObjectFromType(aggregate, returnType.domainType);
+                valueObjects.add(returnTypeObject);
+                aggRootMethod.setReturnType(new Type(returnTypeObject, returnType.collectionType));
+            }
+            for (int i = 0; i < method.getParameterTypes().size(); i++) {
+                DiscoveredType parameterType = getDiscoveredType(method.getParameterTypes().get(i));
+                if (!parameterType.isInPackage(packageName))
+                    continue;
+                DomainObject parameterTypeObject = createValueObjectFromType(aggregate, parameterType.domainType);
+                valueObjects.add(parameterTypeObject);
+                Type type = new Type(parameterTypeObject, parameterType.collectionType);
+                aggRootMethod.addParameter(new Parameter(method.getParameterNames().get(i), type));
+            }
+            if (aggregate.getRootEntity() != null)
+                aggregate.getRootEntity().addMethod(aggRootMethod);
+        }
+        return valueObjects;
+    }
+
+    private DomainObject createValueObjectFromType(Aggregate aggregate, JavaType type) {
+        if (this.domainObjectMap.get(aggregate).containsKey(type.getName()))
+            return this.domainObjectMap.get(aggregate).get(type.getName());
+
+        String valueObjectName = type.getSimpleName();
+        if (this.discoveredDomainObjectNames.contains(valueObjectName))
+            valueObjectName = aggregate.getName() + "_" + valueObjectName;
+        int counter = 1;
+        while (this.discoveredDomainObjectNames.contains(valueObjectName)) {
+            valueObjectName = valueObjectName + "_" + counter;
+            counter++;
+        }
+        this.discoveredDomainObjectNames.add(valueObjectName);
+        DomainObject domainObject = new DomainObject(DomainObjectType.VALUE_OBJECT, valueObjectName, type.getName());
+        domainObject.setDiscoveryComment("This value object has been derived from the class " + type.getName() + ".");
+        this.domainObjectMap.get(aggregate).put(type.getName(), domainObject);
+        this.domainObjectsByType.putIfAbsent(type.getName(), domainObject);
+        this.domainObjectTypes.putIfAbsent(type.getName(), type);
+        for (JavaType resolvedType = type; resolvedType != null; resolvedType = resolvedType.getSuperclass()) {
+            recordResolvedType(resolvedType.getName());
+        }
+        return domainObject;
+    }
+
+    /**
+     * Creates the attributes and references of all discovered domain objects. Once all domain objects are known, their
+     * attributes can be created independently; this is done concurrently if an executor has been set. The attributes
+     * are added to the domain objects afterwards, on the calling thread.
+     */
+    private void updateDomainObjectAttributesAndReferences() {
+        List<Map.Entry<String, DomainObject>> domainObjects = new ArrayList<>();
+        for (Map<String, DomainObject> aggregateDomainObjects : this.domainObjectMap.values()) {
+            domainObjects.addAll(aggregateDomainObjects.entrySet());
+        }
+        List<List<Attribute>> attributes = mapConcurrently(domainObjects,
+                e -> createAttributesAndReferences4DomainObject(e.getValue(), this.domainObjectTypes.get(e.getKey())));
+        for (int i = 0; i < domainObjects.size(); i++) {
+            DomainObject domainObject = domainObjects.get(i).getValue();
+            attributes.get(i).forEach(domainObject::addAttribute);
+        }
+    }
+
+    private List<Attribute> createAttributesAndReferences4DomainObject(DomainObject domainObject, JavaType domainObjectType) {
+        List<Attribute> attributes = new ArrayList<>();
+        for (JavaField field : domainObjectType.getAllFields()) {
+            String collectionType = null;
+            if (isCollectionType(field.getType()))
+                collectionType = field.getType().getSimpleName();
+            JavaType fieldType = field.getElementType();
+            String simpleName = fieldType.getSimpleName();
+            if (simpleName.endsWith("[]")) {
+                simpleName = simpleName.substring(0, simpleName.length() - 2);
+                collectionType = "List";
+            }
+
+            // search in aggregate first, reference outside aggregate only if object is not part of aggregate:
+            DomainObject referencedObject = null;
+            if (!fieldType.isArray()) {
+                referencedObject = this.domainObjectMap.get(domainObject.getParent()).get(fieldType.getName());
+                if (referencedObject == null)
+                    referencedObject = this.domainObjectsByType.get(fieldType.getName());
+            }
+
+            if (referencedObject != null) {
+                attributes.add(createReference(field.getName(), referencedObject, collectionType));
+            } else {
+                Type simpleType = new Type(simpleName, collectionType);
+                attributes.add(new Attribute(simpleType, field.getName()));
+            }
+        }
+        return attributes;
+    }
+
+    private Attribute createReference(String name, DomainObject domainObject, String collectionType) {
+        return new Attribute(new Type(domainObject, collectionType), name);
+    }
+
+    /**
+     * Gets the domain type of a return or parameter type: for parameterized types, the (innermost) first type argument
+     * is used; the collection type is set if the type around it is a collection.
+     */
+    private DiscoveredType getDiscoveredType(JavaType type) {
+        if (type.getTypeArguments().isEmpty())
+            return new DiscoveredType(null, type);
+        JavaType typeArgument = type.getTypeArguments().get(0);
+        if (!typeArgument.getTypeArguments().isEmpty())
+            return getDiscoveredType(typeArgument);
+        if (typeArgument.isClass())
+            return new DiscoveredType(isCollectionType(type) ? type.getSimpleName() : null, typeArgument);
+        return new DiscoveredType(null, type);
+    }
+
+    private boolean isCollectionType(JavaType type) {
+        return !type.isArray() && COLLECTION_TYPES.contains(type.getName());
+    }
+
+    /**
+     * Discovers the Aggregates of the Bounded Contexts of one run, in the order in which the Bounded Contexts have been
+     * discovered.
+     */
+    private class AggregateResolution {
+        private final List<BoundedContext> boundedContexts = new ArrayList<>();
+        private final List<String> packageNames = new ArrayList<>();
+        private Map<BoundedContext, Set<Aggregate>> aggregates;
+
+        void add(BoundedContext boundedContext, String packageName) {
+            boundedContexts.add(boundedContext);
+            packageNames.add(packageName);
+        }
+
+        synchronized Set<Aggregate> get(BoundedContext boundedContext) {
+            resolve();
+            return aggregates.get(boundedContext);
+        }
+
+        synchronized void resolve() {
+            if (aggregates != null)
+                return;
+            Map<BoundedContext, Set<Aggregate>> result = new IdentityHashMap<>();
+            for (int i = 0; i < boundedContexts.size(); i++) {
+                result.put(boundedContexts.get(i), discoverAggregates(boundedContexts.get(i), packageNames.get(i)));
+            }
+            PhaseMeasurement reflection = PhaseMeasurement.start(metricsListener);
+            updateDomainObjectAttributesAndReferences();
+            reflection.complete(getMetricsSource(), DiscoveryPhase.REFLECTION);
+            aggregates = result;
+        }
+    }
+
+    private static class DiscoveredType {
+        private final String collectionType;
+        private final JavaType domainType;
+
+        DiscoveredType(String collectionType, JavaType domainType) {
+            this.collectionType = collectionType;
+            this.domainType = domainType;
+        }
+
+        boolean isInPackage(String packageName) {
+            return domainType.isClass() && !domainType.isArray() && !domainType.getPackageName().isEmpty()
+                    && domainType.getPackageName().startsWith(packageName);
+        }
+    }
+
+}
@@ -15,48 +15,30 @@
  */
 package org.contextmapper.discovery.strategies.boundedcontexts;
 
-import org.contextmapper.discovery.model.*;
+import org.contextmapper.discovery.strategies.helper.JavaMethod;
 import org.contextmapper.discovery.strategies.helper.ReflectionHelpers;
+import org.contextmapper.discovery.strategies.helper.ReflectionJavaType;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
-import java.util.*;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-public abstract class AbstractRESTResourceBasedBoundedContextDiscoveryStrategy extends AbstractBoundedContextDiscoveryStrategy {
-
-    private static final String AGG_ROOT_ENTITY_POSTFIX = "_RootEntity";
+/**
+ * Discovers Bounded Contexts and their Aggregates by RESTful HTTP resources found with reflection on loaded classes.
+ */
+public abstract class AbstractRESTResourceBasedBoundedContextDiscoveryStrategy extends AbstractJavaTypeBasedBoundedContextDiscoveryStrategy<ReflectionJavaType> {
 
-    protected Set<String> aggregateNames;
     protected ReflectionHelpers reflectionHelpers;
-    protected Map<Aggregate, Map<Class<?>, DomainObject>> domainObjectMap;
-    protected Set<String> discoveredDomainObjectNames;
 
     public AbstractRESTResourceBasedBoundedContextDiscoveryStrategy() {
-        this.aggregateNames = new HashSet<>();
         this.reflectionHelpers = new ReflectionHelpers();
-        this.domainObjectMap = new HashMap<>();
-        this.discoveredDomainObjectNames = new HashSet<>();
     }
 
-    /**
-     * Discover Bounded Contexts by certain types representing the contexts.
-     */
     @Override
-    public Set<BoundedContext> discoverBoundedContexts() {
-        Set<BoundedContext> set = new HashSet<>();
-        for (Class<?> type : findBoundedContextTypes()) {
-            String name = type.getSimpleName();
-            if (name.endsWith("Application"))
-                name = name.substring(0, name.length() - 11);
-            BoundedContext bc = createBoundedContext(name, findBoundedContextTechnology(type));
-            bc.addAggregates(discoverAggregates(bc, type.getPackage().getName()));
-            set.add(bc);
-        }
-        updateDomainObjectAttributesAndReferences();
-        return set;
+    public AbstractRESTResourceBasedBoundedContextDiscoveryStrategy usingLazyAggregates() {
+        super.usingLazyAggregates();
+        return this;
     }
 
     /**
@@ -84,226 +66,33 @@ public abstract class AbstractRESTResourceBasedBoundedContextDiscoveryStrategy e
      */
     protected abstract Set<Method> findResourceMethods(Class<?> resourceType);
 
-    /**
-     * Discover Aggregates for RESTful HTTP resources (annotated types)
-     */
-    protected Set<Aggregate> discoverAggregates(BoundedContext bc, String packageName) {
-        Set<Aggregate> resultSet = new HashSet<>();
-        for (Class<?> type : findResourceTypes(packageName)) {
-            String resourePath = findResourcePath(type);
-            if (resourePath == null || "".equals(resourePath))
-                continue;
-            Aggregate aggregate = createAggregate(bc, resourePath);
-            this.domainObjectMap.put(aggregate, new HashMap<>());
-            aggregate.addDomainObject(createRootEntity(aggregate.getName()));
-            aggregate.addDomainObjects(discoverValueObjectsByMethods(aggregate, type, packageName));
-            aggregate.setDiscoveryComment("This Aggregate has been created on the basis of the RESTful HTTP controller " + type.getName() + ".");
-            resultSet.add(aggregate);
-        }
-        return resultSet;
-    }
-
-    /**
-     * Create an Aggregate for a RESTful HTTP endpoint/resource.
-     */
-    protected Aggregate createAggregate(BoundedContext parentContext, String resourcePath) {
-        return new Aggregate(getAggregateName(parentContext.getName(), resourcePath));
-    }
-
-    protected DomainObject createRootEntity(String aggregateName) {
-        return new DomainObject(DomainObjectType.ENTITY, aggregateName + AGG_ROOT_ENTITY_POSTFIX);
-    }
-
-    private String getAggregateName(String boundedContextName, String resourcePath) {
-        String name = resourcePath;
-        if (name.startsWith("/"))
-            name = name.substring(1);
-        name = name.replaceAll("/", "_");
-        name = name.replaceAll("-", "_");
-
-        if (this.aggregateNames.contains(name))
-            name = boundedContextName + "_" + name;
-
-        int counter = 1;
-        while (this.aggregateNames.contains(name)) {
-            name = name + "_" + counter;
-            counter++;
-        }
-
-        this.aggregateNames.add(name);
-        return name;
-    }
-
-    protected Set<DomainObject> discoverValueObjectsByMethods(Aggregate aggregate, Class<?> controllerType, String packageName) {
-        Set<DomainObject> valueObjects = new HashSet<>();
-        for (Method method : findResourceMethods(controllerType)) {
-            org.contextmapper.discovery.model.Method aggRootMethod = new org.contextmapper.discovery.model.Method(method.getName());
-            DiscoveredType returnType = getMethodReturnType(method, packageName);
-            if (returnType != null) {
-                DomainObject returnTypeObject = createValueObjectFromType(aggregate, returnType.domainType);
-                valueObjects.add(returnTypeObject);
-                org.contextmapper.discovery.model.Type type = new org.contextmapper.discovery.model.Type(returnTypeObject);
-                type.setCollectionType(returnType.collectionType);
-                aggRootMethod.setReturnType(type);
-            }
-            Set<DiscoveredParameterType> parameterTypes = getMethodParameterTypes(method, packageName);
-            Set<Parameter> parameterTypeObjects = createValueObjectParameters(aggregate, parameterTypes.toArray(new DiscoveredParameterType[parameterTypes.size()]));
-            valueObjects.addAll(parameterTypeObjects.stream().filter(p -> p.getType().isDomainObjectType()).map(p -> p.getType().getDomainObjectType()).collect(Collectors.toSet()));
-            aggRootMethod.addParameters(parameterTypeObjects);
-            Optional<DomainObject> aggRootEntity = aggregate.getDomainObjects().stream().filter(o -> o.getName().endsWith(AGG_ROOT_ENTITY_POSTFIX)).findFirst();
-            if (aggRootEntity.isPresent())
-                aggRootEntity.get().addMethod(aggRootMethod);
-        }
-        return valueObjects;
-    }
-
-    private DiscoveredType getMethodReturnType(Method method, String packageName) {
-        DiscoveredType returnType = null;
-        if (method.getGenericReturnType() instanceof ParameterizedType) {
-            returnType = getType((ParameterizedType) method.getGenericReturnType());
-        } else {
-            returnType = new DiscoveredType(null, method.getReturnType());
-        }
-        if (returnType != null && returnType.domainType.getPackage().getName().startsWith(packageName))
-            return returnType;
-        return null;
-    }
-
-    protected Set<DiscoveredParameterType> getMethodParameterTypes(Method method, String packageName) {
-        Set<DiscoveredParameterType> parameterTypes = new HashSet<>();
-        for (java.lang.reflect.Parameter parameter : method.getParameters()) {
-            if (parameter.getParameterizedType() instanceof ParameterizedType) {
-                parameterTypes.add(new DiscoveredParameterType(parameter.getName(), getType((ParameterizedType) parameter.getParameterizedType())));
-            } else {
-                parameterTypes.add(new DiscoveredParameterType(parameter.getName(), new DiscoveredType(null, parameter.getType())));
-            }
-        }
-        return parameterTypes.stream().filter(p -> p.type.domainType.getPackage().getName().startsWith(packageName)).collect(Collectors.toSet());
-    }
-
-    private Set<Parameter> createValueObjectParameters(Aggregate aggregate, DiscoveredParameterType... parameterTypes) {
-        Set<Parameter> valueObjectParameters = new HashSet<>();
-        for (DiscoveredParameterType parameterType : parameterTypes) {
-            org.contextmapper.discovery.model.Type type = new org.contextmapper.discovery.model.Type(createValueObjectFromType(aggregate, parameterType.type.domainType));
-            type.setCollectionType(parameterType.type.collectionType);
-            Parameter parameter = new Parameter(parameterType.parameterName, type);
-            valueObjectParameters.add(parameter);
-        }
-        return valueObjectParameters;
-    }
-
-    private DomainObject createValueObjectFromType(Aggregate aggregate, Class<?> type) {
-        if (this.domainObjectMap.get(aggregate).containsKey(type))
-            return this.domainObjectMap.get(aggregate).get(type);
-
-        String valueObjectName = type.getSimpleName();
-        if (this.discoveredDomainObjectNames.contains(valueObjectName))
-            valueObjectName = aggregate.getName() + "_" + valueObjectName;
-        int counter = 1;
-        while (this.discoveredDomainObjectNames.contains(valueObjectName)) {
-            valueObjectName = valueObjectName + "_" + counter;
-            counter++;
-        }
-        this.discoveredDomainObjectNames.add(valueObjectName);
-        DomainObject domainObject = new DomainObject(DomainObjectType.VALUE_OBJECT, valueObjectName, type.getName());
-        domainObject.setDiscoveryComment("This value object has been derived from the class " + type.getName() + ".");
-        this.domainObjectMap.get(aggregate).put(type, domainObject);
-        return domainObject;
-    }
-
-    private void updateDomainObjectAttributesAndReferences() {
-        for (Map.Entry<Aggregate, Map<Class<?>, DomainObject>> entry : this.domainObjectMap.entrySet()) {
-            entry.getValue().entrySet().forEach(e -> createAttributesAndReferences4DomainObject(e.getValue(), e.getKey()));
-        }
-    }
-
-    private void createAttributesAndReferences4DomainObject(DomainObject domainObject, Class<?> domainObjectType) {
-        for (Field field : reflectionHelpers.getAllFieldsOfType(domainObjectType)) {
-            String collectionType = null;
-            if (reflectionHelpers.isCollectionType(field.getType()))
-                collectionType = field.getType().getSimpleName();
-            Class<?> fieldType = getType(field);
-            String simpleName = fieldType.getSimpleName();
-            if (fieldType.getSimpleName().endsWith("[]")) {
-                simpleName = simpleName.substring(0, simpleName.length() - 2);
-                collectionType = "List";
-            }
-
-            // reference outside aggregate (only use this if object is not part of aggregate)
-            DomainObject globallySearchedObject = searchDomainObjectInAllAggregates(fieldType);
-
-            // search in aggregate first:
-            if (this.domainObjectMap.get(domainObject.getParent()).containsKey(fieldType)) {
-                domainObject.addAttribute(createReference(field.getName(), this.domainObjectMap.get(domainObject.getParent()).get(fieldType), collectionType));
-            } else if (globallySearchedObject != null) {
-                domainObject.addAttribute(createReference(field.getName(), globallySearchedObject, collectionType));
-            } else {
-                org.contextmapper.discovery.model.Type simpleType = new org.contextmapper.discovery.model.Type(simpleName);
-                simpleType.setCollectionType(collectionType);
-                domainObject.addAttribute(new Attribute(simpleType, field.getName()));
-            }
-        }
-    }
-
-    private DomainObject searchDomainObjectInAllAggregates(Class<?> type) {
-        for (Map.Entry<Aggregate, Map<Class<?>, DomainObject>> entry : this.domainObjectMap.entrySet()) {
-            if (entry.getValue().containsKey(type))
-                return entry.getValue().get(type);
-        }
-        return null;
+    @Override
+    protected Set<ReflectionJavaType> findBoundedContextJavaTypes() {
+        return toJavaTypes(findBoundedContextTypes());
     }
 
-    private Attribute createReference(String name, DomainObject domainObject, String collectionType) {
-        org.contextmapper.discovery.model.Type type = new org.contextmapper.discovery.model.Type(domainObject);
-        type.setCollectionType(collectionType);
-        return new Attribute(type, name);
+    @Override
+    protected String findBoundedContextTechnology(ReflectionJavaType boundedContextType) {
+        return findBoundedContextTechnology(boundedContextType.getJavaClass());
     }
 
-    private Class<?> getType(Field field) {
-        if (reflectionHelpers.isCollectionType(field.getType())) {
-            return reflectionHelpers.getActualTypesOfParameterizedType((ParameterizedType) field.getGenericType()).iterator().next();
-        } else {
-            return field.getType();
-        }
+    @Override
+    protected Set<ReflectionJavaType> findResourceJavaTypes(String packageName) {
+        return toJavaTypes(findResourceTypes(packageName));
     }
 
-    private DiscoveredType getType(ParameterizedType type) {
-        if (type.getActualTypeArguments().length < 1)
-            throw new RuntimeException("ParameterizedTypes without parameters not supported!");
-
-        // we assume there is only one return type for now
-        Type paramType = type.getActualTypeArguments()[0];
-
-        if (paramType instanceof ParameterizedType) {
-            return getType((ParameterizedType) paramType);
-        } else if (paramType instanceof Class<?>) {
-            String collectionType = null;
-            if (type.getRawType() instanceof Class<?> && reflectionHelpers.isCollectionType((Class<?>) type.getRawType()))
-                collectionType = ((Class<?>) type.getRawType()).getSimpleName();
-            return new DiscoveredType(collectionType, (Class<?>) paramType);
-        } else {
-            return new DiscoveredType(null, (Class<?>) type.getRawType());
-        }
+    @Override
+    protected String findResourcePath(ReflectionJavaType resourceType) {
+        return findResourcePath(resourceType.getJavaClass());
     }
 
-    private class DiscoveredType {
-        private Class<?> domainType;
-        private String collectionType;
-
-        DiscoveredType(String collectionType, Class<?> domainType) {
-            this.domainType = domainType;
-            this.collectionType = collectionType;
-        }
+    @Override
+    protected List<JavaMethod> findResourceMethods(ReflectionJavaType resourceType) {
+        return ReflectionJavaType.toJavaMethods(findResourceMethods(resourceType.getJavaClass()));
     }
 
-    private class DiscoveredParameterType {
-        private DiscoveredType type;
-        private String parameterName;
-
-        DiscoveredParameterType(String parameterName, DiscoveredType discoveredType) {
-            this.parameterName = parameterName;
-            this.type = discoveredType;
-        }
+    private Set<ReflectionJavaType> toJavaTypes(Set<Class<?>> classes) {
+        return classes.stream().map(ReflectionJavaType::new).collect(Collectors.toSet());
     }
 
 }
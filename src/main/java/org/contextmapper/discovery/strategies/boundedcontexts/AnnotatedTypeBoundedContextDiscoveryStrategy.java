@@ -35,20 +35,41 @@ public class AnnotatedTypeBoundedContextDiscoveryStrategy extends AbstractBounde
     private String packageName;
     private Class<? extends Annotation> annotation;
     private String technology;
+    private AnnotationScanner annotationScanner;
 
     public AnnotatedTypeBoundedContextDiscoveryStrategy(String packageName, Class<? extends Annotation> annotation, String technology) {
+        this(packageName, annotation, technology, new AnnotationScanner());
+    }
+
+    /**
+     * Creates the strategy with a given annotation scanner. Pass the same scanner to all strategies of a discovery run
+     * to scan the classpath only once.
+     *
+     * @param packageName       the package within which to search for annotated types
+     * @param annotation        the annotation identifying a Bounded Context
+     * @param technology        the implementation technology of the discovered Bounded Contexts
+     * @param annotationScanner the (shared) annotation scanner
+     */
+    public AnnotatedTypeBoundedContextDiscoveryStrategy(String packageName, Class<? extends Annotation> annotation, String technology,
+                                                        AnnotationScanner annotationScanner) {
         this.packageName = packageName;
         this.annotation = annotation;
         this.technology = technology;
+        this.annotationScanner = annotationScanner;
     }
 
     @Override
     public Set<BoundedContext> discoverBoundedContexts() {
         Set<BoundedContext> set = new HashSet<>();
-        for (Class<?> type : new AnnotationScanner().scanForAnnotatedType(packageName, annotation)) {
+        for (Class<?> type : annotationScanner.scanForAnnotatedType(packageName, annotation)) {
             set.add(createBoundedContext(type.getSimpleName(), technology));
         }
         return set;
     }
 
+    @Override
+    public boolean isAffectedBy(String changedInput) {
+        return isPackageAffectedBy(packageName, changedInput);
+    }
+
 }
@@ -16,9 +16,11 @@
 package org.contextmapper.discovery.strategies.boundedcontexts;
 
 import org.contextmapper.discovery.ContextMapDiscoverer;
+import org.contextmapper.discovery.metrics.DiscoveryMetricsListener;
 import org.contextmapper.discovery.model.BoundedContext;
 
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 /**
  * Interface for all Bounded Context discovery strategies.
@@ -34,4 +36,40 @@ public interface BoundedContextDiscoveryStrategy {
      */
     Set<BoundedContext> discoverBoundedContexts();
 
+    /**
+     * Checks whether the Bounded Contexts discovered by this strategy may change if the given input changes. Used by
+     * {@link ContextMapDiscoverer#rediscoverContextMap(String...)} to apply only the affected strategies again.
+     * <p>
+     * The default implementation answers true, so that strategies not implementing this method are always applied.
+     *
+     * @param changedInput the changed input (a package or type name, a file path, etc.)
+     * @return true if the strategy has to be applied again, false otherwise
+     */
+    default boolean isAffectedBy(String changedInput) {
+        return true;
+    }
+
+    /**
+     * Sets the listener to which the strategy reports the metrics of its internal phases (scanning, parsing, etc.).
+     * Called by the {@link ContextMapDiscoverer} before the strategy is applied.
+     * <p>
+     * The default implementation ignores the listener.
+     *
+     * @param metricsListener the metrics listener
+     */
+    default void setMetricsListener(DiscoveryMetricsListener metricsListener) {
+    }
+
+    /**
+     * Sets the executor on which the strategy may run its internal work concurrently. Called by the
+     * {@link ContextMapDiscoverer} before the strategy is applied, with the executor of the parallel Bounded Context
+     * discovery or null, if the strategies are applied sequentially.
+     * <p>
+     * The default implementation ignores the executor.
+     *
+     * @param executor the executor or null, if the strategy shall work sequentially
+     */
+    default void setExecutor(Executor executor) {
+    }
+
 }
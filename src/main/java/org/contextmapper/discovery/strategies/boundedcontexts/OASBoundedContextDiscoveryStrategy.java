@@ -27,201 +27,365 @@ import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.models.RefType;
 import org.contextmapper.discovery.cml.CMLPrimitiveTypeMapper;
+import org.contextmapper.discovery.metrics.DiscoveryPhase;
+import org.contextmapper.discovery.metrics.PhaseMeasurement;
 import org.contextmapper.discovery.model.*;
+import org.contextmapper.discovery.snapshot.DiscoveryCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Discovers Bounded Contexts with OpenAPI specifications as input.
+ * <p>
+ * The specifications are independent of each other: if the strategy is applied with an executor (see
+ * {@link #setExecutor(java.util.concurrent.Executor)}), they are parsed and converted concurrently on it.
  *
  * @author Stefan Kapferer
  */
-public class OASBoundedContextDiscoveryStrategy implements BoundedContextDiscoveryStrategy {
+public class OASBoundedContextDiscoveryStrategy extends AbstractBoundedContextDiscoveryStrategy implements BoundedContextDiscoveryStrategy {
 
     private static Logger LOG = LoggerFactory.getLogger(OASBoundedContextDiscoveryStrategy.class);
 
     private static final String JSON_MEDIA_TYPE = "application/json";
+    private static final String CACHE_NAMESPACE = "oas";
+    private static final Pattern EXTERNAL_REF_PATTERN = Pattern.compile("\\$ref[\"']?\\s*:\\s*[\"']?([^\"'#\\s]+)");
 
     private Set<String> oasLocations;
     private CMLPrimitiveTypeMapper typeMapper;
-    private Map<Aggregate, Map<String, DomainObject>> domainObjectMap;
-    private OpenAPI currentOAS;
+    private DiscoveryCache cache;
+    private Map<String, Set<Path>> referencedFiles = new ConcurrentHashMap<>();
 
     public OASBoundedContextDiscoveryStrategy(String... oasLocations) {
         this.oasLocations = Sets.newHashSet(oasLocations);
         this.typeMapper = new CMLPrimitiveTypeMapper();
-        this.domainObjectMap = new HashMap<>();
     }
 
-    @Override
-    public Set<BoundedContext> discoverBoundedContexts() {
-        var boundedContexts = Sets.<BoundedContext>newHashSet();
-        for (String location : this.oasLocations) {
-            var parseResult = new OpenAPIV3Parser().readLocation(location, null, new ParseOptions());
-            if (!parseResult.getMessages().isEmpty())
-                LOG.error("Parsing the OAS '" + location + "' resulted in validation errors: " + String.join(", ", parseResult.getMessages()));
-            currentOAS = parseResult.getOpenAPI();
-            if (currentOAS == null)
-                throw new RuntimeException("Could not successfully parse OAS!");
-            boundedContexts.add(discoverBoundedContext(currentOAS));
-        }
-        return boundedContexts;
+    /**
+     * Caches the discovered Bounded Contexts in the given directory. The cache entries are keyed by the content of the
+     * specification and the local files it references ($ref), so unchanged specifications are not parsed again in
+     * subsequent discovery runs. Only specifications on the local file system are cached; remote ones are always parsed.
+     *
+     * @param cacheDirectory the directory in which the cache entries shall be stored
+     * @return this strategy
+     */
+    public OASBoundedContextDiscoveryStrategy usingCache(File cacheDirectory) {
+        this.cache = new DiscoveryCache(cacheDirectory);
+        return this;
     }
 
-    private BoundedContext discoverBoundedContext(OpenAPI oas) {
-        var bc = new BoundedContext(oas.getInfo().getTitle());
-        for (Map.Entry<String, PathItem> entry : oas.getPaths().entrySet()) {
-            bc.addAggregate(discoverAggregate(entry.getKey(), entry.getValue()));
+    /**
+     * The strategy is affected by changes of its specifications and of the local files they reference ($ref). The
+     * referenced files are the ones read by the last discovery run; they are only read here if the strategy has not
+     * been applied yet.
+     */
+    @Override
+    public boolean isAffectedBy(String changedInput) {
+        Path changedFile = normalizePath(changedInput);
+        for (String location : oasLocations) {
+            if (location.equals(changedInput))
+                return true;
+            if (changedFile == null)
+                continue;
+            if (changedFile.equals(normalizePath(location)))
+                return true;
+            if (getReferencedFiles(location).contains(changedFile))
+                return true;
         }
-        return bc;
+        return false;
     }
 
-    private Aggregate discoverAggregate(String pathItemKey, PathItem pathItem) {
-        var aggregateName = pathItemKey.substring(1).replace("/", "_"); // path key must start with '/'!
-        var aggregate = new Aggregate(aggregateName);
-        aggregate.setDiscoveryComment(pathItem.getSummary());
-
-        var service = new Service(aggregateName + "Service");
-        service.setDiscoveryComment("This service contains all operations of the following endpoint: " + pathItemKey);
-        aggregate.addService(service);
-
-        addOperationToService(service, discoverOperation(aggregate, pathItem.getGet()));
-        addOperationToService(service, discoverOperation(aggregate, pathItem.getPut()));
-        addOperationToService(service, discoverOperation(aggregate, pathItem.getPost()));
-        addOperationToService(service, discoverOperation(aggregate, pathItem.getDelete()));
-        addOperationToService(service, discoverOperation(aggregate, pathItem.getOptions()));
-        addOperationToService(service, discoverOperation(aggregate, pathItem.getHead()));
-        addOperationToService(service, discoverOperation(aggregate, pathItem.getPatch()));
-        addOperationToService(service, discoverOperation(aggregate, pathItem.getTrace()));
-
-        return aggregate;
+    @Override
+    public Set<BoundedContext> discoverBoundedContexts() {
+        this.referencedFiles.clear();
+        return new HashSet<>(mapConcurrently(new ArrayList<>(oasLocations), this::discoverBoundedContext));
     }
 
-    private void addOperationToService(Service service, Method operation) {
-        if (operation != null)
-            service.addOperation(operation);
+    private BoundedContext discoverBoundedContext(String location) {
+        Path localSpecification = getLocalFile(location);
+        if (localSpecification == null)
+            return parseAndConvert(location);
+
+        Map<Path, byte[]> contents = readSpecificationWithReferences(localSpecification);
+        this.referencedFiles.put(location, new HashSet<>(contents.keySet()));
+        if (cache == null)
+            return parseAndConvert(location);
+
+        String key = createCacheKey(contents);
+        Set<BoundedContext> cachedBoundedContexts = cache.load(key);
+        if (cachedBoundedContexts != null && cachedBoundedContexts.size() == 1)
+            return cachedBoundedContexts.iterator().next();
+
+        BoundedContext boundedContext = parseAndConvert(location);
+        cache.store(key, Collections.singleton(boundedContext));
+        return boundedContext;
     }
 
-    private Method discoverOperation(Aggregate aggregate, Operation oasOperation) {
-        if (oasOperation == null || oasOperation.getOperationId() == null || "".equals(oasOperation.getOperationId()))
-            return null;
+    private BoundedContext parseAndConvert(String location) {
+        PhaseMeasurement parsing = PhaseMeasurement.start(metricsListener);
+        var parseResult = new OpenAPIV3Parser().readLocation(location, null, new ParseOptions());
+        parsing.complete(getMetricsSource(), DiscoveryPhase.SPECIFICATION_PARSING);
+        if (!parseResult.getMessages().isEmpty())
+            LOG.error("Parsing the OAS '" + location + "' resulted in validation errors: " + String.join(", ", parseResult.getMessages()));
+        var oas = parseResult.getOpenAPI();
+        if (oas == null)
+            throw new RuntimeException("Could not successfully parse OAS!");
+        return new OASConverter(oas).discoverBoundedContext();
+    }
 
-        var operation = new Method(oasOperation.getOperationId());
+    private Path getLocalFile(String location) {
+        Path path = normalizePath(location);
+        return path != null && Files.isRegularFile(path) ? path : null;
+    }
 
-        // parameters
-        if (oasOperation.getParameters() != null) {
-            for (io.swagger.v3.oas.models.parameters.Parameter parameter : oasOperation.getParameters()) {
-                operation.addParameter(discoverParameter(aggregate, parameter));
-            }
+    private Path normalizePath(String location) {
+        try {
+            Path path = location.startsWith("file:") ? Paths.get(new URI(location)) : Paths.get(location);
+            return path.toAbsolutePath().normalize();
+        } catch (Exception e) {
+            return null; // not a local file (e.g. http URL)
         }
+    }
 
-        // request body
-        if (oasOperation.getRequestBody() != null && oasOperation.getRequestBody().getContent() != null &&
-                oasOperation.getRequestBody().getContent().containsKey(JSON_MEDIA_TYPE)) {
-            operation.addParameter(new Parameter("input",
-                    createType4JSONContent(oasOperation.getRequestBody().getContent(), aggregate,
-                            formatTypeName(oasOperation.getOperationId() + "ParameterType"))));
+    private Path getReferencedLocalFile(Path referencingFile, String reference) {
+        try {
+            return getLocalFile(referencingFile.resolveSibling(reference).toString());
+        } catch (InvalidPathException e) {
+            return null; // not a local file (e.g. http URL)
         }
+    }
 
-        // return type (currently an endpoint can only have one response, otherwise we do not discover)
-        if (oasOperation.getResponses() != null && oasOperation.getResponses().size() == 1) {
-            String responseKey = oasOperation.getResponses().keySet().iterator().next();
-            ApiResponse response = oasOperation.getResponses().get(responseKey);
-            // we currently only support json; TODO: implement more generic solution
-            if (response.getContent() != null && response.getContent().containsKey(JSON_MEDIA_TYPE))
-                operation.setReturnType(createType4JSONContent(response.getContent(), aggregate, oasOperation.getOperationId() + "ReturnType"));
+    /**
+     * Reads the specification and all local files it references (transitively), in a deterministic order.
+     */
+    private Map<Path, byte[]> readSpecificationWithReferences(Path specification) {
+        Map<Path, byte[]> contents = new LinkedHashMap<>();
+        Deque<Path> toVisit = new ArrayDeque<>();
+        toVisit.push(specification);
+        while (!toVisit.isEmpty()) {
+            Path file = toVisit.pop();
+            if (contents.containsKey(file))
+                continue;
+            byte[] content = readFile(file);
+            contents.put(file, content);
+            Matcher matcher = EXTERNAL_REF_PATTERN.matcher(new String(content, StandardCharsets.UTF_8));
+            while (matcher.find()) {
+                Path referencedFile = getReferencedLocalFile(file, matcher.group(1));
+                if (referencedFile != null && !contents.containsKey(referencedFile))
+                    toVisit.push(referencedFile);
+            }
         }
-
-        return operation;
+        return contents;
     }
 
-    private Parameter discoverParameter(Aggregate aggregate, io.swagger.v3.oas.models.parameters.Parameter oasParameter) {
-        var schema = oasParameter.getSchema();
-        if (isRefSchema(schema))
-            schema = resolveSchemaByRef(schema.get$ref());
-        return new Parameter(oasParameter.getName(), createType4Schema(aggregate, schema, oasParameter.getName() + "Type"));
+    /**
+     * Gets the local specification and the files it references, as read by the last discovery run.
+     */
+    private Set<Path> getReferencedFiles(String location) {
+        return referencedFiles.computeIfAbsent(location, l -> {
+            Path localSpecification = getLocalFile(l);
+            if (localSpecification == null)
+                return Collections.emptySet();
+            return new HashSet<>(readSpecificationWithReferences(localSpecification).keySet());
+        });
     }
 
-    private Type createType4JSONContent(Content content, Aggregate aggregate, String inputTypeName) {
-        Schema schema = content.get(JSON_MEDIA_TYPE).getSchema();
-        var typeName = inputTypeName;
-        if (isRefSchema(schema)) {
-            typeName = getTypeNameFromSchemaRef(schema.get$ref());
-            schema = resolveSchemaByRef(schema.get$ref());
+    private String createCacheKey(Map<Path, byte[]> contents) {
+        List<byte[]> keyContents = new ArrayList<>();
+        for (Map.Entry<Path, byte[]> file : contents.entrySet()) {
+            keyContents.add(file.getKey().getFileName().toString().getBytes(StandardCharsets.UTF_8));
+            keyContents.add(file.getValue());
         }
-        return createType4Schema(aggregate, schema, typeName);
+        return cache.createKey(CACHE_NAMESPACE, keyContents);
     }
 
-    private Type createType4Schema(Aggregate aggregate, Schema inputSchema, String inputTypeName) {
-        var schema = inputSchema;
-        var typeName = inputTypeName;
-        if (isRefSchema(schema)) {
-            typeName = getTypeNameFromSchemaRef(schema.get$ref());
-            schema = resolveSchemaByRef(schema.get$ref());
-        }
-
-        switch (schema.getType()) {
-            case "object":
-                DomainObject object = createEntity4Schema(aggregate, formatTypeName(typeName), schema);
-                return new Type(object);
-            case "array":
-                ArraySchema arraySchema = (ArraySchema) schema;
-                Type type = createType4Schema(aggregate, arraySchema.getItems(), typeName);
-                type.setCollectionType("List");
-                return type;
-            default:
-                return new Type(typeMapper.mapType(schema.getType()));
+    private byte[] readFile(Path file) {
+        try {
+            return Files.readAllBytes(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read OAS file '" + file + "'.", e);
         }
     }
 
-    private DomainObject createEntity4Schema(Aggregate aggregate, String objectName, Schema objectSchema) {
-        if (!domainObjectMap.containsKey(aggregate))
-            domainObjectMap.put(aggregate, new HashMap<>());
-
-        // don't create a new object, if an entity with that name already exists
-        if (domainObjectMap.get(aggregate).containsKey(objectName))
-            return domainObjectMap.get(aggregate).get(objectName);
-
-        // create entity
-        var domainObject = new DomainObject(DomainObjectType.ENTITY, objectName);
-        for (String propertyKey : (Set<String>) objectSchema.getProperties().keySet()) {
-            var property = (Schema) objectSchema.getProperties().get(propertyKey);
-            if (isRefSchema(property))
-                property = resolveSchemaByRef(property.get$ref());
-            Type type = null;
-            switch (property.getType()) {
+    /**
+     * Converts one parsed OAS into a Bounded Context. Holds the state of a single conversion, so that multiple
+     * specifications can be converted concurrently.
+     */
+    private class OASConverter {
+
+        private final OpenAPI oas;
+        private final Map<Aggregate, Map<String, DomainObject>> domainObjectMap;
+
+        OASConverter(OpenAPI oas) {
+            this.oas = oas;
+            this.domainObjectMap = new HashMap<>();
+        }
+
+        BoundedContext discoverBoundedContext() {
+            var bc = new BoundedContext(oas.getInfo().getTitle());
+            for (Map.Entry<String, PathItem> entry : oas.getPaths().entrySet()) {
+                bc.addAggregate(discoverAggregate(entry.getKey(), entry.getValue()));
+            }
+            return bc;
+        }
+
+        private Aggregate discoverAggregate(String pathItemKey, PathItem pathItem) {
+            var aggregateName = pathItemKey.substring(1).replace("/", "_"); // path key must start with '/'!
+            var aggregate = new Aggregate(aggregateName);
+            aggregate.setDiscoveryComment(pathItem.getSummary());
+
+            var service = new Service(aggregateName + "Service");
+            service.setDiscoveryComment("This service contains all operations of the following endpoint: " + pathItemKey);
+            aggregate.addService(service);
+
+            addOperationToService(service, discoverOperation(aggregate, pathItem.getGet()));
+            addOperationToService(service, discoverOperation(aggregate, pathItem.getPut()));
+            addOperationToService(service, discoverOperation(aggregate, pathItem.getPost()));
+            addOperationToService(service, discoverOperation(aggregate, pathItem.getDelete()));
+            addOperationToService(service, discoverOperation(aggregate, pathItem.getOptions()));
+            addOperationToService(service, discoverOperation(aggregate, pathItem.getHead()));
+            addOperationToService(service, discoverOperation(aggregate, pathItem.getPatch()));
+            addOperationToService(service, discoverOperation(aggregate, pathItem.getTrace()));
+
+            return aggregate;
+        }
+
+        private void addOperationToService(Service service, Method operation) {
+            if (operation != null)
+                service.addOperation(operation);
+        }
+
+        private Method discoverOperation(Aggregate aggregate, Operation oasOperation) {
+            if (oasOperation == null || oasOperation.getOperationId() == null || "".equals(oasOperation.getOperationId()))
+                return null;
+
+            var operation = new Method(oasOperation.getOperationId());
+
+            // parameters
+            if (oasOperation.getParameters() != null) {
+                for (io.swagger.v3.oas.models.parameters.Parameter parameter : oasOperation.getParameters()) {
+                    operation.addParameter(discoverParameter(aggregate, parameter));
+                }
+            }
+
+            // request body
+            if (oasOperation.getRequestBody() != null && oasOperation.getRequestBody().getContent() != null &&
+                    oasOperation.getRequestBody().getContent().containsKey(JSON_MEDIA_TYPE)) {
+                operation.addParameter(new Parameter("input",
+                        createType4JSONContent(oasOperation.getRequestBody().getContent(), aggregate,
+                                formatTypeName(oasOperation.getOperationId() + "ParameterType"))));
+            }
+
+            // return type (currently an endpoint can only have one response, otherwise we do not discover)
+            if (oasOperation.getResponses() != null && oasOperation.getResponses().size() == 1) {
+                String responseKey = oasOperation.getResponses().keySet().iterator().next();
+                ApiResponse response = oasOperation.getResponses().get(responseKey);
+                // we currently only support json; TODO: implement more generic solution
+                if (response.getContent() != null && response.getContent().containsKey(JSON_MEDIA_TYPE))
+                    operation.setReturnType(createType4JSONContent(response.getContent(), aggregate, oasOperation.getOperationId() + "ReturnType"));
+            }
+
+            return operation;
+        }
+
+        private Parameter discoverParameter(Aggregate aggregate, io.swagger.v3.oas.models.parameters.Parameter oasParameter) {
+            var schema = oasParameter.getSchema();
+            if (isRefSchema(schema))
+                schema = resolveSchemaByRef(schema.get$ref());
+            return new Parameter(oasParameter.getName(), createType4Schema(aggregate, schema, oasParameter.getName() + "Type"));
+        }
+
+        private Type createType4JSONContent(Content content, Aggregate aggregate, String inputTypeName) {
+            Schema schema = content.get(JSON_MEDIA_TYPE).getSchema();
+            var typeName = inputTypeName;
+            if (isRefSchema(schema)) {
+                typeName = getTypeNameFromSchemaRef(schema.get$ref());
+                schema = resolveSchemaByRef(schema.get$ref());
+            }
+            return createType4Schema(aggregate, schema, typeName);
+        }
+
+        private Type createType4Schema(Aggregate aggregate, Schema inputSchema, String inputTypeName) {
+            var schema = inputSchema;
+            var typeName = inputTypeName;
+            if (isRefSchema(schema)) {
+                typeName = getTypeNameFromSchemaRef(schema.get$ref());
+                schema = resolveSchemaByRef(schema.get$ref());
+            }
+
+            switch (schema.getType()) {
                 case "object":
-                    type = new Type(createEntity4Schema(aggregate, formatTypeName(propertyKey + "Type"), property));
-                    break;
+                    DomainObject object = createEntity4Schema(aggregate, formatTypeName(typeName), schema);
+                    return new Type(object);
+                case "array":
+                    ArraySchema arraySchema = (ArraySchema) schema;
+                    Type type = createType4Schema(aggregate, arraySchema.getItems(), typeName);
+                    if (type.isDomainObjectType())
+                        return new Type(type.getDomainObjectType(), "List");
+                    return new Type(type.getPrimitiveType(), "List");
                 default:
-                    type = new Type(typeMapper.mapType(property.getType()));
+                    return new Type(typeMapper.mapType(schema.getType()));
             }
-            domainObject.addAttribute(new Attribute(type, propertyKey));
         }
 
-        aggregate.addDomainObject(domainObject);
-        domainObjectMap.get(aggregate).put(objectName, domainObject);
-        return domainObject;
-    }
+        private DomainObject createEntity4Schema(Aggregate aggregate, String objectName, Schema objectSchema) {
+            if (!domainObjectMap.containsKey(aggregate))
+                domainObjectMap.put(aggregate, new HashMap<>());
+
+            // don't create a new object, if an entity with that name already exists
+            if (domainObjectMap.get(aggregate).containsKey(objectName))
+                return domainObjectMap.get(aggregate).get(objectName);
+
+            // create entity
+            var domainObject = new DomainObject(DomainObjectType.ENTITY, objectName);
+            for (String propertyKey : (Set<String>) objectSchema.getProperties().keySet()) {
+                var property = (Schema) objectSchema.getProperties().get(propertyKey);
+                if (isRefSchema(property))
+                    property = resolveSchemaByRef(property.get$ref());
+                Type type = null;
+                switch (property.getType()) {
+                    case "object":
+                        type = new Type(createEntity4Schema(aggregate, formatTypeName(propertyKey + "Type"), property));
+                        break;
+                    default:
+                        type = new Type(typeMapper.mapType(property.getType()));
+                }
+                domainObject.addAttribute(new Attribute(type, propertyKey));
+            }
 
-    private String formatTypeName(String typeName) {
-        return typeName.substring(0, 1).toUpperCase() + (typeName.length() > 1 ? typeName.substring(1) : "");
-    }
+            aggregate.addDomainObject(domainObject);
+            domainObjectMap.get(aggregate).put(objectName, domainObject);
+            return domainObject;
+        }
 
-    private boolean isRefSchema(Schema schema) {
-        return schema.get$ref() != null && !"".equals(schema.get$ref());
-    }
+        private String formatTypeName(String typeName) {
+            return typeName.substring(0, 1).toUpperCase() + (typeName.length() > 1 ? typeName.substring(1) : "");
+        }
 
-    private Schema resolveSchemaByRef(String ref) {
-        return currentOAS.getComponents().getSchemas().get(getTypeNameFromSchemaRef(ref));
-    }
+        private boolean isRefSchema(Schema schema) {
+            return schema.get$ref() != null && !"".equals(schema.get$ref());
+        }
 
-    private String getTypeNameFromSchemaRef(String ref) {
-        return ref.replace(RefType.SCHEMAS.getInternalPrefix(), "");
+        private Schema resolveSchemaByRef(String ref) {
+            return oas.getComponents().getSchemas().get(getTypeNameFromSchemaRef(ref));
+        }
+
+        private String getTypeNameFromSchemaRef(String ref) {
+            return ref.replace(RefType.SCHEMAS.getInternalPrefix(), "");
+        }
     }
 
 }
@@ -25,14 +25,32 @@ import java.util.Set;
 public class SpringBootBoundedContextDiscoveryStrategy extends AbstractRESTResourceBasedBoundedContextDiscoveryStrategy implements BoundedContextDiscoveryStrategy {
 
     private String packageName;
+    private AnnotationScanner annotationScanner;
 
     public SpringBootBoundedContextDiscoveryStrategy(String packageName) {
+        this(packageName, new AnnotationScanner());
+    }
+
+    /**
+     * Creates the strategy with a given annotation scanner. Pass the same scanner to all strategies of a discovery run
+     * to scan the classpath only once.
+     *
+     * @param packageName       the package within which to search for Spring Boot applications
+     * @param annotationScanner the (shared) annotation scanner
+     */
+    public SpringBootBoundedContextDiscoveryStrategy(String packageName, AnnotationScanner annotationScanner) {
         this.packageName = packageName;
+        this.annotationScanner = annotationScanner;
+    }
+
+    @Override
+    public boolean isAffectedBy(String changedInput) {
+        return isPackageAffectedBy(packageName, changedInput);
     }
 
     @Override
     protected Set<Class<?>> findBoundedContextTypes() {
-        return new AnnotationScanner().scanForAnnotatedType(packageName, SpringBootApplication.class);
+        return annotationScanner.scanForAnnotatedType(packageName, SpringBootApplication.class);
     }
 
     @Override
@@ -42,20 +60,39 @@ public class SpringBootBoundedContextDiscoveryStrategy extends AbstractRESTResou
 
     @Override
     protected Set<Class<?>> findResourceTypes(String packageName) {
-        return new AnnotationScanner().scanForAnnotatedType(packageName, RequestMapping.class);
+        return annotationScanner.scanForAnnotatedType(packageName, RequestMapping.class);
     }
 
     @Override
     protected String findResourcePath(Class<?> resourceType) {
-        RequestMapping requestMapping = resourceType.getAnnotation(RequestMapping.class);
-        if (requestMapping.value().length > 0)
+        RequestMapping requestMapping = findRequestMapping(resourceType);
+        if (requestMapping != null && requestMapping.value().length > 0)
             return requestMapping.value()[0];
         return "";
     }
 
+    /**
+     * @RequestMapping is not @Inherited: search the superclasses and interfaces as well, since the resource types
+     * include the subtypes of annotated classes (as returned by Reflections).
+     */
+    private RequestMapping findRequestMapping(Class<?> type) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            if (c.isAnnotationPresent(RequestMapping.class))
+                return c.getAnnotation(RequestMapping.class);
+        }
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            for (Class<?> interfaceType : c.getInterfaces()) {
+                RequestMapping requestMapping = findRequestMapping(interfaceType);
+                if (requestMapping != null)
+                    return requestMapping;
+            }
+        }
+        return null;
+    }
+
     @Override
     protected Set<Method> findResourceMethods(Class<?> resourceType) {
-        return new AnnotationScanner().scanForAnnotatedMethods(resourceType, RequestMapping.class, PutMapping.class,
+        return annotationScanner.scanForAnnotatedMethods(resourceType, RequestMapping.class, PutMapping.class,
                 GetMapping.class, PostMapping.class, PatchMapping.class, DeleteMapping.class);
     }
 
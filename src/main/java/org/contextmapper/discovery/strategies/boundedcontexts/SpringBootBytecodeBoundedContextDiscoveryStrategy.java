@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.strategies.boundedcontexts;
+
+import org.contextmapper.discovery.metrics.DiscoveryCount;
+import org.contextmapper.discovery.model.BoundedContext;
+import org.contextmapper.discovery.strategies.helper.JavaMethod;
+import org.contextmapper.discovery.strategies.helper.bytecode.ClassFileIndex;
+import org.contextmapper.discovery.strategies.helper.bytecode.ClassFileJavaType;
+import org.contextmapper.discovery.strategies.helper.bytecode.ClassInfo;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Discovers Spring Boot applications in the same way as the {@link SpringBootBoundedContextDiscoveryStrategy}, but by
+ * reading the compiled class files (directories or JARs) directly instead of loading the classes. The applications do
+ * not have to be on the classpath and their static initializers are never run; Spring itself is not needed either.
+ * <p>
+ * Only the given directories and JARs are read: fields inherited from classes outside of them are not discovered.
+ */
+public class SpringBootBytecodeBoundedContextDiscoveryStrategy extends AbstractJavaTypeBasedBoundedContextDiscoveryStrategy<ClassFileJavaType> implements BoundedContextDiscoveryStrategy {
+
+    private static final String SPRING_BOOT_APPLICATION = "org.springframework.boot.autoconfigure.SpringBootApplication";
+    private static final String REQUEST_MAPPING = "org.springframework.web.bind.annotation.RequestMapping";
+    private static final List<String> RESOURCE_METHOD_ANNOTATIONS = Arrays.asList(REQUEST_MAPPING,
+            "org.springframework.web.bind.annotation.PutMapping", "org.springframework.web.bind.annotation.GetMapping",
+            "org.springframework.web.bind.annotation.PostMapping", "org.springframework.web.bind.annotation.PatchMapping",
+            "org.springframework.web.bind.annotation.DeleteMapping");
+
+    private String packageName;
+    private File[] classpathEntries;
+    private ClassFileIndex sharedIndex;
+
+    private ClassFileIndex index;
+
+    /**
+     * Creates the strategy for the given directories and JAR files. They are read again for every discovery run.
+     *
+     * @param packageName      the package within which to search for Spring Boot applications
+     * @param classpathEntries the directories (containing class files) and JAR files of the applications
+     */
+    public SpringBootBytecodeBoundedContextDiscoveryStrategy(String packageName, File... classpathEntries) {
+        this.packageName = packageName;
+        this.classpathEntries = classpathEntries;
+        ClassFileIndex.validate(classpathEntries);
+    }
+
+    /**
+     * Creates the strategy with a given class file index. Pass the same index to all strategies of a discovery run to
+     * read the class files only once.
+     *
+     * @param packageName    the package within which to search for Spring Boot applications
+     * @param classFileIndex the (shared) class file index
+     */
+    public SpringBootBytecodeBoundedContextDiscoveryStrategy(String packageName, ClassFileIndex classFileIndex) {
+        this.packageName = packageName;
+        this.sharedIndex = classFileIndex;
+    }
+
+    /**
+     * Creates one strategy per JAR file within the given directory (for example a folder with the Spring Boot fat JARs
+     * of all your microservices). Each JAR is indexed on its own, so the strategies can be applied concurrently with
+     * {@link org.contextmapper.discovery.ContextMapDiscoverer#usingParallelBoundedContextDiscovery()}.
+     *
+     * @param packageName the package within which to search for Spring Boot applications
+     * @param directory   the directory containing the JAR files
+     * @return the strategies, ordered by the names of the JAR files
+     */
+    public static SpringBootBytecodeBoundedContextDiscoveryStrategy[] forJarsIn(String packageName, File directory) {
+        if (directory == null || !directory.isDirectory())
+            throw new IllegalArgumentException("The directory '" + directory + "' does not exist.");
+        File[] jars = directory.listFiles(f -> f.isFile() && f.getName().endsWith(".jar"));
+        if (jars == null || jars.length == 0)
+            throw new IllegalArgumentException("The directory '" + directory + "' does not contain any JAR files.");
+        Arrays.sort(jars, Comparator.comparing(File::getName));
+        return Arrays.stream(jars)
+                .map(jar -> new SpringBootBytecodeBoundedContextDiscoveryStrategy(packageName, jar))
+                .toArray(SpringBootBytecodeBoundedContextDiscoveryStrategy[]::new);
+    }
+
+    @Override
+    public SpringBootBytecodeBoundedContextDiscoveryStrategy usingLazyAggregates() {
+        super.usingLazyAggregates();
+        return this;
+    }
+
+    @Override
+    public Set<BoundedContext> discoverBoundedContexts() {
+        resolvePendingAggregates();
+        this.index = sharedIndex != null ? sharedIndex : new ClassFileIndex(classpathEntries);
+        Set<BoundedContext> boundedContexts = super.discoverBoundedContexts();
+        metricsListener.countRecorded(getMetricsSource(), DiscoveryCount.SCANNED_CLASSES, index.size());
+        return boundedContexts;
+    }
+
+    @Override
+    public boolean isAffectedBy(String changedInput) {
+        return isPackageAffectedBy(packageName, changedInput);
+    }
+
+    @Override
+    protected Set<ClassFileJavaType> findBoundedContextJavaTypes() {
+        return findTypesAnnotatedWith(packageName, SPRING_BOOT_APPLICATION);
+    }
+
+    @Override
+    protected String findBoundedContextTechnology(ClassFileJavaType boundedContextType) {
+        return "Spring Boot";
+    }
+
+    @Override
+    protected Set<ClassFileJavaType> findResourceJavaTypes(String packageName) {
+        return findTypesAnnotatedWith(packageName, REQUEST_MAPPING);
+    }
+
+    @Override
+    protected String findResourcePath(ClassFileJavaType resourceType) {
+        ClassInfo.AnnotationInfo requestMapping = index.findAnnotation(resourceType.getClassInfo(), REQUEST_MAPPING);
+        if (requestMapping == null)
+            return "";
+        List<String> paths = requestMapping.getStringValues("value");
+        return paths.isEmpty() ? "" : paths.get(0);
+    }
+
+    @Override
+    protected List<JavaMethod> findResourceMethods(ClassFileJavaType resourceType) {
+        return resourceType.getMethodsAnnotatedWith(RESOURCE_METHOD_ANNOTATIONS);
+    }
+
+    private Set<ClassFileJavaType> findTypesAnnotatedWith(String packageName, String annotationType) {
+        return index.findTypesAnnotatedWith(packageName, annotationType).stream()
+                .map(type -> new ClassFileJavaType(type, index))
+                .collect(Collectors.toSet());
+    }
+
+}
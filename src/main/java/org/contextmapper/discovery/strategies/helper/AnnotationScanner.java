@@ -16,25 +16,28 @@
 package org.contextmapper.discovery.strategies.helper;
 
 import org.reflections.Reflections;
-import org.reflections.util.ClasspathHelper;
-import org.reflections.util.ConfigurationBuilder;
-import org.reflections.util.FilterBuilder;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
-import static org.reflections.scanners.Scanners.*;
-
 /**
  * Provides methods for annotation scanning.
+ * <p>
+ * The classpath is scanned only once per package: the resulting index is kept in memory and used to answer all
+ * subsequent queries for the same package and its sub-packages. Share one instance between all strategies of a
+ * discovery run to avoid scanning the same classpath entries multiple times.
  *
  * @author Stefan Kapferer
  */
 public class AnnotationScanner {
 
+    private final Map<String, Reflections> scanIndex = new ConcurrentHashMap<>();
+
     /**
      * Finds all types within a package annotated with a given annotation.
      *
@@ -43,12 +46,16 @@ public class AnnotationScanner {
      * @return the set of types within the given package which are annotated with the given annotation
      */
     public Set<Class<?>> scanForAnnotatedType(String packageName, Class<? extends Annotation> annotation) {
-        Reflections reflections = new Reflections(packageName);
-        return reflections.getTypesAnnotatedWith(annotation);
+        String indexedPackageName = findIndexedPackage(packageName);
+        return getScanIndex(indexedPackageName).getTypesAnnotatedWith(annotation).stream()
+                .filter(t -> isWithinPackage(t.getName(), packageName))
+                .collect(Collectors.toSet());
     }
 
     /**
      * Finds all methods of a type which are annotated with a given annotation.
+     * <p>
+     * Only the methods declared by the given type itself are inspected (no classpath scanning is needed).
      *
      * @param type        the type within which you want to search for methods
      * @param annotations the annotations with which the methods must be annotated (at least one of the given annotations)
@@ -56,15 +63,44 @@ public class AnnotationScanner {
      */
     public Set<Method> scanForAnnotatedMethods(Class<?> type, Class<? extends Annotation>... annotations) {
         Set<Method> methods = new HashSet<>();
-        Reflections reflections = new Reflections(new ConfigurationBuilder()
-                .setUrls(ClasspathHelper.forClass(type))
-                .setScanners(TypesAnnotated, MethodsAnnotated, MethodsReturn)
-                .filterInputsBy(new FilterBuilder().includePackage(type.getPackageName()))
-        );
-        for (Class<? extends Annotation> annotation : annotations) {
-            methods.addAll(reflections.getMethodsAnnotatedWith(annotation));
+        for (Method method : type.getDeclaredMethods()) {
+            if (method.isBridge() || method.isSynthetic())
+                continue;
+            for (Class<? extends Annotation> annotation : annotations) {
+                if (method.isAnnotationPresent(annotation)) {
+                    methods.add(method);
+                    break;
+                }
+            }
         }
-        return methods.stream().filter(m -> m.getDeclaringClass().equals(type)).collect(Collectors.toSet());
+        return methods;
+    }
+
+    /**
+     * Gets the index of the given package; the classpath is scanned if the package has not been indexed yet.
+     */
+    private Reflections getScanIndex(String packageName) {
+        return scanIndex.computeIfAbsent(packageName, p -> new Reflections(p));
+    }
+
+    /**
+     * Finds an already indexed package containing the given package. Returns the given package itself, if there is no
+     * such index yet.
+     */
+    private String findIndexedPackage(String packageName) {
+        for (String indexedPackageName : scanIndex.keySet()) {
+            if (isWithinPackage(packageName, indexedPackageName))
+                return indexedPackageName;
+        }
+        return packageName;
+    }
+
+    /**
+     * Checks whether a (type or package) name is the given package or within it. Whole name segments are compared, so
+     * that 'com.example.shopping' is not within 'com.example.shop'.
+     */
+    private boolean isWithinPackage(String name, String packageName) {
+        return name.equals(packageName) || name.startsWith(packageName + ".");
     }
 
 }
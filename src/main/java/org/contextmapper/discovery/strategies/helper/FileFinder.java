@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.strategies.helper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collectors;
+
+/**
+ * Finds files by name within a directory tree. The sub-directories are walked in parallel (on the common fork-join
+ * pool), and excluded directories (for example 'node_modules' or '.git') are not entered at all.
+ * <p>
+ * The include and exclude patterns are globs (see {@link FileSystem#getPathMatcher(String)}) matched against the
+ * names of the files and directories only, for example 'docker-compose*.{yml,yaml}'. Symbolic links to directories
+ * are not followed.
+ */
+public class FileFinder {
+
+    private final List<PathMatcher> includedFiles;
+    private final List<PathMatcher> excludedDirectories;
+
+    /**
+     * Creates a finder for the given patterns.
+     *
+     * @param includedFiles       the patterns for the names of the files to be found
+     * @param excludedDirectories the patterns for the names of the directories which shall not be searched
+     */
+    public FileFinder(Collection<String> includedFiles, Collection<String> excludedDirectories) {
+        if (includedFiles == null || includedFiles.isEmpty())
+            throw new IllegalArgumentException("Please provide at least one pattern for the files to be found.");
+        this.includedFiles = createMatchers(includedFiles);
+        this.excludedDirectories = createMatchers(excludedDirectories == null ? Collections.emptyList() : excludedDirectories);
+    }
+
+    /**
+     * Finds all matching files within the given directory and its (not excluded) sub-directories.
+     *
+     * @param directory the root directory of the search (never excluded itself)
+     * @return the found files, sorted by their paths
+     */
+    public List<Path> find(Path directory) {
+        if (!Files.isDirectory(directory))
+            throw new IllegalArgumentException("The directory '" + directory + "' does not exist.");
+        List<Path> files = ForkJoinPool.commonPool().invoke(new DirectoryWalk(directory));
+        Collections.sort(files);
+        return files;
+    }
+
+    /**
+     * Checks whether a file would be found by this finder (without accessing the file system).
+     *
+     * @param directory the root directory of the search
+     * @param file      the file to be checked
+     * @return true, if the file is within the given directory, matches the include patterns and is not within an excluded directory
+     */
+    public boolean matches(Path directory, Path file) {
+        Path root = directory.toAbsolutePath().normalize();
+        Path path = file.toAbsolutePath().normalize();
+        if (!path.startsWith(root) || path.equals(root) || !isIncludedFile(path.getFileName()))
+            return false;
+        Path relativeParent = root.relativize(path).getParent();
+        if (relativeParent == null)
+            return true;
+        for (Path name : relativeParent) {
+            if (isExcludedDirectory(name))
+                return false;
+        }
+        return true;
+    }
+
+    private boolean isIncludedFile(Path name) {
+        return includedFiles.stream().anyMatch(m -> m.matches(name));
+    }
+
+    private boolean isExcludedDirectory(Path name) {
+        return excludedDirectories.stream().anyMatch(m -> m.matches(name));
+    }
+
+    private List<PathMatcher> createMatchers(Collection<String> patterns) {
+        return patterns.stream()
+                .map(p -> FileSystems.getDefault().getPathMatcher("glob:" + p))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Walks one directory: collects the matching files and forks a new walk for every sub-directory.
+     */
+    private class DirectoryWalk extends RecursiveTask<List<Path>> {
+
+        private final Path directory;
+
+        private DirectoryWalk(Path directory) {
+            this.directory = directory;
+        }
+
+        @Override
+        protected List<Path> compute() {
+            List<Path> files = new ArrayList<>();
+            List<DirectoryWalk> subDirectoryWalks = new ArrayList<>();
+            try {
+                Files.walkFileTree(directory, EnumSet.noneOf(FileVisitOption.class), 1, new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                        if (attributes.isDirectory()) {
+                            // with a maximum depth of 1, the sub-directories are passed to this method
+                            if (!isExcludedDirectory(file.getFileName()))
+                                subDirectoryWalks.add(new DirectoryWalk(file));
+                        } else if (isIncludedFile(file.getFileName())) {
+                            files.add(file);
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException e) {
+                        // unreadable files and directories are skipped
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read the directory '" + directory + "'.", e);
+            }
+            for (DirectoryWalk walk : ForkJoinTask.invokeAll(subDirectoryWalks)) {
+                files.addAll(walk.join());
+            }
+            return files;
+        }
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.strategies.helper;
+
+import java.util.List;
+
+/**
+ * A method of a {@link JavaType}.
+ */
+public interface JavaMethod {
+
+    String getName();
+
+    /**
+     * Gets the (generic, if known) return type of the method.
+     *
+     * @return the return type of the method ('void' for methods without return value)
+     */
+    JavaType getReturnType();
+
+    /**
+     * Gets the (generic, if known) types of the parameters.
+     *
+     * @return the types of the parameters
+     */
+    List<JavaType> getParameterTypes();
+
+    /**
+     * Gets the names of the parameters. The names are only known if the class has been compiled with '-parameters';
+     * 'arg0', 'arg1', ... are returned otherwise.
+     *
+     * @return the names of the parameters
+     */
+    List<String> getParameterNames();
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.strategies.helper;
+
+import java.util.List;
+
+/**
+ * A (possibly parameterized) Java type as seen by the discovery strategies, independent of whether it is read with
+ * reflection from a loaded class ({@link ReflectionJavaType}) or from a class file
+ * ({@link org.contextmapper.discovery.strategies.helper.bytecode.ClassFileJavaType}).
+ */
+public interface JavaType {
+
+    /**
+     * Gets the binary name of the type (for example 'java.util.List', 'int' or 'com.example.Outer$Inner'). For type
+     * variables and wildcards, the name of the variable or '?' is returned.
+     *
+     * @return the name of the type (without array brackets)
+     */
+    String getName();
+
+    /**
+     * Gets the simple name of the type, as {@link Class#getSimpleName()} would return it (including '[]' for arrays).
+     *
+     * @return the simple name of the type
+     */
+    String getSimpleName();
+
+    /**
+     * Gets the package of the type.
+     *
+     * @return the package name; an empty String for primitive types, arrays, type variables and types in the default package
+     */
+    String getPackageName();
+
+    /**
+     * Checks whether the type refers to a class or primitive type (not to a type variable or a wildcard).
+     *
+     * @return true, if the type refers to a class or primitive type
+     */
+    boolean isClass();
+
+    boolean isArray();
+
+    /**
+     * Gets the type arguments of a parameterized type.
+     *
+     * @return the type arguments; empty if the type is not parameterized
+     */
+    List<JavaType> getTypeArguments();
+
+    /**
+     * Gets the superclass of the type.
+     *
+     * @return the superclass; null for java.lang.Object, interfaces, primitive types and superclasses which are not known
+     */
+    JavaType getSuperclass();
+
+    /**
+     * Gets the fields of the type and its (known) superclasses, excluding the fields generated by the compiler.
+     *
+     * @return the fields of the type (superclass fields first)
+     */
+    List<JavaField> getAllFields();
+
+}
@@ -20,7 +20,6 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Some helper methods for scanning entities etc.
@@ -29,6 +28,38 @@ import java.util.stream.Collectors;
  */
 public class ReflectionHelpers {
 
+    /**
+     * The fields of a type including the fields of its superclasses. Computed once per class; {@link ClassValue} is
+     * safe for concurrent use and does not prevent classes from being unloaded.
+     */
+    private static final ClassValue<List<Field>> ALL_FIELDS = new ClassValue<List<Field>>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            if (type.getSuperclass() != null)
+                fields.addAll(get(type.getSuperclass()));
+            for (Field field : type.getDeclaredFields()) {
+                if (!field.getName().startsWith("$"))
+                    fields.add(field);
+            }
+            return Collections.unmodifiableList(fields);
+        }
+    };
+
+    /**
+     * The element types of the fields declared by a type (see {@link #getFieldElementType(Field)}).
+     */
+    private static final ClassValue<Map<Field, Class<?>>> FIELD_ELEMENT_TYPES = new ClassValue<Map<Field, Class<?>>>() {
+        @Override
+        protected Map<Field, Class<?>> computeValue(Class<?> type) {
+            Map<Field, Class<?>> elementTypes = new HashMap<>();
+            for (Field field : type.getDeclaredFields()) {
+                elementTypes.put(field, resolveElementType(field));
+            }
+            return Collections.unmodifiableMap(elementTypes);
+        }
+    };
+
     /**
      * Gets the actual types of a parameterized type.
      *
@@ -49,16 +80,23 @@ public class ReflectionHelpers {
      * Gets all fields of a type.
      *
      * @param type the type for which the fields shall be returned
-     * @return the list of fields of the given type
+     * @return the list of fields of the given type (superclass fields first)
      */
     public List<Field> getAllFieldsOfType(Class<?> type) {
         if (type == null) {
             return Collections.emptyList();
         }
+        return new ArrayList<>(ALL_FIELDS.get(type));
+    }
 
-        List<Field> result = new ArrayList<>(getAllFieldsOfType(type.getSuperclass()));
-        result.addAll(Arrays.asList(type.getDeclaredFields()).stream().filter(f -> !f.getName().startsWith("$")).collect(Collectors.toSet()));
-        return result;
+    /**
+     * Gets the type of a field or, if the field is a collection, set, or list, the type of its elements.
+     *
+     * @param field the field for which the (element) type shall be returned
+     * @return the element type of a collection field, the type of the field otherwise
+     */
+    public Class<?> getFieldElementType(Field field) {
+        return FIELD_ELEMENT_TYPES.get(field.getDeclaringClass()).get(field);
     }
 
     /**
@@ -68,6 +106,10 @@ public class ReflectionHelpers {
      * @return true, if the given type is a set, list, or collection. false otherwise.
      */
     public boolean isCollectionType(Class<?> type) {
+        return isCollection(type);
+    }
+
+    private static boolean isCollection(Class<?> type) {
         if (type.equals(List.class))
             return true;
         else if (type.equals(Set.class))
@@ -77,4 +119,14 @@ public class ReflectionHelpers {
         return false;
     }
 
+    private static Class<?> resolveElementType(Field field) {
+        if (!isCollection(field.getType()) || !(field.getGenericType() instanceof ParameterizedType))
+            return field.getType();
+        for (Type actualType : ((ParameterizedType) field.getGenericType()).getActualTypeArguments()) {
+            if (actualType instanceof Class<?>)
+                return (Class<?>) actualType;
+        }
+        return field.getType();
+    }
+
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.strategies.helper;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link JavaType} read with reflection from a loaded class or generic type.
+ */
+public class ReflectionJavaType implements JavaType {
+
+    private static final ReflectionHelpers REFLECTION_HELPERS = new ReflectionHelpers();
+
+    private final Type type;
+    private final Class<?> rawType;
+
+    /**
+     * Creates the Java type for a class or a generic type (for example the generic type of a field or method).
+     *
+     * @param type the class or generic type
+     */
+    public ReflectionJavaType(Type type) {
+        this.type = type;
+        if (type instanceof Class<?>)
+            this.rawType = (Class<?>) type;
+        else if (type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() instanceof Class<?>)
+            this.rawType = (Class<?>) ((ParameterizedType) type).getRawType();
+        else
+            this.rawType = null;
+    }
+
+    /**
+     * Gets the class of the type.
+     *
+     * @return the (raw) class of the type; null for type variables, wildcards and generic arrays
+     */
+    public Class<?> getJavaClass() {
+        return rawType;
+    }
+
+    /**
+     * Gets the methods of a class as {@link JavaMethod}s.
+     *
+     * @param methods the methods
+     * @return the methods as Java methods, in the given order
+     */
+    public static List<JavaMethod> toJavaMethods(Collection<Method> methods) {
+        return methods.stream().map(ReflectionJavaMethod::new).collect(Collectors.toList());
+    }
+
+    @Override
+    public String getName() {
+        if (rawType == null)
+            return type.getTypeName();
+        Class<?> componentType = rawType;
+        while (componentType.isArray()) {
+            componentType = componentType.getComponentType();
+        }
+        return componentType.getName();
+    }
+
+    @Override
+    public String getSimpleName() {
+        return rawType != null ? rawType.getSimpleName() : type.getTypeName();
+    }
+
+    @Override
+    public String getPackageName() {
+        if (rawType == null || rawType.isArray() || rawType.isPrimitive())
+            return "";
+        return rawType.getPackageName();
+    }
+
+    @Override
+    public boolean isClass() {
+        return rawType != null;
+    }
+
+    @Override
+    public boolean isArray() {
+        return rawType != null && rawType.isArray();
+    }
+
+    @Override
+    public List<JavaType> getTypeArguments() {
+        if (!(type instanceof ParameterizedType))
+            return Collections.emptyList();
+        return Arrays.stream(((ParameterizedType) type).getActualTypeArguments())
+                .map(ReflectionJavaType::new)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public JavaType getSuperclass() {
+        if (rawType == null || rawType.getSuperclass() == null || rawType.getSuperclass() == Object.class)
+            return null;
+        return new ReflectionJavaType(rawType.getSuperclass());
+    }
+
+    @Override
+    public List<JavaField> getAllFields() {
+        if (rawType == null)
+            return Collections.emptyList();
+        return REFLECTION_HELPERS.getAllFieldsOfType(rawType).stream()
+                .map(ReflectionJavaField::new)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public String toString() {
+        return type.getTypeName();
+    }
+
+    private static class ReflectionJavaField implements JavaField {
+        private final Field field;
+
+        ReflectionJavaField(Field field) {
+            this.field = field;
+        }
+
+        @Override
+        public String getName() {
+            return field.getName();
+        }
+
+        @Override
+        public JavaType getType() {
+            return new ReflectionJavaType(field.getGenericType());
+        }
+
+        @Override
+        public JavaType getElementType() {
+            return new ReflectionJavaType(REFLECTION_HELPERS.getFieldElementType(field));
+        }
+    }
+
+    private static class ReflectionJavaMethod implements JavaMethod {
+        private final Method method;
+
+        ReflectionJavaMethod(Method method) {
+            this.method = method;
+        }
+
+        @Override
+        public String getName() {
+            return method.getName();
+        }
+
+        @Override
+        public JavaType getReturnType() {
+            return new ReflectionJavaType(method.getGenericReturnType());
+        }
+
+        @Override
+        public List<JavaType> getParameterTypes() {
+            return Arrays.stream(method.getParameters())
+                    .map(p -> new ReflectionJavaType(p.getParameterizedType()))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public List<String> getParameterNames() {
+            return Arrays.stream(method.getParameters()).map(Parameter::getName).collect(Collectors.toList());
+        }
+    }
+
+}
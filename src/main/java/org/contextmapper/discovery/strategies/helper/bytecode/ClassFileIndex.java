@@ -0,0 +1,250 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.strategies.helper.bytecode;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * An index of the class files within directories and JAR files. The class files are read (not loaded) when the index
+ * is queried the first time; static initializers are never run and the dependencies of the classes do not have to be
+ * available.
+ * <p>
+ * As on a classpath, the first class file found for a class name wins. In Spring Boot JARs, only the class files within
+ * the BOOT-INF/classes directory are indexed (the nested JARs in BOOT-INF/lib and the loader classes are not). JAR
+ * files are memory-mapped and their class files are parsed in parallel.
+ */
+public class ClassFileIndex {
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+    private static final String SPRING_BOOT_CLASSES = "BOOT-INF/classes/";
+    private static final String META_INF = "META-INF/";
+
+    private final List<File> classpathEntries;
+    private Map<String, ClassInfo> classes;
+
+    /**
+     * Creates an index for the given classpath entries.
+     *
+     * @param classpathEntries the directories (containing class files) and JAR files to be indexed
+     */
+    public ClassFileIndex(File... classpathEntries) {
+        validate(classpathEntries);
+        this.classpathEntries = Arrays.asList(classpathEntries);
+    }
+
+    /**
+     * Checks whether the given classpath entries can be indexed, without reading them.
+     *
+     * @param classpathEntries the directories (containing class files) and JAR files to be indexed
+     * @throws IllegalArgumentException if no entries are given or one of them does not exist
+     */
+    public static void validate(File... classpathEntries) {
+        if (classpathEntries == null || classpathEntries.length == 0)
+            throw new IllegalArgumentException("Please provide at least one directory or JAR file to be indexed.");
+        for (File entry : classpathEntries) {
+            if (entry == null || !entry.exists())
+                throw new IllegalArgumentException("The classpath entry '" + entry + "' does not exist.");
+        }
+    }
+
+    /**
+     * Finds all classes within a package (or its sub-packages) annotated with a given annotation, including the
+     * subtypes of annotated classes and interfaces (as Reflections does). See {@link #findAnnotation(ClassInfo, String)}.
+     *
+     * @param packageName    the package within which to search for the classes
+     * @param annotationType the name of the annotation type (for example 'org.springframework.web.bind.annotation.RequestMapping')
+     * @return the classes annotated with the given annotation
+     */
+    public Set<ClassInfo> findTypesAnnotatedWith(String packageName, String annotationType) {
+        return getClasses().values().stream()
+                .filter(c -> c.getName().startsWith(packageName + "."))
+                .filter(c -> findAnnotation(c, annotationType) != null)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Finds an annotation of a class, its superclasses or its interfaces: the class itself is searched first, then its
+     * superclasses and finally the interfaces (depth-first). Only the supertypes within the index are searched.
+     *
+     * @param type           the class
+     * @param annotationType the name of the annotation type
+     * @return the annotation or null, if neither the class nor one of its supertypes is annotated with it
+     */
+    public ClassInfo.AnnotationInfo findAnnotation(ClassInfo type, String annotationType) {
+        for (ClassInfo c = type; c != null; c = getSuperclass(c)) {
+            if (c.isAnnotatedWith(annotationType))
+                return c.getAnnotation(annotationType);
+        }
+        for (ClassInfo c = type; c != null; c = getSuperclass(c)) {
+            for (String interfaceName : c.getInterfaceNames()) {
+                ClassInfo interfaceType = getClassInfo(interfaceName);
+                ClassInfo.AnnotationInfo annotation = interfaceType != null ? findAnnotation(interfaceType, annotationType) : null;
+                if (annotation != null)
+                    return annotation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets a class of the index.
+     *
+     * @param className the binary name of the class (for example 'com.example.Outer$Inner')
+     * @return the class or null, if there is no class file for the given name
+     */
+    public ClassInfo getClassInfo(String className) {
+        return getClasses().get(className);
+    }
+
+    private ClassInfo getSuperclass(ClassInfo type) {
+        return type.getSuperclassName() != null ? getClassInfo(type.getSuperclassName()) : null;
+    }
+
+    /**
+     * Gets the number of indexed classes.
+     *
+     * @return the number of classes in the index
+     */
+    public int size() {
+        return getClasses().size();
+    }
+
+    private synchronized Map<String, ClassInfo> getClasses() {
+        if (classes == null) {
+            Map<String, ClassInfo> index = new HashMap<>();
+            for (File entry : classpathEntries) {
+                if (entry.isDirectory())
+                    indexDirectory(entry.toPath(), index);
+                else
+                    indexJar(entry, index);
+            }
+            classes = index;
+        }
+        return classes;
+    }
+
+    private void indexDirectory(Path directory, Map<String, ClassInfo> index) {
+        try (Stream<Path> files = Files.walk(directory)) {
+            List<ClassFile> classFiles = new ArrayList<>();
+            for (Path file : (Iterable<Path>) files.filter(f -> isClassFile(f.toString()))::iterator) {
+                classFiles.add(new ClassFile(file.toString(), ByteBuffer.wrap(Files.readAllBytes(file))));
+            }
+            addAll(classFiles, index);
+        } catch (IOException | UncheckedIOException e) {
+            throw new UncheckedIOException("Could not read the classes in '" + directory + "'.", unwrap(e));
+        }
+    }
+
+    private void indexJar(File jar, Map<String, ClassInfo> index) {
+        try {
+            List<ClassFile> classFiles = new ArrayList<>();
+            MappedJarFile mappedJar = new MappedJarFile(jar);
+            if (mappedJar.isSupported()) {
+                Predicate<String> filter = applicationClassFilter(mappedJar.containsEntry(this::isSpringBootClassFile));
+                mappedJar.readEntries(filter, (name, content) -> classFiles.add(new ClassFile(jar + "!/" + name, content)));
+            } else {
+                readEntries(jar, classFiles);
+            }
+            addAll(classFiles, index);
+        } catch (IOException | UncheckedIOException e) {
+            throw new UncheckedIOException("Could not read the classes in '" + jar + "'.", unwrap(e));
+        }
+    }
+
+    /**
+     * Reads the class files with {@link ZipFile}, for the archives not supported by {@link MappedJarFile}.
+     */
+    private void readEntries(File jar, List<ClassFile> classFiles) throws IOException {
+        try (ZipFile zipFile = new ZipFile(jar)) {
+            List<? extends ZipEntry> entries = Collections.list(zipFile.entries());
+            Predicate<String> filter = applicationClassFilter(entries.stream().anyMatch(e -> isSpringBootClassFile(e.getName())));
+            for (ZipEntry entry : entries) {
+                if (entry.isDirectory() || !filter.test(entry.getName()))
+                    continue;
+                try (InputStream in = zipFile.getInputStream(entry)) {
+                    classFiles.add(new ClassFile(jar + "!/" + entry.getName(), ByteBuffer.wrap(in.readAllBytes())));
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the filter for the classes of the application within a JAR: in Spring Boot JARs only the classes in
+     * BOOT-INF/classes, in other JARs all classes except the versioned ones in META-INF. The filter is applied to the
+     * entry names, so that the other class files are never inflated.
+     */
+    private Predicate<String> applicationClassFilter(boolean springBootJar) {
+        if (springBootJar)
+            return this::isSpringBootClassFile;
+        return name -> isClassFile(name) && !name.startsWith(META_INF);
+    }
+
+    private boolean isSpringBootClassFile(String name) {
+        return name.startsWith(SPRING_BOOT_CLASSES) && isClassFile(name);
+    }
+
+    /**
+     * Parses the class files in parallel and adds them to the index in the order in which they were found.
+     */
+    private void addAll(List<ClassFile> classFiles, Map<String, ClassInfo> index) {
+        List<ClassInfo> classInfos = classFiles.parallelStream()
+                .map(this::read)
+                .collect(Collectors.toList());
+        for (ClassInfo classInfo : classInfos) {
+            index.putIfAbsent(classInfo.getName(), classInfo);
+        }
+    }
+
+    private boolean isClassFile(String path) {
+        return path.endsWith(CLASS_FILE_SUFFIX) && !path.endsWith("module-info" + CLASS_FILE_SUFFIX)
+                && !path.endsWith("package-info" + CLASS_FILE_SUFFIX);
+    }
+
+    private ClassInfo read(ClassFile classFile) {
+        try {
+            return ClassFileParser.parse(classFile.content);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new UncheckedIOException(new IOException("Could not read class file '" + classFile.location + "'.", e));
+        }
+    }
+
+    private IOException unwrap(Exception e) {
+        return e instanceof UncheckedIOException ? ((UncheckedIOException) e).getCause() : (IOException) e;
+    }
+
+    private static class ClassFile {
+        private final String location;
+        private final ByteBuffer content;
+
+        private ClassFile(String location, ByteBuffer content) {
+            this.location = location;
+            this.content = content;
+        }
+    }
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.strategies.helper.bytecode;
+
+import org.contextmapper.discovery.strategies.helper.JavaField;
+import org.contextmapper.discovery.strategies.helper.JavaMethod;
+import org.contextmapper.discovery.strategies.helper.JavaType;
+import org.contextmapper.discovery.strategies.helper.bytecode.ClassInfo.FieldInfo;
+import org.contextmapper.discovery.strategies.helper.bytecode.ClassInfo.MethodInfo;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link JavaType} read from a class file. Classes referred to by the type (its superclass, for example) are looked
+ * up in the {@link ClassFileIndex}; classes which are not part of the index are not known.
+ */
+public class ClassFileJavaType implements JavaType {
+
+    private static final Set<String> COLLECTION_TYPES = new HashSet<>(Arrays.asList("java.util.List", "java.util.Set", "java.util.Collection"));
+
+    private final TypeSignature signature;
+    private final ClassFileIndex index;
+
+    /**
+     * Creates the Java type of an indexed class.
+     *
+     * @param classInfo the class
+     * @param index     the index containing the class (used to look up the classes it refers to)
+     */
+    public ClassFileJavaType(ClassInfo classInfo, ClassFileIndex index) {
+        this(TypeSignature.ofClass(classInfo.getName()), index);
+    }
+
+    ClassFileJavaType(TypeSignature signature, ClassFileIndex index) {
+        this.signature = signature;
+        this.index = index;
+    }
+
+    /**
+     * Gets the class file of the type.
+     *
+     * @return the class; null for primitive types, arrays, type variables and classes which are not part of the index
+     */
+    public ClassInfo getClassInfo() {
+        if (!signature.isClass() || signature.isArray())
+            return null;
+        return index.getClassInfo(signature.getClassName());
+    }
+
+    /**
+     * Gets the methods of the class which are annotated with one of the given annotations. Bridge and synthetic methods
+     * are ignored.
+     *
+     * @param annotationTypes the names of the annotation types (for example 'org.springframework.web.bind.annotation.GetMapping')
+     * @return the annotated methods, in the order in which they are declared; empty if the class is not known
+     */
+    public List<JavaMethod> getMethodsAnnotatedWith(Collection<String> annotationTypes) {
+        ClassInfo classInfo = getClassInfo();
+        if (classInfo == null)
+            return Collections.emptyList();
+        return classInfo.getMethods().stream()
+                .filter(m -> !m.isBridgeOrSynthetic() && annotationTypes.stream().anyMatch(m::isAnnotatedWith))
+                .map(ClassFileJavaMethod::new)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public String getName() {
+        return signature.getClassName();
+    }
+
+    @Override
+    public String getSimpleName() {
+        return signature.getSimpleName();
+    }
+
+    @Override
+    public String getPackageName() {
+        return signature.getPackageName();
+    }
+
+    @Override
+    public boolean isClass() {
+        return signature.isClass();
+    }
+
+    @Override
+    public boolean isArray() {
+        return signature.isArray();
+    }
+
+    @Override
+    public List<JavaType> getTypeArguments() {
+        return toJavaTypes(signature.getTypeArguments());
+    }
+
+    @Override
+    public JavaType getSuperclass() {
+        ClassInfo classInfo = getClassInfo();
+        if (classInfo == null || classInfo.getSuperclassName() == null)
+            return null;
+        ClassInfo superclass = index.getClassInfo(classInfo.getSuperclassName());
+        return superclass != null ? new ClassFileJavaType(superclass, index) : null;
+    }
+
+    @Override
+    public List<JavaField> getAllFields() {
+        ClassInfo classInfo = getClassInfo();
+        if (classInfo == null)
+            return Collections.emptyList();
+        JavaType superclass = getSuperclass();
+        List<JavaField> fields = new ArrayList<>(superclass != null ? superclass.getAllFields() : Collections.emptyList());
+        for (FieldInfo field : classInfo.getFields()) {
+            if (!field.getName().startsWith("$"))
+                fields.add(new ClassFileJavaField(field));
+        }
+        return fields;
+    }
+
+    @Override
+    public String toString() {
+        return signature.toString();
+    }
+
+    private List<JavaType> toJavaTypes(List<TypeSignature> signatures) {
+        return signatures.stream().map(s -> new ClassFileJavaType(s, index)).collect(Collectors.toList());
+    }
+
+    private class ClassFileJavaField implements JavaField {
+        private final FieldInfo field;
+
+        ClassFileJavaField(FieldInfo field) {
+            this.field = field;
+        }
+
+        @Override
+        public String getName() {
+            return field.getName();
+        }
+
+        @Override
+        public JavaType getType() {
+            return new ClassFileJavaType(field.getType(), index);
+        }
+
+        /**
+         * Gets the element type of a collection field (the first type argument which is a class), as the
+         * {@link org.contextmapper.discovery.strategies.helper.ReflectionHelpers} do.
+         */
+        @Override
+        public JavaType getElementType() {
+            TypeSignature type = field.getType();
+            if (!type.isArray() && COLLECTION_TYPES.contains(type.getClassName())) {
+                for (TypeSignature typeArgument : type.getTypeArguments()) {
+                    if (typeArgument.isClass() && !typeArgument.isParameterized())
+                        return new ClassFileJavaType(typeArgument, index);
+                }
+            }
+            return getType();
+        }
+    }
+
+    private class ClassFileJavaMethod implements JavaMethod {
+        private final MethodInfo method;
+
+        ClassFileJavaMethod(MethodInfo method) {
+            this.method = method;
+        }
+
+        @Override
+        public String getName() {
+            return method.getName();
+        }
+
+        @Override
+        public JavaType getReturnType() {
+            return new ClassFileJavaType(method.getReturnType(), index);
+        }
+
+        @Override
+        public List<JavaType> getParameterTypes() {
+            return toJavaTypes(method.getParameterTypes());
+        }
+
+        @Override
+        public List<String> getParameterNames() {
+            return method.getParameterNames();
+        }
+    }
+
+}
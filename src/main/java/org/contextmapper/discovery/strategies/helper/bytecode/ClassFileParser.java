@@ -0,0 +1,347 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.strategies.helper.bytecode;
+
+import org.contextmapper.discovery.strategies.helper.bytecode.ClassInfo.AnnotationInfo;
+import org.contextmapper.discovery.strategies.helper.bytecode.ClassInfo.FieldInfo;
+import org.contextmapper.discovery.strategies.helper.bytecode.ClassInfo.MethodInfo;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/**
+ * Reads the parts of a class file (JVMS chapter 4) needed for the discovery: names, annotations, fields, methods and
+ * their generic signatures. Code and all other attributes are skipped.
+ * <p>
+ * The class file is read from a {@link ByteBuffer}, so that class files within memory-mapped JARs are not copied.
+ */
+class ClassFileParser {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    private final Input in;
+    private Object[] constantPool;
+
+    private ClassFileParser(ByteBuffer classFile) {
+        this.in = new Input(classFile);
+    }
+
+    static ClassInfo parse(byte[] classFile) throws IOException {
+        return parse(ByteBuffer.wrap(classFile));
+    }
+
+    /**
+     * Parses a class file between the position and the limit of the given buffer (the buffer is not modified).
+     */
+    static ClassInfo parse(ByteBuffer classFile) throws IOException {
+        try {
+            return new ClassFileParser(classFile.slice()).readClass();
+        } catch (BufferUnderflowException e) {
+            throw new EOFException("Unexpected end of class file.");
+        }
+    }
+
+    private ClassInfo readClass() throws IOException {
+        if (in.readInt() != MAGIC)
+            throw new IOException("The input is not a class file.");
+        in.readUnsignedShort(); // minor version
+        in.readUnsignedShort(); // major version
+        readConstantPool();
+        in.readUnsignedShort(); // access flags
+        String name = className(in.readUnsignedShort());
+        int superclassIndex = in.readUnsignedShort();
+        String superclassName = superclassIndex == 0 ? null : className(superclassIndex);
+        List<String> interfaceNames = new ArrayList<>();
+        int interfaceCount = in.readUnsignedShort();
+        for (int i = 0; i < interfaceCount; i++) {
+            interfaceNames.add(className(in.readUnsignedShort()));
+        }
+
+        List<FieldInfo> fields = new ArrayList<>();
+        int fieldCount = in.readUnsignedShort();
+        for (int i = 0; i < fieldCount; i++) {
+            fields.add(readField());
+        }
+        List<MethodInfo> methods = new ArrayList<>();
+        int methodCount = in.readUnsignedShort();
+        for (int i = 0; i < methodCount; i++) {
+            methods.add(readMethod());
+        }
+        Map<String, AnnotationInfo> annotations = new HashMap<>();
+        int attributeCount = in.readUnsignedShort();
+        for (int i = 0; i < attributeCount; i++) {
+            String attributeName = utf8(in.readUnsignedShort());
+            int length = in.readInt();
+            if ("RuntimeVisibleAnnotations".equals(attributeName)) {
+                for (AnnotationInfo annotation : readAnnotations())
+                    annotations.put(annotation.getType(), annotation);
+            } else {
+                skip(length);
+            }
+        }
+        return new ClassInfo(name, superclassName, Collections.unmodifiableList(interfaceNames), annotations,
+                Collections.unmodifiableList(fields), Collections.unmodifiableList(methods));
+    }
+
+    private FieldInfo readField() throws IOException {
+        int accessFlags = in.readUnsignedShort();
+        String name = utf8(in.readUnsignedShort());
+        String signature = utf8(in.readUnsignedShort());
+        int attributeCount = in.readUnsignedShort();
+        for (int i = 0; i < attributeCount; i++) {
+            String attributeName = utf8(in.readUnsignedShort());
+            int length = in.readInt();
+            if ("Signature".equals(attributeName))
+                signature = utf8(in.readUnsignedShort());
+            else
+                skip(length);
+        }
+        return new FieldInfo(name, accessFlags, TypeSignature.parseFieldSignature(signature));
+    }
+
+    private MethodInfo readMethod() throws IOException {
+        int accessFlags = in.readUnsignedShort();
+        String name = utf8(in.readUnsignedShort());
+        String descriptor = utf8(in.readUnsignedShort());
+        String signature = null;
+        Set<String> annotationTypes = new HashSet<>();
+        List<String> parameterNames = null;
+        int attributeCount = in.readUnsignedShort();
+        for (int i = 0; i < attributeCount; i++) {
+            String attributeName = utf8(in.readUnsignedShort());
+            int length = in.readInt();
+            if ("Signature".equals(attributeName)) {
+                signature = utf8(in.readUnsignedShort());
+            } else if ("RuntimeVisibleAnnotations".equals(attributeName)) {
+                for (AnnotationInfo annotation : readAnnotations())
+                    annotationTypes.add(annotation.getType());
+            } else if ("MethodParameters".equals(attributeName)) {
+                parameterNames = readParameterNames();
+            } else {
+                skip(length);
+            }
+        }
+
+        List<TypeSignature> types = TypeSignature.parseMethodSignature(signature != null ? signature : descriptor);
+        if (signature != null && types.size() != TypeSignature.parseMethodSignature(descriptor).size())
+            types = TypeSignature.parseMethodSignature(descriptor); // signatures of inner class constructors may omit synthetic parameters
+        List<TypeSignature> parameterTypes = types.subList(0, types.size() - 1);
+        if (parameterNames == null || parameterNames.size() != parameterTypes.size()) {
+            parameterNames = new ArrayList<>();
+            for (int i = 0; i < parameterTypes.size(); i++) {
+                parameterNames.add("arg" + i);
+            }
+        }
+        return new MethodInfo(name, accessFlags, annotationTypes, types.get(types.size() - 1),
+                Collections.unmodifiableList(new ArrayList<>(parameterTypes)), Collections.unmodifiableList(parameterNames));
+    }
+
+    private List<String> readParameterNames() throws IOException {
+        int count = in.readUnsignedByte();
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int nameIndex = in.readUnsignedShort();
+            in.readUnsignedShort(); // access flags
+            names.add(nameIndex == 0 ? "arg" + i : utf8(nameIndex));
+        }
+        return names;
+    }
+
+    private List<AnnotationInfo> readAnnotations() throws IOException {
+        int count = in.readUnsignedShort();
+        List<AnnotationInfo> annotations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            annotations.add(readAnnotation());
+        }
+        return annotations;
+    }
+
+    private AnnotationInfo readAnnotation() throws IOException {
+        String type = TypeSignature.parseFieldSignature(utf8(in.readUnsignedShort())).getClassName();
+        Map<String, Object> values = new HashMap<>();
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            String elementName = utf8(in.readUnsignedShort());
+            values.put(elementName, readElementValue());
+        }
+        return new AnnotationInfo(type, Collections.unmodifiableMap(values));
+    }
+
+    private Object readElementValue() throws IOException {
+        char tag = (char) in.readUnsignedByte();
+        switch (tag) {
+            case 'e':
+                String enumType = TypeSignature.parseFieldSignature(utf8(in.readUnsignedShort())).getSimpleName();
+                return enumType + "." + utf8(in.readUnsignedShort());
+            case 'c':
+                return utf8(in.readUnsignedShort());
+            case '@':
+                return readAnnotation();
+            case '[':
+                int count = in.readUnsignedShort();
+                List<Object> values = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    values.add(readElementValue());
+                }
+                return Collections.unmodifiableList(values);
+            default:
+                // constant (B, C, D, F, I, J, S, Z or s)
+                return constantPool[in.readUnsignedShort()];
+        }
+    }
+
+    private void readConstantPool() throws IOException {
+        int count = in.readUnsignedShort();
+        constantPool = new Object[count];
+        for (int i = 1; i < count; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case CONSTANT_UTF8:
+                    constantPool[i] = in.readUTF();
+                    break;
+                case CONSTANT_INTEGER:
+                    constantPool[i] = in.readInt();
+                    break;
+                case CONSTANT_FLOAT:
+                    constantPool[i] = in.readFloat();
+                    break;
+                case CONSTANT_LONG:
+                    constantPool[i++] = in.readLong();
+                    break;
+                case CONSTANT_DOUBLE:
+                    constantPool[i++] = in.readDouble();
+                    break;
+                case CONSTANT_CLASS:
+                case CONSTANT_STRING:
+                    // resolved lazily: store the index of the referenced UTF-8 constant
+                    constantPool[i] = new Reference(in.readUnsignedShort());
+                    break;
+                case CONSTANT_METHOD_TYPE:
+                case CONSTANT_MODULE:
+                case CONSTANT_PACKAGE:
+                    skip(2);
+                    break;
+                case CONSTANT_METHOD_HANDLE:
+                    skip(3);
+                    break;
+                default:
+                    // field, method and interface method refs, name and type, (invoke) dynamic
+                    if ((tag < 9 || tag > 12) && tag != 17 && tag != 18)
+                        throw new IOException("Invalid constant pool tag " + tag + ".");
+                    skip(4);
+            }
+        }
+    }
+
+    private String utf8(int index) {
+        Object constant = constantPool[index];
+        if (constant instanceof Reference)
+            constant = constantPool[((Reference) constant).index];
+        return (String) constant;
+    }
+
+    private String className(int index) {
+        return utf8(index).replace('/', '.');
+    }
+
+    private void skip(int bytes) {
+        in.skip(bytes);
+    }
+
+    /**
+     * Reads the big-endian values and the modified UTF-8 strings (JVMS 4.4.7) of a class file.
+     */
+    private static class Input {
+        private final ByteBuffer buffer;
+
+        Input(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        int readUnsignedByte() {
+            return buffer.get() & 0xFF;
+        }
+
+        int readUnsignedShort() {
+            return buffer.getShort() & 0xFFFF;
+        }
+
+        int readInt() {
+            return buffer.getInt();
+        }
+
+        long readLong() {
+            return buffer.getLong();
+        }
+
+        float readFloat() {
+            return buffer.getFloat();
+        }
+
+        double readDouble() {
+            return buffer.getDouble();
+        }
+
+        void skip(int bytes) {
+            if (bytes > buffer.remaining())
+                throw new BufferUnderflowException();
+            buffer.position(buffer.position() + bytes);
+        }
+
+        String readUTF() {
+            int length = readUnsignedShort();
+            if (length > buffer.remaining())
+                throw new BufferUnderflowException();
+            int end = buffer.position() + length;
+            char[] chars = new char[length];
+            int count = 0;
+            while (buffer.position() < end) {
+                int b = readUnsignedByte();
+                if (b < 0x80)
+                    chars[count++] = (char) b;
+                else if ((b & 0xE0) == 0xC0)
+                    chars[count++] = (char) (((b & 0x1F) << 6) | (readUnsignedByte() & 0x3F));
+                else
+                    chars[count++] = (char) (((b & 0x0F) << 12) | ((readUnsignedByte() & 0x3F) << 6) | (readUnsignedByte() & 0x3F));
+            }
+            return new String(chars, 0, count);
+        }
+    }
+
+    private static class Reference {
+        private final int index;
+
+        Reference(int index) {
+            this.index = index;
+        }
+    }
+
+}
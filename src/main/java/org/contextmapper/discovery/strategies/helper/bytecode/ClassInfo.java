@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.strategies.helper.bytecode;
+
+import java.util.*;
+
+/**
+ * The information read from a class file: its name, superclass, interfaces, runtime-visible annotations, fields and
+ * methods.
+ * <p>
+ * Class infos are created by the {@link ClassFileIndex}; the classes are never loaded.
+ */
+public class ClassInfo {
+
+    static final int ACC_STATIC = 0x0008;
+    static final int ACC_BRIDGE = 0x0040;
+    static final int ACC_SYNTHETIC = 0x1000;
+
+    private final String name;
+    private final String superclassName;
+    private final List<String> interfaceNames;
+    private final Map<String, AnnotationInfo> annotations;
+    private final List<FieldInfo> fields;
+    private final List<MethodInfo> methods;
+
+    ClassInfo(String name, String superclassName, List<String> interfaceNames, Map<String, AnnotationInfo> annotations,
+              List<FieldInfo> fields, List<MethodInfo> methods) {
+        this.name = name;
+        this.superclassName = superclassName;
+        this.interfaceNames = interfaceNames;
+        this.annotations = annotations;
+        this.fields = fields;
+        this.methods = methods;
+    }
+
+    /**
+     * Gets the binary name of the class (for example 'com.example.Outer$Inner').
+     *
+     * @return the name of the class
+     */
+    public String getName() {
+        return name;
+    }
+
+    public String getSimpleName() {
+        return name.substring(Math.max(name.lastIndexOf('.'), name.lastIndexOf('$')) + 1);
+    }
+
+    public String getPackageName() {
+        int index = name.lastIndexOf('.');
+        return index < 0 ? "" : name.substring(0, index);
+    }
+
+    /**
+     * Gets the name of the superclass.
+     *
+     * @return the name of the superclass; null for java.lang.Object and module infos
+     */
+    public String getSuperclassName() {
+        return superclassName;
+    }
+
+    /**
+     * Gets the names of the interfaces directly implemented (or extended) by the class.
+     *
+     * @return the names of the interfaces, in the order of the class file
+     */
+    public List<String> getInterfaceNames() {
+        return interfaceNames;
+    }
+
+    public boolean isAnnotatedWith(String annotationType) {
+        return annotations.containsKey(annotationType);
+    }
+
+    /**
+     * Gets an annotation of the class.
+     *
+     * @param annotationType the name of the annotation type
+     * @return the annotation or null, if the class is not annotated with the given annotation
+     */
+    public AnnotationInfo getAnnotation(String annotationType) {
+        return annotations.get(annotationType);
+    }
+
+    /**
+     * Gets the fields declared by the class, in the order of the class file.
+     *
+     * @return the declared fields
+     */
+    public List<FieldInfo> getFields() {
+        return fields;
+    }
+
+    /**
+     * Gets the methods declared by the class, in the order of the class file.
+     *
+     * @return the declared methods
+     */
+    public List<MethodInfo> getMethods() {
+        return methods;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * A runtime-visible annotation with its element values. Values of nested annotations, enums and classes are given
+     * as AnnotationInfo, 'EnumType.CONSTANT' and type descriptor Strings; arrays as lists.
+     */
+    public static class AnnotationInfo {
+        private final String type;
+        private final Map<String, Object> values;
+
+        AnnotationInfo(String type, Map<String, Object> values) {
+            this.type = type;
+            this.values = values;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public Object getValue(String elementName) {
+            return values.get(elementName);
+        }
+
+        /**
+         * Gets the String values of an element which is a String or an array of Strings.
+         *
+         * @param elementName the name of the annotation element
+         * @return the String values; empty, if the element is not present in the class file (default values are not
+         * known without the annotation type)
+         */
+        public List<String> getStringValues(String elementName) {
+            Object value = values.get(elementName);
+            if (value instanceof String)
+                return Collections.singletonList((String) value);
+            List<String> strings = new ArrayList<>();
+            if (value instanceof List) {
+                for (Object element : (List<?>) value) {
+                    if (element instanceof String)
+                        strings.add((String) element);
+                }
+            }
+            return strings;
+        }
+    }
+
+    /**
+     * A field declared by a class.
+     */
+    public static class FieldInfo {
+        private final String name;
+        private final int accessFlags;
+        private final TypeSignature type;
+
+        FieldInfo(String name, int accessFlags, TypeSignature type) {
+            this.name = name;
+            this.accessFlags = accessFlags;
+            this.type = type;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isStatic() {
+            return (accessFlags & ACC_STATIC) != 0;
+        }
+
+        /**
+         * Gets the (generic, if a signature is available) type of the field.
+         *
+         * @return the type of the field
+         */
+        public TypeSignature getType() {
+            return type;
+        }
+    }
+
+    /**
+     * A method declared by a class.
+     */
+    public static class MethodInfo {
+        private final String name;
+        private final int accessFlags;
+        private final Set<String> annotationTypes;
+        private final TypeSignature returnType;
+        private final List<TypeSignature> parameterTypes;
+        private final List<String> parameterNames;
+
+        MethodInfo(String name, int accessFlags, Set<String> annotationTypes, TypeSignature returnType, List<TypeSignature> parameterTypes, List<String> parameterNames) {
+            this.name = name;
+            this.accessFlags = accessFlags;
+            this.annotationTypes = annotationTypes;
+            this.returnType = returnType;
+            this.parameterTypes = parameterTypes;
+            this.parameterNames = parameterNames;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isBridgeOrSynthetic() {
+            return (accessFlags & (ACC_BRIDGE | ACC_SYNTHETIC)) != 0;
+        }
+
+        public boolean isAnnotatedWith(String annotationType) {
+            return annotationTypes.contains(annotationType);
+        }
+
+        public TypeSignature getReturnType() {
+            return returnType;
+        }
+
+        public List<TypeSignature> getParameterTypes() {
+            return parameterTypes;
+        }
+
+        /**
+         * Gets the names of the parameters. As with reflection, the names are only known if the class has been
+         * compiled with '-parameters'; 'arg0', 'arg1', ... are returned otherwise.
+         *
+         * @return the names of the parameters
+         */
+        public List<String> getParameterNames() {
+            return parameterNames;
+        }
+    }
+
+}
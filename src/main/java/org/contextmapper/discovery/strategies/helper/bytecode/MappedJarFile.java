@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.strategies.helper.bytecode;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Predicate;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Reads the entries of a JAR (ZIP) file from a memory-mapped buffer: the central directory is read in place, stored
+ * entries are passed on without copying and deflated entries are inflated directly from the mapped buffer.
+ * <p>
+ * Archives with leading bytes (for example fully executable Spring Boot JARs starting with a launch script) are
+ * supported: the offsets within the archive are relative to its start, which is derived from the position and size of
+ * the central directory.
+ * <p>
+ * ZIP64 archives, archives larger than 2 GB and encrypted entries are not supported; {@link #isSupported()} returns
+ * false for them and the caller has to fall back to {@link java.util.zip.ZipFile}.
+ */
+class MappedJarFile {
+
+    private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int CENTRAL_DIRECTORY_HEADER = 0x02014b50;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+    private static final int LOCAL_FILE_HEADER = 0x04034b50;
+    private static final int LOCAL_FILE_HEADER_SIZE = 30;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+    private static final int ENCRYPTED_FLAG = 0x1;
+
+    /**
+     * Receives the entries of the JAR file.
+     */
+    interface EntryConsumer {
+        void accept(String name, ByteBuffer content) throws IOException;
+    }
+
+    private final File file;
+    private final ByteBuffer buffer;
+    private int centralDirectoryOffset = -1;
+    private int archiveStart;
+    private int entryCount;
+
+    MappedJarFile(File file) throws IOException {
+        this.file = file;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                this.buffer = null;
+                return;
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            this.buffer = mapped.order(ByteOrder.LITTLE_ENDIAN);
+        }
+        findCentralDirectory();
+    }
+
+    /**
+     * Checks whether the file can be read by this class.
+     *
+     * @return true, if the file is a ZIP archive without ZIP64 extensions and smaller than 2 GB, and its central
+     * directory could be located
+     */
+    boolean isSupported() {
+        return centralDirectoryOffset >= 0;
+    }
+
+    /**
+     * Checks whether the archive contains a (non-directory) entry accepted by the given filter. Only the central
+     * directory is read; no entry is inflated.
+     *
+     * @param filter the filter for the entry names
+     * @return true, if at least one entry name is accepted by the filter
+     * @throws IOException if the archive is corrupt
+     */
+    boolean containsEntry(Predicate<String> filter) throws IOException {
+        if (!isSupported())
+            throw new ZipException("The file '" + file + "' is not supported (ZIP64, larger than 2 GB or no ZIP archive).");
+        try {
+            int position = centralDirectoryOffset;
+            for (int i = 0; i < entryCount; i++) {
+                if (buffer.getInt(position) != CENTRAL_DIRECTORY_HEADER)
+                    throw new ZipException("Invalid central directory in '" + file + "'.");
+                int nameLength = unsignedShort(position + 28);
+                String name = string(position + CENTRAL_DIRECTORY_HEADER_SIZE, nameLength);
+                position += CENTRAL_DIRECTORY_HEADER_SIZE + nameLength + unsignedShort(position + 30) + unsignedShort(position + 32);
+                if (!name.endsWith("/") && filter.test(name))
+                    return true;
+            }
+            return false;
+        } catch (IndexOutOfBoundsException e) {
+            throw new ZipException("The file '" + file + "' is corrupt.");
+        }
+    }
+
+    /**
+     * Passes the content of all entries accepted by the given filter to the consumer, in the order of the central
+     * directory. Stored entries are passed as read-only views of the mapped file, deflated entries as newly inflated
+     * buffers; both stay valid after the call of the consumer (the mapping is released once no buffer refers to it
+     * anymore), so the consumer may keep them.
+     *
+     * @param filter   the filter for the entry names
+     * @param consumer the consumer of the entry contents
+     * @throws IOException if the archive is corrupt or contains encrypted or unsupported entries
+     */
+    void readEntries(Predicate<String> filter, EntryConsumer consumer) throws IOException {
+        if (!isSupported())
+            throw new ZipException("The file '" + file + "' is not supported (ZIP64, larger than 2 GB or no ZIP archive).");
+        Inflater inflater = new Inflater(true);
+        try {
+            int position = centralDirectoryOffset;
+            for (int i = 0; i < entryCount; i++) {
+                if (buffer.getInt(position) != CENTRAL_DIRECTORY_HEADER)
+                    throw new ZipException("Invalid central directory in '" + file + "'.");
+                int flags = unsignedShort(position + 8);
+                int method = unsignedShort(position + 10);
+                long compressedSize = unsignedInt(position + 20);
+                long size = unsignedInt(position + 24);
+                int nameLength = unsignedShort(position + 28);
+                int extraLength = unsignedShort(position + 30);
+                int commentLength = unsignedShort(position + 32);
+                long localHeaderOffset = unsignedInt(position + 42);
+                String name = string(position + CENTRAL_DIRECTORY_HEADER_SIZE, nameLength);
+                position += CENTRAL_DIRECTORY_HEADER_SIZE + nameLength + extraLength + commentLength;
+
+                if (name.endsWith("/") || !filter.test(name))
+                    continue;
+                if ((flags & ENCRYPTED_FLAG) != 0)
+                    throw new ZipException("The entry '" + name + "' in '" + file + "' is encrypted.");
+                consumer.accept(name, content(name, method, localHeaderOffset, compressedSize, size, inflater));
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new ZipException("The file '" + file + "' is corrupt.");
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private ByteBuffer content(String name, int method, long localHeaderOffset, long compressedSize, long size, Inflater inflater) throws IOException {
+        int offset = archiveStart + (int) localHeaderOffset;
+        if (buffer.getInt(offset) != LOCAL_FILE_HEADER)
+            throw new ZipException("Invalid local header of entry '" + name + "' in '" + file + "'.");
+        int dataOffset = offset + LOCAL_FILE_HEADER_SIZE + unsignedShort(offset + 26) + unsignedShort(offset + 28);
+        ByteBuffer data = slice(dataOffset, (int) compressedSize);
+        if (method == STORED)
+            return data;
+        if (method != DEFLATED)
+            throw new ZipException("The entry '" + name + "' in '" + file + "' uses the unsupported compression method " + method + ".");
+
+        byte[] content = new byte[(int) size];
+        inflater.reset();
+        inflater.setInput(data);
+        try {
+            int length = 0;
+            while (length < content.length && !inflater.finished()) {
+                int inflated = inflater.inflate(content, length, content.length - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+                    break;
+                length += inflated;
+            }
+            if (length != content.length)
+                throw new ZipException("The entry '" + name + "' in '" + file + "' is corrupt.");
+        } catch (DataFormatException e) {
+            throw new ZipException("The entry '" + name + "' in '" + file + "' is corrupt: " + e.getMessage());
+        }
+        return ByteBuffer.wrap(content);
+    }
+
+    /**
+     * Finds the end of central directory record (searching backwards, as it may be followed by a comment). The central
+     * directory ends right before this record, so the start of the archive within the file is the position of the record
+     * minus the size and the (archive-relative) offset of the central directory.
+     */
+    private void findCentralDirectory() {
+        int lowestPosition = Math.max(0, buffer.limit() - END_OF_CENTRAL_DIRECTORY_SIZE - MAX_COMMENT_LENGTH);
+        for (int position = buffer.limit() - END_OF_CENTRAL_DIRECTORY_SIZE; position >= lowestPosition; position--) {
+            if (buffer.getInt(position) != END_OF_CENTRAL_DIRECTORY)
+                continue;
+            int entries = unsignedShort(position + 10);
+            long size = unsignedInt(position + 12);
+            long offset = unsignedInt(position + 16);
+            if (entries == 0xFFFF || size == 0xFFFFFFFFL || offset == 0xFFFFFFFFL)
+                return; // ZIP64
+            long start = position - size - offset;
+            if (start < 0 || (entries > 0 && buffer.getInt((int) (start + offset)) != CENTRAL_DIRECTORY_HEADER))
+                return; // not a ZIP archive or the central directory is not where the record says
+            this.entryCount = entries;
+            this.archiveStart = (int) start;
+            this.centralDirectoryOffset = (int) (start + offset);
+            return;
+        }
+    }
+
+    private ByteBuffer slice(int offset, int length) {
+        ByteBuffer duplicate = buffer.duplicate();
+        duplicate.position(offset);
+        duplicate.limit(offset + length);
+        return duplicate.slice();
+    }
+
+    private String string(int offset, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int unsignedShort(int offset) {
+        return buffer.getShort(offset) & 0xFFFF;
+    }
+
+    private long unsignedInt(int offset) {
+        return buffer.getInt(offset) & 0xFFFFFFFFL;
+    }
+
+}
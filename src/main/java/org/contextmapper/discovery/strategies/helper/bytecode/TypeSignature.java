@@ -0,0 +1,275 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.strategies.helper.bytecode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents a (generic) type read from the descriptor or signature of a field, method or parameter in a class file.
+ */
+public class TypeSignature {
+
+    private final String className;
+    private final int arrayDimensions;
+    private final List<TypeSignature> typeArguments;
+    private final boolean typeVariable;
+
+    private TypeSignature(String className, int arrayDimensions, List<TypeSignature> typeArguments, boolean typeVariable) {
+        this.className = className;
+        this.arrayDimensions = arrayDimensions;
+        this.typeArguments = typeArguments;
+        this.typeVariable = typeVariable;
+    }
+
+    /**
+     * Gets the binary name of the type (for example 'java.util.List', 'int' or 'com.example.Outer$Inner'). For type
+     * variables and wildcards, the name of the variable or '?' is returned.
+     *
+     * @return the name of the type (without array brackets)
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * Gets the simple name of the type, as {@link Class#getSimpleName()} would return it (including '[]' for arrays).
+     *
+     * @return the simple name of the type
+     */
+    public String getSimpleName() {
+        String simpleName = className.substring(Math.max(className.lastIndexOf('.'), className.lastIndexOf('$')) + 1);
+        StringBuilder builder = new StringBuilder(simpleName);
+        for (int i = 0; i < arrayDimensions; i++) {
+            builder.append("[]");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Gets the package of the type.
+     *
+     * @return the package name; an empty String for primitive types, arrays, type variables and types in the default package
+     */
+    public String getPackageName() {
+        if (!isClass() || isArray())
+            return "";
+        int index = className.lastIndexOf('.');
+        return index < 0 ? "" : className.substring(0, index);
+    }
+
+    /**
+     * Checks whether the type refers to a class or primitive type (not to a type variable or a wildcard).
+     *
+     * @return true, if the type refers to a class or primitive type
+     */
+    public boolean isClass() {
+        return !typeVariable;
+    }
+
+    public boolean isArray() {
+        return arrayDimensions > 0;
+    }
+
+    public boolean isParameterized() {
+        return !typeArguments.isEmpty();
+    }
+
+    /**
+     * Gets the type arguments of a parameterized type.
+     *
+     * @return the type arguments; empty if the type is not parameterized
+     */
+    public List<TypeSignature> getTypeArguments() {
+        return typeArguments;
+    }
+
+    @Override
+    public String toString() {
+        if (typeArguments.isEmpty())
+            return getSimpleName();
+        return className + typeArguments;
+    }
+
+    /**
+     * Creates the (non-parameterized) type of a class.
+     */
+    static TypeSignature ofClass(String className) {
+        return new TypeSignature(className, 0, Collections.emptyList(), false);
+    }
+
+    /**
+     * Parses a field descriptor or field signature (JVMS 4.3.2 and 4.7.9.1).
+     */
+    static TypeSignature parseFieldSignature(String signature) {
+        Cursor cursor = new Cursor(signature);
+        TypeSignature type = cursor.readType();
+        cursor.expectEnd();
+        return type;
+    }
+
+    /**
+     * Parses a method descriptor or method signature (JVMS 4.3.3 and 4.7.9.1). The return type is the last element of
+     * the returned list; the parameter types precede it.
+     */
+    static List<TypeSignature> parseMethodSignature(String signature) {
+        Cursor cursor = new Cursor(signature);
+        cursor.skipTypeParameters();
+        cursor.expect('(');
+        List<TypeSignature> types = new ArrayList<>();
+        while (cursor.peek() != ')') {
+            types.add(cursor.readType());
+        }
+        cursor.expect(')');
+        types.add(cursor.readType());
+        return types;
+    }
+
+    private static class Cursor {
+        private final String signature;
+        private int position;
+
+        Cursor(String signature) {
+            this.signature = signature;
+        }
+
+        TypeSignature readType() {
+            int dimensions = 0;
+            while (peek() == '[') {
+                position++;
+                dimensions++;
+            }
+            char c = next();
+            switch (c) {
+                case 'B':
+                    return primitive("byte", dimensions);
+                case 'C':
+                    return primitive("char", dimensions);
+                case 'D':
+                    return primitive("double", dimensions);
+                case 'F':
+                    return primitive("float", dimensions);
+                case 'I':
+                    return primitive("int", dimensions);
+                case 'J':
+                    return primitive("long", dimensions);
+                case 'S':
+                    return primitive("short", dimensions);
+                case 'Z':
+                    return primitive("boolean", dimensions);
+                case 'V':
+                    return primitive("void", dimensions);
+                case 'T':
+                    return new TypeSignature(readUntil(';'), dimensions, Collections.emptyList(), true);
+                case 'L':
+                    return readClassType(dimensions);
+                default:
+                    throw new IllegalArgumentException("Invalid type signature '" + signature + "' at position " + (position - 1) + ".");
+            }
+        }
+
+        private TypeSignature readClassType(int dimensions) {
+            StringBuilder name = new StringBuilder();
+            List<TypeSignature> typeArguments = Collections.emptyList();
+            while (true) {
+                char c = next();
+                if (c == ';') {
+                    break;
+                } else if (c == '/') {
+                    name.append('.');
+                } else if (c == '.') {
+                    // inner class of a parameterized outer class: the type arguments of the inner class count
+                    name.append('$');
+                    typeArguments = Collections.emptyList();
+                } else if (c == '<') {
+                    typeArguments = readTypeArguments();
+                } else {
+                    name.append(c);
+                }
+            }
+            return new TypeSignature(name.toString(), dimensions, typeArguments, false);
+        }
+
+        private List<TypeSignature> readTypeArguments() {
+            List<TypeSignature> typeArguments = new ArrayList<>();
+            while (peek() != '>') {
+                char c = peek();
+                if (c == '*') {
+                    position++;
+                    typeArguments.add(new TypeSignature("?", 0, Collections.emptyList(), true));
+                } else if (c == '+' || c == '-') {
+                    position++;
+                    readType();
+                    typeArguments.add(new TypeSignature("?", 0, Collections.emptyList(), true));
+                } else {
+                    typeArguments.add(readType());
+                }
+            }
+            position++;
+            return Collections.unmodifiableList(typeArguments);
+        }
+
+        void skipTypeParameters() {
+            if (peek() != '<')
+                return;
+            int depth = 0;
+            do {
+                char c = next();
+                if (c == '<')
+                    depth++;
+                else if (c == '>')
+                    depth--;
+            } while (depth > 0);
+        }
+
+        private TypeSignature primitive(String name, int dimensions) {
+            return new TypeSignature(name, dimensions, Collections.emptyList(), false);
+        }
+
+        private String readUntil(char end) {
+            int index = signature.indexOf(end, position);
+            if (index < 0)
+                throw new IllegalArgumentException("Invalid type signature '" + signature + "'.");
+            String value = signature.substring(position, index);
+            position = index + 1;
+            return value;
+        }
+
+        char peek() {
+            if (position >= signature.length())
+                throw new IllegalArgumentException("Unexpected end of type signature '" + signature + "'.");
+            return signature.charAt(position);
+        }
+
+        private char next() {
+            char c = peek();
+            position++;
+            return c;
+        }
+
+        void expect(char c) {
+            if (next() != c)
+                throw new IllegalArgumentException("Invalid type signature '" + signature + "': expected '" + c + "' at position " + (position - 1) + ".");
+        }
+
+        void expectEnd() {
+            if (position != signature.length())
+                throw new IllegalArgumentException("Invalid type signature '" + signature + "'.");
+        }
+    }
+
+}
@@ -16,13 +16,27 @@
 package org.contextmapper.discovery.strategies.relationships;
 
 import org.contextmapper.discovery.ContextMapDiscoverer;
+import org.contextmapper.discovery.metrics.DiscoveryMetricsListener;
 
 public abstract class AbstractRelationshipDiscoveryStrategy implements RelationshipDiscoveryStrategy {
 
     protected ContextMapDiscoverer discoverer;
+    protected DiscoveryMetricsListener metricsListener = DiscoveryMetricsListener.NONE;
 
     @Override
     public void setContextMapDiscoverer(ContextMapDiscoverer discoverer) {
         this.discoverer = discoverer;
     }
+
+    @Override
+    public void setMetricsListener(DiscoveryMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+    }
+
+    /**
+     * The name under which the strategy reports its metrics.
+     */
+    protected String getMetricsSource() {
+        return getClass().getSimpleName();
+    }
 }
@@ -15,35 +15,79 @@
  */
 package org.contextmapper.discovery.strategies.relationships;
 
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.filefilter.NameFileFilter;
-import org.apache.commons.io.filefilter.TrueFileFilter;
+import org.contextmapper.discovery.metrics.DiscoveryPhase;
+import org.contextmapper.discovery.metrics.PhaseMeasurement;
 import org.contextmapper.discovery.model.BoundedContext;
 import org.contextmapper.discovery.model.Relationship;
+import org.contextmapper.discovery.strategies.helper.FileFinder;
 import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.ScalarEvent;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.function.BiConsumer;
 
 public class DockerComposeRelationshipDiscoveryStrategy extends AbstractRelationshipDiscoveryStrategy implements RelationshipDiscoveryStrategy {
 
+    /**
+     * The default patterns for the names of docker-compose files (including override files such as
+     * 'docker-compose.override.yml' or 'compose.prod.yaml').
+     */
+    public static final List<String> DEFAULT_FILE_PATTERNS = Collections.unmodifiableList(Arrays.asList(
+            "docker-compose*.{yml,yaml}", "compose.{yml,yaml}", "compose.*.{yml,yaml}"));
+
+    /**
+     * The default patterns for the names of directories which are not searched for docker-compose files (version
+     * control, IDE, dependency and build output directories).
+     */
+    public static final List<String> DEFAULT_EXCLUDED_DIRECTORIES = Collections.unmodifiableList(Arrays.asList(
+            ".git", ".svn", ".hg", ".idea", ".gradle", "node_modules", "target", "build"));
+
     private File sourcePath;
+    private FileFinder fileFinder = new FileFinder(DEFAULT_FILE_PATTERNS, DEFAULT_EXCLUDED_DIRECTORIES);
 
     public DockerComposeRelationshipDiscoveryStrategy(File sourcePath) {
         this.sourcePath = sourcePath;
     }
 
+    /**
+     * Configures which files are parsed and which directories are skipped when searching the source path. The
+     * patterns are globs matched against the file and directory names (for example 'docker-compose*.yml').
+     *
+     * @param filePatterns        the patterns for the names of the docker-compose files (replaces {@link #DEFAULT_FILE_PATTERNS})
+     * @param excludedDirectories the patterns for the names of the directories not to be searched (replaces {@link #DEFAULT_EXCLUDED_DIRECTORIES})
+     */
+    public DockerComposeRelationshipDiscoveryStrategy usingFilePatterns(Collection<String> filePatterns, Collection<String> excludedDirectories) {
+        this.fileFinder = new FileFinder(filePatterns, excludedDirectories);
+        return this;
+    }
+
     @Override
     public Set<Relationship> discoverRelationships() {
         Set<Relationship> relationships = new HashSet<>();
-        for (File dockerComposeFile : findDockerComposeFiles()) {
-            relationships.addAll(discoverRelationships(dockerComposeFile));
+        for (Path dockerComposeFile : fileFinder.find(sourcePath.toPath())) {
+            relationships.addAll(discoverRelationships(dockerComposeFile.toFile()));
         }
         return relationships;
     }
 
+    /**
+     * The strategy is affected by changes of docker-compose files within its source path.
+     */
+    @Override
+    public boolean isAffectedBy(String changedInput) {
+        return fileFinder.matches(sourcePath.toPath(), Paths.get(changedInput));
+    }
+
     private Set<Relationship> discoverRelationships(File dockerComposeFile) {
         Set<Relationship> relationships = new HashSet<>();
         for (ServiceDependency dependency : parseDependencies(dockerComposeFile)) {
@@ -53,7 +97,7 @@ public class DockerComposeRelationshipDiscoveryStrategy extends AbstractRelation
                 Relationship relationship = new Relationship(upstreamContext, downstreamContext);
                 // We cannot discover 'exposed aggregates' with this Docker strategy. Therefore, we
                 // just add all discovered Aggregates to the 'exposed aggregates'.
-                relationship.addExposedAggregates(upstreamContext.getAggregates());
+                relationship.exposeAllAggregates();
                 relationship.setExposedAggregatesComment("The list of exposed Aggregates may contain Aggregates which are not used by the downstream (discovery strategy simply added all Aggregates).");
                 relationships.add(relationship);
             }
@@ -61,36 +105,167 @@ public class DockerComposeRelationshipDiscoveryStrategy extends AbstractRelation
         return relationships;
     }
 
+    /**
+     * Parses the 'depends_on' entries of all services within a docker-compose file. The file is read as a stream of
+     * YAML events, so only the service names and their dependencies are kept in memory. Both the short (list) and the
+     * long (map) syntax of 'depends_on' are supported. As soon as an alias or a merge key ('<<') shows up, the file is
+     * loaded completely instead, so that shared definitions (for example in 'x-' extension fields) are resolved.
+     * <p>
+     * The parsing time of each file is reported as {@link DiscoveryPhase#SPECIFICATION_PARSING}.
+     */
     protected List<ServiceDependency> parseDependencies(File dockerComposeFile) {
-        List<ServiceDependency> result = new ArrayList<>();
+        PhaseMeasurement parsing = PhaseMeasurement.start(metricsListener);
+        List<ServiceDependency> result;
         try {
-            Yaml yaml = new Yaml();
-            Map<String, Object> composeObjectMap = yaml.load(new FileInputStream(dockerComposeFile));
-            if (!composeObjectMap.containsKey("services"))
-                return result;
-            Map<String, Object> services = (Map<String, Object>) composeObjectMap.get("services");
-            if (services == null)
-                return result;
-            for (String service : services.keySet()) {
-                if (((Map<String, Object>) services.get(service)).containsKey("depends_on"))
-                    result.addAll(createServiceDependencies4Service(service, (List<String>) ((Map<String, Object>) services.get(service)).get("depends_on")));
+            result = streamDependencies(dockerComposeFile);
+        } catch (AliasFoundException e) {
+            result = loadDependencies(dockerComposeFile);
+        }
+        parsing.complete(getMetricsSource(), DiscoveryPhase.SPECIFICATION_PARSING);
+        return result;
+    }
+
+    private List<ServiceDependency> streamDependencies(File dockerComposeFile) {
+        List<ServiceDependency> result = new ArrayList<>();
+        try (Reader reader = Files.newBufferedReader(dockerComposeFile.toPath(), StandardCharsets.UTF_8)) {
+            Iterator<Event> events = withoutAliases(new Yaml().parse(reader).iterator());
+            while (events.hasNext()) {
+                Event event = events.next();
+                if (event.is(Event.ID.MappingStart))
+                    forEachEntry(events, (key, value) -> parseRootEntry(key, value, events, result));
+                else
+                    skipValue(event, events);
             }
-        } catch (FileNotFoundException e) {
+        } catch (NoSuchFileException e) {
             throw new IllegalArgumentException("The file '" + dockerComposeFile.toString() + "' does not exist!", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the file '" + dockerComposeFile.toString() + "'.", e);
         }
         return result;
     }
 
-    private List<ServiceDependency> createServiceDependencies4Service(String service, List<String> dependencies) {
-        List<ServiceDependency> resultList = new ArrayList<>();
-        for (String dependency : dependencies) {
-            resultList.add(new ServiceDependency(service, dependency));
+    /**
+     * Loads the whole docker-compose file, resolving aliases and merge keys.
+     */
+    @SuppressWarnings("unchecked")
+    private List<ServiceDependency> loadDependencies(File dockerComposeFile) {
+        List<ServiceDependency> result = new ArrayList<>();
+        try (Reader reader = Files.newBufferedReader(dockerComposeFile.toPath(), StandardCharsets.UTF_8)) {
+            Object root = new Yaml().load(reader);
+            Object services = root instanceof Map ? ((Map<String, Object>) root).get("services") : null;
+            if (!(services instanceof Map))
+                return result;
+            for (Map.Entry<String, Object> service : ((Map<String, Object>) services).entrySet()) {
+                Object dependencies = service.getValue() instanceof Map ? ((Map<String, Object>) service.getValue()).get("depends_on") : null;
+                if (dependencies instanceof Map)
+                    dependencies = ((Map<String, Object>) dependencies).keySet();
+                if (!(dependencies instanceof Collection))
+                    continue;
+                for (Object dependency : (Collection<Object>) dependencies) {
+                    if (dependency instanceof String)
+                        result.add(new ServiceDependency(service.getKey(), (String) dependency));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the file '" + dockerComposeFile.toString() + "'.", e);
         }
-        return resultList;
+        return result;
     }
 
-    private Collection<File> findDockerComposeFiles() {
-        return FileUtils.listFiles(sourcePath, new NameFileFilter("docker-compose.yml"), TrueFileFilter.INSTANCE);
+    /**
+     * Stops the event-based parsing (with an {@link AliasFoundException}) when an alias shows up.
+     */
+    private Iterator<Event> withoutAliases(Iterator<Event> events) {
+        return new Iterator<Event>() {
+            @Override
+            public boolean hasNext() {
+                return events.hasNext();
+            }
+
+            @Override
+            public Event next() {
+                Event event = events.next();
+                if (event.is(Event.ID.Alias))
+                    throw new AliasFoundException();
+                return event;
+            }
+        };
+    }
+
+    private void parseRootEntry(String key, Event value, Iterator<Event> events, List<ServiceDependency> result) {
+        if ("services".equals(key) && value.is(Event.ID.MappingStart))
+            forEachEntry(events, (service, serviceValue) -> parseService(service, serviceValue, events, result));
+        else
+            skipValue(value, events);
+    }
+
+    private void parseService(String service, Event value, Iterator<Event> events, List<ServiceDependency> result) {
+        if (service != null && value.is(Event.ID.MappingStart))
+            forEachEntry(events, (key, entryValue) -> parseServiceEntry(service, key, entryValue, events, result));
+        else
+            skipValue(value, events);
+    }
+
+    private void parseServiceEntry(String service, String key, Event value, Iterator<Event> events, List<ServiceDependency> result) {
+        if (!"depends_on".equals(key)) {
+            skipValue(value, events);
+        } else if (value.is(Event.ID.SequenceStart)) {
+            // short syntax: a list of service names
+            for (Event item = events.next(); !item.is(Event.ID.SequenceEnd); item = events.next()) {
+                if (item.is(Event.ID.Scalar))
+                    result.add(new ServiceDependency(service, ((ScalarEvent) item).getValue()));
+                else
+                    skipValue(item, events);
+            }
+        } else if (value.is(Event.ID.MappingStart)) {
+            // long syntax: a map from service names to conditions
+            forEachEntry(events, (dependency, condition) -> {
+                if (dependency != null)
+                    result.add(new ServiceDependency(service, dependency));
+                skipValue(condition, events);
+            });
+        } else {
+            skipValue(value, events);
+        }
+    }
+
+    /**
+     * Passes the entries of a mapping to the consumer, until the end of the mapping. The consumer has to consume the
+     * (nested) events of the value. Keys which are not scalars are skipped and passed as null.
+     */
+    private void forEachEntry(Iterator<Event> events, BiConsumer<String, Event> consumer) {
+        for (Event key = events.next(); !key.is(Event.ID.MappingEnd); key = events.next()) {
+            String name = key.is(Event.ID.Scalar) ? ((ScalarEvent) key).getValue() : null;
+            if ("<<".equals(name))
+                throw new AliasFoundException();
+            skipValue(key, events);
+            consumer.accept(name, events.next());
+        }
+    }
+
+    /**
+     * Skips the nested events of a mapping or sequence (does nothing for scalars).
+     */
+    private void skipValue(Event value, Iterator<Event> events) {
+        if (!value.is(Event.ID.MappingStart) && !value.is(Event.ID.SequenceStart))
+            return;
+        int depth = 1;
+        while (depth > 0) {
+            Event event = events.next();
+            if (event.is(Event.ID.MappingStart) || event.is(Event.ID.SequenceStart))
+                depth++;
+            else if (event.is(Event.ID.MappingEnd) || event.is(Event.ID.SequenceEnd))
+                depth--;
+        }
+    }
+
+    /**
+     * Signals that a docker-compose file uses aliases or merge keys, which are not resolved by the event-based parsing.
+     */
+    private static class AliasFoundException extends RuntimeException {
+        AliasFoundException() {
+            super(null, null, false, false);
+        }
     }
 
     protected class ServiceDependency {
@@ -16,6 +16,7 @@
 package org.contextmapper.discovery.strategies.relationships;
 
 import org.contextmapper.discovery.ContextMapDiscoverer;
+import org.contextmapper.discovery.metrics.DiscoveryMetricsListener;
 import org.contextmapper.discovery.model.Relationship;
 
 import java.util.Set;
@@ -34,6 +35,19 @@ public interface RelationshipDiscoveryStrategy {
      */
     Set<Relationship> discoverRelationships();
 
+    /**
+     * Checks whether the relationships discovered by this strategy may change if the given input changes. Used by
+     * {@link ContextMapDiscoverer#rediscoverContextMap(String...)} to apply only the affected strategies again.
+     * <p>
+     * The default implementation answers true, so that strategies not implementing this method are always applied.
+     *
+     * @param changedInput the changed input (a package or type name, a file path, etc.)
+     * @return true if the strategy has to be applied again, false otherwise
+     */
+    default boolean isAffectedBy(String changedInput) {
+        return true;
+    }
+
     /**
      * Sets the reference to the parent discoverer. Must be set before discovering starts, so
      * that relationship discoverer can lookup Bounded Contexts.
@@ -42,4 +56,15 @@ public interface RelationshipDiscoveryStrategy {
      */
     void setContextMapDiscoverer(ContextMapDiscoverer discoverer);
 
+    /**
+     * Sets the listener to which the strategy reports the metrics of its internal phases (parsing, etc.).
+     * Called by the {@link ContextMapDiscoverer} before the strategy is applied.
+     * <p>
+     * The default implementation ignores the listener.
+     *
+     * @param metricsListener the metrics listener
+     */
+    default void setMetricsListener(DiscoveryMetricsListener metricsListener) {
+    }
+
 }
@@ -15,17 +15,30 @@
  */
 package org.contextmapper.discovery;
 
+import org.contextmapper.discovery.metrics.DiscoveryCount;
+import org.contextmapper.discovery.metrics.DiscoveryPhase;
+import org.contextmapper.discovery.metrics.RecordingDiscoveryMetricsListener;
 import org.contextmapper.discovery.model.BoundedContext;
 import org.contextmapper.discovery.model.ContextMap;
 import org.contextmapper.discovery.model.Relationship;
+import org.contextmapper.discovery.snapshot.SnapshotWriter;
 import org.contextmapper.discovery.strategies.boundedcontexts.AbstractBoundedContextDiscoveryStrategy;
 import org.contextmapper.discovery.strategies.boundedcontexts.BoundedContextDiscoveryStrategy;
+import org.contextmapper.discovery.strategies.names.SeparatorToCamelCaseBoundedContextNameMappingStrategy;
 import org.contextmapper.discovery.strategies.relationships.AbstractRelationshipDiscoveryStrategy;
 import org.contextmapper.discovery.strategies.relationships.RelationshipDiscoveryStrategy;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -99,6 +112,370 @@ public class ContextMapDiscovererTest {
         assertNull(discoverer.lookupBoundedContext("NotExistingContext"));
     }
 
+    @Test
+    public void lookupMapsEachNameOnlyOnce() {
+        // given
+        CountingNameMappingStrategy nameMappingStrategy = new CountingNameMappingStrategy();
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(
+                        new DummyDiscoveryStrategy())
+                .usingBoundedContextNameMappingStrategies(nameMappingStrategy);
+        discoverer.discoverContextMap();
+
+        // when
+        BoundedContext first = discoverer.lookupBoundedContext("dummy-upstream-context");
+        BoundedContext second = discoverer.lookupBoundedContext("dummy-upstream-context");
+        BoundedContext notExisting = discoverer.lookupBoundedContext("not-existing-context");
+        discoverer.lookupBoundedContext("not-existing-context");
+
+        // then
+        assertEquals("DummyUpstreamContext", first.getName());
+        assertSame(first, second);
+        assertNull(notExisting);
+        assertEquals(2, nameMappingStrategy.calls);
+    }
+
+    @Test
+    public void lookupFindsBoundedContextsAddedToContextMapLater() {
+        // given
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(
+                        new DummyDiscoveryStrategy());
+        ContextMap contextMap = discoverer.discoverContextMap();
+        BoundedContext notYetAdded = discoverer.lookupBoundedContext("AddedContext");
+
+        // when
+        contextMap.addBoundedContext(new BoundedContext("AddedContext"));
+        BoundedContext added = discoverer.lookupBoundedContext("AddedContext");
+
+        // then
+        assertNull(notYetAdded);
+        assertNotNull(added);
+        assertEquals("AddedContext", added.getName());
+    }
+
+    @Test
+    public void lookupFindsBoundedContextsOfRediscovery() {
+        // given
+        IncrementalDiscoveryStrategy strategy = new IncrementalDiscoveryStrategy("ContextA", "input-a");
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(strategy);
+        discoverer.discoverContextMap();
+        BoundedContext previous = discoverer.lookupBoundedContext("ContextA");
+
+        // when
+        discoverer.rediscoverContextMap("input-a");
+        BoundedContext rediscovered = discoverer.lookupBoundedContext("ContextA");
+
+        // then
+        assertNotSame(previous, rediscovered);
+        assertEquals("run 2", rediscovered.getTechnology());
+    }
+
+    @Test
+    public void canDiscoverBoundedContextsInParallel() {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(
+                        new DummyDiscoveryStrategy(),
+                        new SingleContextDiscoveryStrategy("AnotherContext"))
+                .usingRelationshipDiscoveryStrategies(
+                        new DummyRelationshipStrategy())
+                .usingParallelBoundedContextDiscovery(executor);
+
+        // when
+        ContextMap contextMap = discoverer.discoverContextMap();
+        executor.shutdown();
+
+        // then
+        assertEquals(3, contextMap.getBoundedContexts().size());
+        assertTrue(contextMap.getBoundedContexts().contains(new BoundedContext("DummyUpstreamContext")));
+        assertTrue(contextMap.getBoundedContexts().contains(new BoundedContext("DummyDownstreamContext")));
+        assertTrue(contextMap.getBoundedContexts().contains(new BoundedContext("AnotherContext")));
+        assertEquals(1, contextMap.getRelationships().size());
+    }
+
+    @Test
+    public void parallelDiscoveryMergesResultsInRegistrationOrder() {
+        // given
+        BoundedContext first = new BoundedContext("SameContext");
+        first.setTechnology("First");
+        BoundedContext second = new BoundedContext("SameContext");
+        second.setTechnology("Second");
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(
+                        new SingleContextDiscoveryStrategy(first),
+                        new SingleContextDiscoveryStrategy(second))
+                .usingParallelBoundedContextDiscovery();
+
+        // when
+        ContextMap contextMap = discoverer.discoverContextMap();
+
+        // then
+        assertEquals(1, contextMap.getBoundedContexts().size());
+        assertEquals("First", contextMap.getBoundedContexts().iterator().next().getTechnology());
+    }
+
+    @Test
+    public void parallelDiscoveryPropagatesStrategyExceptions() {
+        // given
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(() -> {
+                    throw new IllegalArgumentException("strategy failed");
+                })
+                .usingParallelBoundedContextDiscovery();
+
+        // when, then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            discoverer.discoverContextMap();
+        });
+    }
+
+    @Test
+    public void rediscoveryOnlyAppliesAffectedStrategies() {
+        // given
+        IncrementalDiscoveryStrategy strategyA = new IncrementalDiscoveryStrategy("ContextA", "input-a");
+        IncrementalDiscoveryStrategy strategyB = new IncrementalDiscoveryStrategy("ContextB", "input-b");
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(strategyA, strategyB);
+        discoverer.discoverContextMap();
+
+        // when
+        ContextMap contextMap = discoverer.rediscoverContextMap("input-a");
+
+        // then
+        assertEquals(2, strategyA.runs);
+        assertEquals(1, strategyB.runs);
+        assertEquals(2, contextMap.getBoundedContexts().size());
+        assertEquals("run 2", discoverer.lookupBoundedContext("ContextA").getTechnology());
+        assertEquals("run 1", discoverer.lookupBoundedContext("ContextB").getTechnology());
+    }
+
+    @Test
+    public void rediscoveryReusesRelationshipsOfUnchangedBoundedContexts() {
+        // given
+        CountingRelationshipStrategy relationshipStrategy = new CountingRelationshipStrategy();
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(
+                        new IncrementalDiscoveryStrategy("DummyUpstreamContext", "input-upstream"),
+                        new IncrementalDiscoveryStrategy("DummyDownstreamContext", "input-downstream"),
+                        new IncrementalDiscoveryStrategy("OtherContext", "input-other"))
+                .usingRelationshipDiscoveryStrategies(relationshipStrategy);
+        discoverer.discoverContextMap();
+
+        // when
+        ContextMap unchangedRelationshipsMap = discoverer.rediscoverContextMap("input-other");
+        ContextMap changedRelationshipsMap = discoverer.rediscoverContextMap("input-upstream");
+
+        // then
+        assertEquals(1, unchangedRelationshipsMap.getRelationships().size());
+        assertEquals(1, changedRelationshipsMap.getRelationships().size());
+        assertEquals(2, relationshipStrategy.runs);
+    }
+
+    @Test
+    public void rediscoveryWithoutPreviousRunDiscoversEverything() {
+        // given
+        IncrementalDiscoveryStrategy strategy = new IncrementalDiscoveryStrategy("ContextA", "input-a");
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(strategy);
+
+        // when
+        ContextMap contextMap = discoverer.rediscoverContextMap("input-b");
+
+        // then
+        assertEquals(1, strategy.runs);
+        assertEquals(1, contextMap.getBoundedContexts().size());
+    }
+
+    @Test
+    public void rediscoveryOfPreviousContextMapOnlyAppliesAffectedStrategies() {
+        // given
+        ContextMap previousContextMap = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(
+                        new IncrementalDiscoveryStrategy("ContextA", "input-a"),
+                        new IncrementalDiscoveryStrategy("ContextB", "input-b"))
+                .discoverContextMap();
+        IncrementalDiscoveryStrategy strategyA = new IncrementalDiscoveryStrategy("ContextA", "input-a");
+        IncrementalDiscoveryStrategy strategyB = new IncrementalDiscoveryStrategy("ContextB", "input-b");
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(strategyA, strategyB);
+
+        // when
+        ContextMap contextMap = discoverer.rediscoverContextMap(previousContextMap, "input-a");
+
+        // then
+        assertEquals(1, strategyA.runs);
+        assertEquals(0, strategyB.runs);
+        assertEquals(2, contextMap.getBoundedContexts().size());
+        BoundedContext previousContextA = previousContextMap.getBoundedContexts().stream().filter(bc -> bc.getName().equals("ContextA")).findFirst().get();
+        BoundedContext previousContextB = previousContextMap.getBoundedContexts().stream().filter(bc -> bc.getName().equals("ContextB")).findFirst().get();
+        assertNotSame(previousContextA, discoverer.lookupBoundedContext("ContextA"));
+        assertSame(previousContextB, discoverer.lookupBoundedContext("ContextB"));
+    }
+
+    @Test
+    public void rediscoveryOfSnapshotReusesRelationshipsIfNoStrategyIsAffected(@TempDir File tempDir) throws IOException {
+        // given
+        File snapshotFile = writeSnapshotWithRelationship(tempDir);
+        IncrementalDiscoveryStrategy strategy = new IncrementalDiscoveryStrategy("DummyUpstreamContext", "input-upstream");
+        CountingRelationshipStrategy relationshipStrategy = new CountingRelationshipStrategy();
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(strategy)
+                .usingRelationshipDiscoveryStrategies(relationshipStrategy);
+
+        // when
+        ContextMap contextMap = discoverer.rediscoverContextMap(snapshotFile, "input-other");
+
+        // then
+        assertEquals(0, strategy.runs);
+        assertEquals(0, relationshipStrategy.runs);
+        assertEquals(2, contextMap.getBoundedContexts().size());
+        Relationship relationship = contextMap.getRelationships().iterator().next();
+        assertSame(discoverer.lookupBoundedContext("DummyUpstreamContext"), relationship.getUpstream());
+    }
+
+    @Test
+    public void rediscoveryOfSnapshotAppliesRelationshipStrategiesIfBoundedContextsChanged(@TempDir File tempDir) throws IOException {
+        // given
+        File snapshotFile = writeSnapshotWithRelationship(tempDir);
+        IncrementalDiscoveryStrategy strategy = new IncrementalDiscoveryStrategy("DummyUpstreamContext", "input-upstream");
+        CountingRelationshipStrategy relationshipStrategy = new CountingRelationshipStrategy();
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(strategy)
+                .usingRelationshipDiscoveryStrategies(relationshipStrategy);
+
+        // when
+        ContextMap contextMap = discoverer.rediscoverContextMap(snapshotFile, "input-upstream");
+
+        // then
+        assertEquals(1, strategy.runs);
+        assertEquals(1, relationshipStrategy.runs);
+        assertEquals(2, contextMap.getBoundedContexts().size());
+        assertEquals("run 1", discoverer.lookupBoundedContext("DummyUpstreamContext").getTechnology());
+        assertEquals(1, contextMap.getRelationships().size());
+    }
+
+    @Test
+    public void reportsMetricsToListener() {
+        // given
+        RecordingDiscoveryMetricsListener listener = new RecordingDiscoveryMetricsListener();
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(new DummyDiscoveryStrategy())
+                .usingRelationshipDiscoveryStrategies(new DummyRelationshipStrategy())
+                .usingMetricsListener(listener);
+
+        // when
+        discoverer.discoverContextMap();
+
+        // then
+        assertTrue(listener.getPhases().stream().anyMatch(p -> p.getPhase() == DiscoveryPhase.BOUNDED_CONTEXT_DISCOVERY
+                && p.getSource().equals("DummyDiscoveryStrategy") && p.getInvocations() == 1));
+        assertTrue(listener.getPhases().stream().anyMatch(p -> p.getPhase() == DiscoveryPhase.RELATIONSHIP_DISCOVERY
+                && p.getSource().equals("DummyRelationshipStrategy")));
+        assertEquals(2, getCount(listener, "ContextMap", DiscoveryCount.BOUNDED_CONTEXTS));
+        assertEquals(1, getCount(listener, "ContextMap", DiscoveryCount.RELATIONSHIPS));
+        assertEquals(2, getCount(listener, "DummyDiscoveryStrategy", DiscoveryCount.BOUNDED_CONTEXTS));
+    }
+
+    @Test
+    public void cannotUseNullMetricsListener() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ContextMapDiscoverer().usingMetricsListener(null));
+    }
+
+    private File writeSnapshotWithRelationship(File directory) throws IOException {
+        BoundedContext upstream = new BoundedContext("DummyUpstreamContext");
+        BoundedContext downstream = new BoundedContext("DummyDownstreamContext");
+        ContextMap contextMap = new ContextMap();
+        contextMap.addBoundedContext(upstream);
+        contextMap.addBoundedContext(downstream);
+        contextMap.addRelationship(new Relationship(upstream, downstream));
+        File snapshotFile = new File(directory, "context-map.snapshot");
+        try (OutputStream out = new FileOutputStream(snapshotFile)) {
+            new SnapshotWriter().writeContextMap(contextMap, out);
+        }
+        return snapshotFile;
+    }
+
+    private long getCount(RecordingDiscoveryMetricsListener listener, String source, DiscoveryCount count) {
+        return listener.getCounts().stream()
+                .filter(c -> c.getSource().equals(source) && c.getCount() == count)
+                .findFirst().get().getValue();
+    }
+
+    private class IncrementalDiscoveryStrategy extends AbstractBoundedContextDiscoveryStrategy implements BoundedContextDiscoveryStrategy {
+        private String name;
+        private String input;
+        private int runs = 0;
+
+        IncrementalDiscoveryStrategy(String name, String input) {
+            this.name = name;
+            this.input = input;
+        }
+
+        @Override
+        public Set<BoundedContext> discoverBoundedContexts() {
+            runs++;
+            Set<BoundedContext> bcs = new HashSet<>();
+            bcs.add(createBoundedContext(name, "run " + runs));
+            return bcs;
+        }
+
+        @Override
+        public boolean isAffectedBy(String changedInput) {
+            return input.equals(changedInput);
+        }
+    }
+
+    private class CountingRelationshipStrategy extends DummyRelationshipStrategy {
+        private int runs = 0;
+
+        @Override
+        public Set<Relationship> discoverRelationships() {
+            runs++;
+            return super.discoverRelationships();
+        }
+
+        @Override
+        public boolean isAffectedBy(String changedInput) {
+            return false;
+        }
+    }
+
+    private class CountingNameMappingStrategy extends SeparatorToCamelCaseBoundedContextNameMappingStrategy {
+        private int calls = 0;
+
+        CountingNameMappingStrategy() {
+            super("-");
+        }
+
+        @Override
+        public String mapBoundedContextName(String name) {
+            calls++;
+            return super.mapBoundedContextName(name);
+        }
+    }
+
+    private class SingleContextDiscoveryStrategy extends AbstractBoundedContextDiscoveryStrategy implements BoundedContextDiscoveryStrategy {
+        private BoundedContext boundedContext;
+
+        SingleContextDiscoveryStrategy(String name) {
+            this(new BoundedContext(name));
+        }
+
+        SingleContextDiscoveryStrategy(BoundedContext boundedContext) {
+            this.boundedContext = boundedContext;
+        }
+
+        @Override
+        public Set<BoundedContext> discoverBoundedContexts() {
+            Set<BoundedContext> bcs = new HashSet<>();
+            bcs.add(boundedContext);
+            return bcs;
+        }
+    }
+
     private class DummyDiscoveryStrategy extends AbstractBoundedContextDiscoveryStrategy implements BoundedContextDiscoveryStrategy {
         @Override
         public Set<BoundedContext> discoverBoundedContexts() {
@@ -22,8 +22,11 @@ import org.contextmapper.discovery.strategies.names.SeparatorToCamelCaseBoundedC
 import org.contextmapper.discovery.strategies.relationships.DockerComposeRelationshipDiscoveryStrategy;
 import org.junit.jupiter.api.*;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 
 import static org.contextmapper.discovery.strategies.boundedcontexts.OASBoundedContextDiscoveryStrategyTest.SAMPLE_CONTRACT_LOCATION;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -112,6 +115,55 @@ public class ContextMapSerializerTest {
         assertTrue(new File(TEST_OAS_CML_FILE).exists());
     }
 
+    @Test
+    public void canStreamDiscoveredModelToWriter() throws IOException {
+        // given
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(
+                        new SpringBootBoundedContextDiscoveryStrategy("test.microservice.spring.boot"))
+                .usingRelationshipDiscoveryStrategies(
+                        new DockerComposeRelationshipDiscoveryStrategy(new File("./src/test/resources/test/microservice/spring-boot")))
+                .usingBoundedContextNameMappingStrategies(
+                        new SeparatorToCamelCaseBoundedContextNameMappingStrategy("-")
+                );
+        StringWriter writer = new StringWriter();
+
+        // when
+        ContextMap contextmap = discoverer.discoverContextMap();
+        new ContextMapSerializer().serializeContextMap(contextmap, writer);
+
+        // then
+        String cml = writer.toString();
+        assertTrue(cml.startsWith("ContextMap {"));
+        assertTrue(cml.contains("BoundedContext "));
+    }
+
+    @Test
+    public void canStreamDiscoveredModelToOutputStream() throws IOException {
+        // given
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(new OASBoundedContextDiscoveryStrategy(SAMPLE_CONTRACT_LOCATION));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        ContextMap contextmap = discoverer.discoverContextMap();
+        new ContextMapSerializer().serializeContextMap(contextmap, outputStream);
+
+        // then
+        assertTrue(new String(outputStream.toByteArray(), StandardCharsets.UTF_8).contains("BoundedContext "));
+    }
+
+    @Test
+    public void cannotStreamEmptyContextMap() {
+        // given
+        ContextMap contextMap = new ContextMap();
+
+        // when, then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new ContextMapSerializer().serializeContextMap(contextMap, new StringWriter());
+        });
+    }
+
     @Test
     public void cannotSerializeOtherThanCMLFile() {
         // given
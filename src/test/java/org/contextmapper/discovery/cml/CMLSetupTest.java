@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.cml;
+
+import com.google.inject.Injector;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CMLSetupTest {
+
+    @Test
+    public void createsInjectorOnlyOnceForConcurrentCallers() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Injector>> injectors = new ArrayList<>();
+
+        // when
+        try {
+            for (int i = 0; i < 8; i++) {
+                injectors.add(executor.submit(CMLSetup::getInjector));
+            }
+            // then
+            for (Future<Injector> injector : injectors) {
+                assertSame(CMLSetup.getInjector(), injector.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void createsNewResourceSetForEveryCall() {
+        // when
+        XtextResourceSet first = CMLSetup.createResourceSet();
+        XtextResourceSet second = CMLSetup.createResourceSet();
+
+        // then
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void resourceSetCreatesCMLResources() {
+        // given
+        XtextResourceSet resourceSet = CMLSetup.createResourceSet();
+
+        // when
+        Resource resource = resourceSet.createResource(URI.createURI("dummy:/test.cml"));
+
+        // then
+        assertTrue(resource instanceof XtextResource);
+    }
+
+}
@@ -17,6 +17,7 @@ package org.contextmapper.discovery.cml;
 
 import org.contextmapper.discovery.ContextMapDiscoverer;
 import org.contextmapper.discovery.model.DomainObject;
+import org.contextmapper.discovery.model.DomainObjectType;
 import org.contextmapper.discovery.strategies.boundedcontexts.OASBoundedContextDiscoveryStrategy;
 import org.contextmapper.discovery.strategies.boundedcontexts.OASBoundedContextDiscoveryStrategyTest;
 import org.contextmapper.discovery.strategies.boundedcontexts.SpringBootBoundedContextDiscoveryStrategy;
@@ -133,6 +134,27 @@ public class ContextMapToCMLConverterTest {
         assertTrue(rootEntity.isAggregateRoot());
     }
 
+    @Test
+    public void usesRootEntityNamingConventionIfNoRootEntityIsSet() {
+        // given
+        org.contextmapper.discovery.model.ContextMap contextMap = new org.contextmapper.discovery.model.ContextMap();
+        org.contextmapper.discovery.model.BoundedContext boundedContext = new org.contextmapper.discovery.model.BoundedContext("TestContext");
+        org.contextmapper.discovery.model.Aggregate aggregate = new org.contextmapper.discovery.model.Aggregate("customers");
+        aggregate.addDomainObject(new DomainObject(DomainObjectType.ENTITY, "customers_RootEntity"));
+        aggregate.addDomainObject(new DomainObject(DomainObjectType.ENTITY, "Customer"));
+        boundedContext.addAggregate(aggregate);
+        contextMap.addBoundedContext(boundedContext);
+
+        // when
+        ContextMappingModel model = new ContextMapToCMLConverter().convert(contextMap);
+
+        // then
+        Set<String> aggregateRoots = model.getBoundedContexts().get(0).getAggregates().get(0).getDomainObjects().stream()
+                .filter(o -> o instanceof Entity && ((Entity) o).isAggregateRoot())
+                .map(SimpleDomainObject::getName).collect(Collectors.toSet());
+        assertEquals(Set.of("customers_RootEntity"), aggregateRoots);
+    }
+
     @Test
     public void canConvertRootEntityMethods() {
         // given
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.cml;
+
+import org.contextmapper.discovery.ContextMapDiscoverer;
+import org.contextmapper.discovery.model.DomainObjectType;
+import org.contextmapper.discovery.strategies.boundedcontexts.OASBoundedContextDiscoveryStrategy;
+import org.contextmapper.discovery.strategies.boundedcontexts.OASBoundedContextDiscoveryStrategyTest;
+import org.contextmapper.discovery.strategies.boundedcontexts.SpringBootBoundedContextDiscoveryStrategy;
+import org.contextmapper.discovery.strategies.names.SeparatorToCamelCaseBoundedContextNameMappingStrategy;
+import org.contextmapper.discovery.strategies.relationships.DockerComposeRelationshipDiscoveryStrategy;
+import org.contextmapper.dsl.contextMappingDSL.*;
+import org.contextmapper.tactic.dsl.tacticdsl.*;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContextMapToCMLWriterTest {
+
+    @Test
+    public void writesSameModelAsConverter() throws IOException {
+        // given
+        org.contextmapper.discovery.model.ContextMap contextMap = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(
+                        new SpringBootBoundedContextDiscoveryStrategy("test.microservice.spring.boot"),
+                        new SpringBootBoundedContextDiscoveryStrategy("test.application.spring.boot"),
+                        new OASBoundedContextDiscoveryStrategy(OASBoundedContextDiscoveryStrategyTest.SAMPLE_CONTRACT_LOCATION))
+                .usingRelationshipDiscoveryStrategies(
+                        new DockerComposeRelationshipDiscoveryStrategy(new File("./src/test/resources/test/microservice/spring-boot")))
+                .usingBoundedContextNameMappingStrategies(
+                        new SeparatorToCamelCaseBoundedContextNameMappingStrategy("-"))
+                .discoverContextMap();
+
+        // when
+        String cml = write(contextMap);
+
+        // then
+        assertEquals(describe(new ContextMapToCMLConverter().convert(contextMap)), describe(parse(cml)));
+    }
+
+    @Test
+    public void escapesKeywords() throws IOException {
+        // given
+        org.contextmapper.discovery.model.ContextMap contextMap = new org.contextmapper.discovery.model.ContextMap();
+        org.contextmapper.discovery.model.BoundedContext boundedContext = new org.contextmapper.discovery.model.BoundedContext("TestContext");
+        org.contextmapper.discovery.model.Aggregate aggregate = new org.contextmapper.discovery.model.Aggregate("customers");
+        org.contextmapper.discovery.model.DomainObject customer = new org.contextmapper.discovery.model.DomainObject(DomainObjectType.VALUE_OBJECT, "Customer");
+        customer.addAttribute(new org.contextmapper.discovery.model.Attribute(new org.contextmapper.discovery.model.Type("int"), "size"));
+        customer.addAttribute(new org.contextmapper.discovery.model.Attribute(new org.contextmapper.discovery.model.Type("String"), "email"));
+        aggregate.addDomainObject(customer);
+        boundedContext.addAggregate(aggregate);
+        contextMap.addBoundedContext(boundedContext);
+
+        // when
+        String cml = write(contextMap);
+
+        // then
+        assertTrue(cml.contains("int ^size"));
+        assertTrue(cml.contains("String ^email"));
+        ValueObject valueObject = (ValueObject) parse(cml).getBoundedContexts().get(0).getAggregates().get(0).getDomainObjects().get(0);
+        Set<String> attributeNames = valueObject.getAttributes().stream().map(Attribute::getName).collect(Collectors.toSet());
+        assertTrue(attributeNames.contains("size"));
+        assertTrue(attributeNames.contains("email"));
+    }
+
+    @Test
+    public void writesTechnologyAsString() throws IOException {
+        // given
+        org.contextmapper.discovery.model.ContextMap contextMap = new org.contextmapper.discovery.model.ContextMap();
+        org.contextmapper.discovery.model.BoundedContext boundedContext = new org.contextmapper.discovery.model.BoundedContext("TestContext");
+        boundedContext.setTechnology("Spring \"Boot\"");
+        contextMap.addBoundedContext(boundedContext);
+
+        // when
+        ContextMappingModel model = parse(write(contextMap));
+
+        // then
+        assertEquals("Spring \"Boot\"", model.getBoundedContexts().get(0).getImplementationTechnology());
+    }
+
+    private String write(org.contextmapper.discovery.model.ContextMap contextMap) throws IOException {
+        StringWriter writer = new StringWriter();
+        new ContextMapToCMLWriter(writer).write(contextMap);
+        return writer.toString();
+    }
+
+    private ContextMappingModel parse(String cml) throws IOException {
+        XtextResourceSet resourceSet = CMLSetup.createResourceSet();
+        Resource resource = resourceSet.createResource(URI.createURI("dummy:/test.cml"));
+        resource.load(new ByteArrayInputStream(cml.getBytes(StandardCharsets.UTF_8)), resourceSet.getLoadOptions());
+        assertTrue(resource.getErrors().isEmpty(), resource.getErrors().toString());
+        return (ContextMappingModel) resource.getContents().get(0);
+    }
+
+    /**
+     * Describes the structure of a CML model independent of the order of its elements.
+     */
+    private Set<String> describe(ContextMappingModel model) {
+        Set<String> description = new TreeSet<>();
+        for (BoundedContext bc : model.getBoundedContexts()) {
+            description.add("BC " + bc.getName() + " " + bc.getImplementationTechnology());
+            for (Aggregate aggregate : bc.getAggregates()) {
+                String aggregatePath = bc.getName() + "/" + aggregate.getName();
+                description.add("AGG " + aggregatePath + " " + aggregate.getComment());
+                for (SimpleDomainObject simpleDomainObject : aggregate.getDomainObjects()) {
+                    DomainObject domainObject = (DomainObject) simpleDomainObject;
+                    String path = aggregatePath + "/" + domainObject.getName();
+                    description.add("DO " + path + " " + domainObject.eClass().getName() + " " + feature(domainObject, "aggregateRoot") + " " + feature(domainObject, "comment"));
+                    for (Attribute attribute : domainObject.getAttributes())
+                        description.add("ATTR " + path + "/" + attribute.getName() + " " + attribute.getCollectionType() + " " + attribute.getType());
+                    for (Reference reference : domainObject.getReferences())
+                        description.add("REF " + path + "/" + reference.getName() + " " + reference.getCollectionType() + " " + reference.getDomainObjectType().getName());
+                    for (DomainObjectOperation operation : domainObject.getOperations())
+                        description.add("OP " + path + "/" + operation.getName() + " " + describe(operation.getReturnType()) + " " + describeParameters(operation.getParameters()));
+                }
+                for (Service service : aggregate.getServices()) {
+                    description.add("SVC " + aggregatePath + "/" + service.getName() + " " + service.getComment());
+                    for (ServiceOperation operation : service.getOperations())
+                        description.add("SVCOP " + aggregatePath + "/" + service.getName() + "/" + operation.getName() + " " + describe(operation.getReturnType()) + " " + describeParameters(operation.getParameters()));
+                }
+            }
+        }
+        for (Relationship relationship : model.getMap().getRelationships()) {
+            UpstreamDownstreamRelationship upstreamDownstream = (UpstreamDownstreamRelationship) relationship;
+            description.add("REL " + upstreamDownstream.getUpstream().getName() + " -> " + upstreamDownstream.getDownstream().getName() + " "
+                    + upstreamDownstream.getUpstreamExposedAggregates().stream().map(Aggregate::getName).sorted().collect(Collectors.toList()) + " "
+                    + String.valueOf(upstreamDownstream.getExposedAggregatesComment()).trim());
+        }
+        return description;
+    }
+
+    private Object feature(EObject object, String featureName) {
+        return object.eGet(object.eClass().getEStructuralFeature(featureName));
+    }
+
+    private String describe(ComplexType type) {
+        if (type == null)
+            return "void";
+        String name = type.getDomainObjectType() != null ? "@" + type.getDomainObjectType().getName() : type.getType();
+        return type.getCollectionType() + "<" + name + ">";
+    }
+
+    private String describeParameters(java.util.List<Parameter> parameters) {
+        return parameters.stream().map(p -> describe(p.getParameterType()) + " " + p.getName()).sorted().collect(Collectors.toList()).toString();
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.diff;
+
+import org.contextmapper.discovery.model.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContextMapDifferTest {
+
+    @Test
+    public void noChangesForEqualContextMaps() {
+        // when
+        ContextMapDiff diff = new ContextMapDiffer().compare(createContextMap(), createContextMap());
+
+        // then
+        assertFalse(diff.hasChanges());
+        assertTrue(diff.getChanges().isEmpty());
+    }
+
+    @Test
+    public void canDetectAddedAndRemovedElements() {
+        // given
+        ContextMap previous = createContextMap();
+        ContextMap current = createContextMap();
+        BoundedContext customers = find(current, "CustomerManagement");
+        DomainObject customer = customers.getAggregates().iterator().next().getDomainObjects().iterator().next();
+        customer.addAttribute(new Attribute(new Type("String"), "email"));
+        Aggregate addresses = new Aggregate("Addresses");
+        addresses.addDomainObject(new DomainObject(DomainObjectType.ENTITY, "Address"));
+        customers.addAggregate(addresses);
+        current.addBoundedContext(new BoundedContext("Billing"));
+
+        // when
+        List<Change> changes = new ContextMapDiffer().compare(previous, current).getChanges();
+
+        // then
+        assertEquals(Arrays.asList(
+                new Change(ChangeType.ADDED, ElementType.BOUNDED_CONTEXT, "Billing", null),
+                new Change(ChangeType.ADDED, ElementType.AGGREGATE, "CustomerManagement/Addresses", null),
+                new Change(ChangeType.ADDED, ElementType.ATTRIBUTE, "CustomerManagement/Customers/Customer/email", null)
+        ), changes);
+
+        // and when
+        List<Change> reverseChanges = new ContextMapDiffer().compare(current, previous).getChanges();
+
+        // then
+        assertEquals(3, reverseChanges.size());
+        assertTrue(reverseChanges.stream().allMatch(c -> c.getChangeType() == ChangeType.REMOVED));
+    }
+
+    @Test
+    public void canDetectChangedElements() {
+        // given
+        ContextMap previous = createContextMap();
+        ContextMap current = new ContextMap();
+        BoundedContext customers = new BoundedContext("CustomerManagement");
+        customers.setTechnology("OpenAPI");
+        Aggregate aggregate = new Aggregate("Customers");
+        DomainObject customer = new DomainObject(DomainObjectType.VALUE_OBJECT, "Customer");
+        Type names = new Type("String", "List");
+        customer.addAttribute(new Attribute(names, "name"));
+        aggregate.addDomainObject(customer);
+        customers.addAggregate(aggregate);
+        BoundedContext orders = new BoundedContext("OrderManagement");
+        current.addBoundedContext(customers);
+        current.addBoundedContext(orders);
+        current.addRelationship(new Relationship(customers, orders));
+
+        // when
+        List<Change> changes = new ContextMapDiffer().compare(previous, current).getChanges();
+
+        // then
+        assertEquals(Arrays.asList(
+                new Change(ChangeType.CHANGED, ElementType.BOUNDED_CONTEXT, "CustomerManagement", "technology: Spring Boot -> OpenAPI"),
+                new Change(ChangeType.CHANGED, ElementType.RELATIONSHIP, "CustomerManagement -> OrderManagement", "exposed Aggregates: [Customers] -> []"),
+                new Change(ChangeType.CHANGED, ElementType.DOMAIN_OBJECT, "CustomerManagement/Customers/Customer", "type: ENTITY -> VALUE_OBJECT"),
+                new Change(ChangeType.CHANGED, ElementType.ATTRIBUTE, "CustomerManagement/Customers/Customer/name", "type: String -> List<String>")
+        ), changes);
+    }
+
+    @Test
+    public void canDetectRemovedRelationships() {
+        // given
+        ContextMap previous = createContextMap();
+        ContextMap current = new ContextMap();
+        current.addAllBoundedContexts(createContextMap().getBoundedContexts());
+
+        // when
+        List<Change> changes = new ContextMapDiffer().compare(previous, current).getChanges();
+
+        // then
+        assertEquals(1, changes.size());
+        assertEquals("REMOVED RELATIONSHIP CustomerManagement -> OrderManagement", changes.get(0).toString());
+    }
+
+    @Test
+    public void canWriteChangesAsCMLComment() throws IOException {
+        // given
+        ContextMap current = createContextMap();
+        current.addBoundedContext(new BoundedContext("Billing"));
+        ContextMapDiff diff = new ContextMapDiffer().compare(createContextMap(), current);
+        StringWriter writer = new StringWriter();
+
+        // when
+        diff.writeCML(writer);
+
+        // then
+        String cml = writer.toString();
+        assertTrue(cml.startsWith("/* Changes since the previous discovery run:"));
+        assertTrue(cml.contains(" * ADDED BOUNDED_CONTEXT Billing"));
+        assertTrue(cml.contains("BoundedContext Billing"));
+    }
+
+    @Test
+    public void cannotCompareWithoutContextMaps() {
+        assertThrows(IllegalArgumentException.class, () -> new ContextMapDiffer().compare(createContextMap(), null));
+    }
+
+    private ContextMap createContextMap() {
+        BoundedContext customers = new BoundedContext("CustomerManagement");
+        customers.setTechnology("Spring Boot");
+        Aggregate aggregate = new Aggregate("Customers");
+        DomainObject customer = new DomainObject(DomainObjectType.ENTITY, "Customer");
+        customer.addAttribute(new Attribute(new Type("String"), "name"));
+        aggregate.addDomainObject(customer);
+        customers.addAggregate(aggregate);
+        BoundedContext orders = new BoundedContext("OrderManagement");
+        Relationship relationship = new Relationship(customers, orders);
+        relationship.addExposedAggregate(aggregate);
+        ContextMap contextMap = new ContextMap();
+        contextMap.addBoundedContext(customers);
+        contextMap.addBoundedContext(orders);
+        contextMap.addRelationship(relationship);
+        return contextMap;
+    }
+
+    private BoundedContext find(ContextMap contextMap, String name) {
+        return contextMap.getBoundedContexts().stream().filter(bc -> bc.getName().equals(name)).findFirst().get();
+    }
+
+}
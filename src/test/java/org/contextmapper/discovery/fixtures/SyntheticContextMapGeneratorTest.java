@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.fixtures;
+
+import org.contextmapper.discovery.model.Aggregate;
+import org.contextmapper.discovery.model.BoundedContext;
+import org.contextmapper.discovery.model.ContextMap;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SyntheticContextMapGeneratorTest {
+
+    @Test
+    public void generatesContextMapOfGivenSize() {
+        // when
+        ContextMap contextMap = new SyntheticContextMapGenerator(4, 3, 5).generate();
+
+        // then
+        assertEquals(4, contextMap.getBoundedContexts().size());
+        assertEquals(3, contextMap.getRelationships().size());
+        for (BoundedContext boundedContext : contextMap.getBoundedContexts()) {
+            assertEquals(3, boundedContext.getAggregates().size());
+            for (Aggregate aggregate : boundedContext.getAggregates()) {
+                assertEquals(5, aggregate.getDomainObjects().size());
+                assertEquals(5, aggregate.getServices().iterator().next().getOperations().size());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.fixtures;
+
+import org.contextmapper.discovery.ContextMapDiscoverer;
+import org.contextmapper.discovery.model.BoundedContext;
+import org.contextmapper.discovery.model.ContextMap;
+import org.contextmapper.discovery.strategies.relationships.DockerComposeRelationshipDiscoveryStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SyntheticDockerComposeGeneratorTest {
+
+    @Test
+    public void generatedDependenciesCanBeDiscovered(@TempDir File directory) throws IOException {
+        // given
+        new SyntheticDockerComposeGenerator(10, 3).generate(directory);
+        Set<BoundedContext> boundedContexts = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            boundedContexts.add(new BoundedContext(SyntheticDockerComposeGenerator.serviceName(i)));
+        }
+
+        // when
+        ContextMap contextMap = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(() -> boundedContexts)
+                .usingRelationshipDiscoveryStrategies(new DockerComposeRelationshipDiscoveryStrategy(directory))
+                .discoverContextMap();
+
+        // then: services 1 and 2 depend on 1 and 2 predecessors, all others on 3
+        assertEquals(1 + 2 + 7 * 3, contextMap.getRelationships().size());
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.fixtures;
+
+import org.contextmapper.discovery.model.BoundedContext;
+import org.contextmapper.discovery.strategies.boundedcontexts.OASBoundedContextDiscoveryStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SyntheticOpenAPIGeneratorTest {
+
+    @Test
+    public void generatedSpecificationCanBeDiscovered(@TempDir File directory) throws IOException {
+        // given
+        File specification = new SyntheticOpenAPIGenerator(20, 30).generate("SyntheticAPI", new File(directory, "synthetic.yml"));
+
+        // when
+        Set<BoundedContext> boundedContexts = new OASBoundedContextDiscoveryStrategy(specification.getPath()).discoverBoundedContexts();
+
+        // then
+        assertEquals(1, boundedContexts.size());
+        BoundedContext boundedContext = boundedContexts.iterator().next();
+        assertEquals("SyntheticAPI", boundedContext.getName());
+        assertEquals(20, boundedContext.getAggregates().size());
+    }
+
+}
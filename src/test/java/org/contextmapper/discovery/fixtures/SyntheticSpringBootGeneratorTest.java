@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.fixtures;
+
+import org.contextmapper.discovery.model.Aggregate;
+import org.contextmapper.discovery.model.BoundedContext;
+import org.contextmapper.discovery.strategies.boundedcontexts.SpringBootBoundedContextDiscoveryStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.net.URLClassLoader;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SyntheticSpringBootGeneratorTest {
+
+    @Test
+    public void generatedApplicationsCanBeDiscovered(@TempDir File directory) throws Exception {
+        // given
+        SyntheticSpringBootGenerator generator = new SyntheticSpringBootGenerator("synthetic.test", 2, 3, 4);
+
+        // when
+        Set<BoundedContext> boundedContexts;
+        try (URLClassLoader classLoader = generator.generate(directory)) {
+            boundedContexts = SyntheticSpringBootGenerator.runWithClassLoader(classLoader,
+                    () -> new SpringBootBoundedContextDiscoveryStrategy("synthetic.test").discoverBoundedContexts());
+        }
+
+        // then
+        assertEquals(Set.of("App0", "App1"), boundedContexts.stream().map(BoundedContext::getName).collect(Collectors.toSet()));
+        for (BoundedContext boundedContext : boundedContexts) {
+            assertEquals(Set.of("resource0", "resource1", "resource2"),
+                    boundedContext.getAggregates().stream().map(Aggregate::getName).collect(Collectors.toSet()));
+        }
+        Aggregate aggregate = boundedContexts.stream().filter(bc -> bc.getName().equals("App1")).findFirst().get()
+                .getAggregates().stream().filter(a -> a.getName().equals("resource2")).findFirst().get();
+        assertEquals(generator.dtoName(1, 2, 0), aggregate.getDomainObjects().iterator().next().getName());
+    }
+
+    @Test
+    public void generatesSourcesForAllTypes() {
+        // when
+        int sources = new SyntheticSpringBootGenerator("synthetic.test", 3, 4, 5).generateSources().size();
+
+        // then
+        assertEquals(3 * (1 + 4 * (1 + 5)), sources);
+    }
+
+    @Test
+    public void cannotGenerateEmptyApplications() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticSpringBootGenerator("synthetic.test", 1, 0, 1));
+    }
+
+}
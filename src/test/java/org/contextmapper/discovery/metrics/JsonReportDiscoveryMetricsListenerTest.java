@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.metrics;
+
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonReportDiscoveryMetricsListenerTest {
+
+    @Test
+    public void writesReportWhenDiscoveryCompleted(@TempDir File directory) throws IOException {
+        // given
+        File reportFile = new File(directory, "metrics.json");
+        JsonReportDiscoveryMetricsListener listener = new JsonReportDiscoveryMetricsListener(reportFile);
+        listener.phaseCompleted("Strategy \"A\"", DiscoveryPhase.RELATIONSHIP_DISCOVERY, 1234, -1);
+        listener.countRecorded("ContextMap", DiscoveryCount.RELATIONSHIPS, 2);
+
+        // when
+        listener.discoveryCompleted();
+
+        // then
+        String report = new String(Files.readAllBytes(reportFile.toPath()), StandardCharsets.UTF_8);
+        assertTrue(report.contains("{ \"source\": \"Strategy \\\"A\\\"\", \"phase\": \"RELATIONSHIP_DISCOVERY\", \"invocations\": 1, \"durationNanos\": 1234, \"allocatedBytes\": -1 }"));
+        assertTrue(report.contains("{ \"source\": \"ContextMap\", \"count\": \"RELATIONSHIPS\", \"value\": 2 }"));
+    }
+
+    @Test
+    public void doesNotFailDiscoveryIfReportCannotBeWritten(@TempDir File directory) {
+        // given
+        File reportFile = new File(directory, "missing/metrics.json");
+        JsonReportDiscoveryMetricsListener listener = new JsonReportDiscoveryMetricsListener(reportFile);
+
+        // when
+        listener.discoveryCompleted();
+
+        // then
+        assertFalse(reportFile.exists());
+    }
+
+    @Test
+    public void writesEmptyReport(@TempDir File directory) throws IOException {
+        // given
+        File reportFile = new File(directory, "metrics.json");
+
+        // when
+        new JsonReportDiscoveryMetricsListener(reportFile).writeReport();
+
+        // then
+        String report = new String(Files.readAllBytes(reportFile.toPath()), StandardCharsets.UTF_8);
+        assertEquals("{\n  \"phases\": [],\n  \"counts\": []\n}\n", report);
+    }
+
+}
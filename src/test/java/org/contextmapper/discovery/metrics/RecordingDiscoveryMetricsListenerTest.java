@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.metrics;
+
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RecordingDiscoveryMetricsListenerTest {
+
+    @Test
+    public void sumsUpPhasesAndCountsPerSource() {
+        // given
+        RecordingDiscoveryMetricsListener listener = new RecordingDiscoveryMetricsListener();
+
+        // when
+        listener.phaseCompleted("StrategyA", DiscoveryPhase.CLASSPATH_SCANNING, 100, 10);
+        listener.phaseCompleted("StrategyA", DiscoveryPhase.CLASSPATH_SCANNING, 50, 5);
+        listener.phaseCompleted("StrategyB", DiscoveryPhase.CLASSPATH_SCANNING, 20, -1);
+        listener.countRecorded("StrategyA", DiscoveryCount.SCANNED_CLASSES, 3);
+        listener.countRecorded("StrategyA", DiscoveryCount.SCANNED_CLASSES, 4);
+
+        // then
+        List<RecordingDiscoveryMetricsListener.PhaseStatistics> phases = listener.getPhases();
+        assertEquals(2, phases.size());
+        assertEquals("StrategyA", phases.get(0).getSource());
+        assertEquals(2, phases.get(0).getInvocations());
+        assertEquals(150, phases.get(0).getDurationNanos());
+        assertEquals(15, phases.get(0).getAllocatedBytes());
+        assertEquals(-1, phases.get(1).getAllocatedBytes());
+        assertEquals(1, listener.getCounts().size());
+        assertEquals(7, listener.getCounts().get(0).getValue());
+    }
+
+    @Test
+    public void resetsRecordsWhenDiscoveryStarts() {
+        // given
+        RecordingDiscoveryMetricsListener listener = new RecordingDiscoveryMetricsListener();
+        listener.phaseCompleted("StrategyA", DiscoveryPhase.REFLECTION, 100, 10);
+        listener.countRecorded("StrategyA", DiscoveryCount.AGGREGATES, 3);
+
+        // when
+        listener.discoveryStarted();
+
+        // then
+        assertTrue(listener.getPhases().isEmpty());
+        assertTrue(listener.getCounts().isEmpty());
+    }
+
+}
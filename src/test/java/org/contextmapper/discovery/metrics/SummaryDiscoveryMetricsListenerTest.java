@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.metrics;
+
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SummaryDiscoveryMetricsListenerTest {
+
+    @Test
+    public void printsSummaryWhenDiscoveryCompleted() {
+        // given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        SummaryDiscoveryMetricsListener listener = new SummaryDiscoveryMetricsListener(new PrintStream(output, true));
+        listener.phaseCompleted("StrategyA", DiscoveryPhase.SPECIFICATION_PARSING, 2_000_000, 2048);
+        listener.countRecorded("ContextMap", DiscoveryCount.BOUNDED_CONTEXTS, 5);
+
+        // when
+        listener.discoveryCompleted();
+
+        // then
+        String summary = new String(output.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(summary.contains("SPECIFICATION_PARSING"));
+        assertTrue(summary.contains("StrategyA"));
+        assertTrue(summary.contains("2.0 KB"));
+        assertTrue(summary.contains("BOUNDED_CONTEXTS"));
+    }
+
+    @Test
+    public void cannotPrintToNullStream() {
+        assertThrows(IllegalArgumentException.class, () -> new SummaryDiscoveryMetricsListener(null));
+    }
+
+}
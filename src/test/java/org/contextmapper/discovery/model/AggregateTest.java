@@ -64,6 +64,17 @@ public class AggregateTest {
         assertEquals(new DomainObject(DomainObjectType.ENTITY, "Entity", "test.Entity"), aggregate.getDomainObjects().iterator().next());
     }
 
+    @Test
+    public void domainObjectsCannotBeAddedViaGetter() {
+        // given
+        Aggregate aggregate = new Aggregate("TestAggregate");
+
+        // when, then
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> {
+            aggregate.getDomainObjects().add(new DomainObject(DomainObjectType.ENTITY, "Entity"));
+        });
+    }
+
     @Test
     public void canAddServices() {
         // given
@@ -116,4 +127,41 @@ public class AggregateTest {
         // then
         assertEquals(comment, aggregate.getDiscoveryComment());
     }
+
+    @Test
+    public void canSetRootEntity() {
+        // given
+        Aggregate aggregate = new Aggregate("TestAggregate");
+        DomainObject rootEntity = new DomainObject(DomainObjectType.ENTITY, "TestAggregate_RootEntity");
+
+        // when
+        aggregate.setRootEntity(rootEntity);
+
+        // then
+        assertSame(rootEntity, aggregate.getRootEntity());
+        assertTrue(aggregate.getDomainObjects().contains(rootEntity));
+        assertEquals(1, aggregate.getDomainObjects().size());
+    }
+
+    @Test
+    public void hasNoRootEntityByDefault() {
+        // given
+        Aggregate aggregate = new Aggregate("TestAggregate");
+
+        // when
+        aggregate.addDomainObject(new DomainObject(DomainObjectType.ENTITY, "TestAggregate_RootEntity"));
+
+        // then
+        assertNull(aggregate.getRootEntity());
+    }
+
+    @Test
+    public void cannotUseValueObjectAsRootEntity() {
+        // given
+        Aggregate aggregate = new Aggregate("TestAggregate");
+        DomainObject valueObject = new DomainObject(DomainObjectType.VALUE_OBJECT, "TestValueObject");
+
+        // when, then
+        assertThrows(IllegalArgumentException.class, () -> aggregate.setRootEntity(valueObject));
+    }
 }
@@ -18,6 +18,10 @@ package org.contextmapper.discovery.model;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class BoundedContextTest {
@@ -60,6 +64,28 @@ public class BoundedContextTest {
         assertEquals("Java", boundedContext.getTechnology());
     }
 
+    @Test
+    public void canAddAggregatesLazily() {
+        // given
+        BoundedContext boundedContext = new BoundedContext("TestContext");
+        boundedContext.addAggregate(new Aggregate("Eager"));
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        boundedContext.addAggregatesLazily(() -> {
+            calls.incrementAndGet();
+            return Set.of(new Aggregate("Lazy"));
+        });
+
+        // then
+        assertTrue(boundedContext.hasUnresolvedAggregates());
+        assertEquals(0, calls.get());
+        assertEquals(Set.of("Eager", "Lazy"), boundedContext.getAggregates().stream().map(Aggregate::getName).collect(Collectors.toSet()));
+        assertEquals(2, boundedContext.getAggregates().size());
+        assertEquals(1, calls.get());
+        assertFalse(boundedContext.hasUnresolvedAggregates());
+    }
+
     @Test
     public void boundedContextsWithSameNameAreEqual() {
         // given
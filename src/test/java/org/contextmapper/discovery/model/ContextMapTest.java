@@ -18,7 +18,10 @@ package org.contextmapper.discovery.model;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 public class ContextMapTest {
 
@@ -84,4 +87,35 @@ public class ContextMapTest {
         });
     }
 
+    @Test
+    public void boundedContextsAreReturnedAsUnmodifiableView() {
+        // given
+        ContextMap contextMap = new ContextMap();
+        Set<BoundedContext> boundedContexts = contextMap.getBoundedContexts();
+
+        // when
+        contextMap.addBoundedContext(new BoundedContext("TestContext"));
+
+        // then
+        assertEquals(1, boundedContexts.size());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> {
+            boundedContexts.add(new BoundedContext("AnotherContext"));
+        });
+    }
+
+    @Test
+    public void boundedContextsCanBeCopiedForModification() {
+        // given
+        ContextMap contextMap = new ContextMap();
+        contextMap.addBoundedContext(new BoundedContext("TestContext"));
+
+        // when
+        Set<BoundedContext> boundedContexts = new HashSet<>(contextMap.getBoundedContexts());
+        boundedContexts.add(new BoundedContext("AnotherContext"));
+
+        // then
+        assertEquals(2, boundedContexts.size());
+        assertEquals(1, contextMap.getBoundedContexts().size());
+    }
+
 }
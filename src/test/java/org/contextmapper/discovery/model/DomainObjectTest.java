@@ -165,4 +165,31 @@ public class DomainObjectTest {
         assertEquals(ENTITY, domainObject.getType());
     }
 
+    @Test
+    public void setTypeUpdatesHashCode() {
+        // given
+        DomainObject domainObject = new DomainObject(VALUE_OBJECT, "Customer");
+
+        // when
+        domainObject.setType(ENTITY);
+
+        // then
+        assertEquals(new DomainObject(ENTITY, "Customer"), domainObject);
+        assertEquals(new DomainObject(ENTITY, "Customer").hashCode(), domainObject.hashCode());
+    }
+
+    @Test
+    public void domainObjectsWithDifferentTypesAreNotEqual() {
+        // given
+        DomainObject valueObject = new DomainObject(VALUE_OBJECT, "Customer");
+
+        // when
+        DomainObject entity = new DomainObject(ENTITY, "Customer");
+
+        // then
+        assertNotEquals(valueObject, entity);
+        assertEquals(new DomainObject(ENTITY, "Customer"), entity);
+        assertEquals(new DomainObject(ENTITY, "Customer").hashCode(), entity.hashCode());
+    }
+
 }
@@ -17,7 +17,11 @@ package org.contextmapper.discovery.model;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class MethodTest {
 
@@ -30,6 +34,20 @@ public class MethodTest {
         assertEquals("testMethod", method.getName());
     }
 
+    @Test
+    public void methodStaysInSetWhenAddedToDomainObject() {
+        // given
+        Method method = new Method("testMethod");
+        Set<Method> methods = new HashSet<>();
+        methods.add(method);
+
+        // when
+        new DomainObject(DomainObjectType.ENTITY, "TestEntity").addMethod(method);
+
+        // then
+        assertTrue(methods.contains(method));
+    }
+
     @Test
     public void canSetReturnType() {
         // given
@@ -18,6 +18,8 @@ package org.contextmapper.discovery.model;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class RelationshipTest {
@@ -78,6 +80,23 @@ public class RelationshipTest {
         assertEquals(aggregate, relationship.getExposedAggregates().iterator().next());
     }
 
+    @Test
+    public void canExposeAllAggregatesWithoutResolvingThem() {
+        // given
+        BoundedContext upstream = new BoundedContext("TestContext1");
+        BoundedContext downstream = new BoundedContext("TestContext2");
+        upstream.addAggregatesLazily(() -> Set.of(new Aggregate("TestAggregate")));
+        Relationship relationship = new Relationship(upstream, downstream);
+
+        // when
+        relationship.exposeAllAggregates();
+
+        // then
+        assertTrue(upstream.hasUnresolvedAggregates());
+        assertEquals(1, relationship.getExposedAggregates().size());
+        assertEquals("TestAggregate", relationship.getExposedAggregates().iterator().next().getName());
+    }
+
     @Test
     public void cannotAddExposedAggregateWhichIsNotPartOfUpstreamContext() {
         // given
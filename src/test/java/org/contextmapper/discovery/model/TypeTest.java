@@ -142,6 +142,19 @@ public class TypeTest {
         assertEquals("List", type.getCollectionType());
     }
 
+    @Test
+    public void canCreateCollectionType() {
+        // given
+        String collectionType = "List";
+
+        // when
+        Type type = new Type("String", collectionType);
+
+        // then
+        assertTrue(type.isCollectionType());
+        assertEquals("List", type.getCollectionType());
+    }
+
     @Test
     public void cannotGetCollectionTypeIfItsNotCollection() {
         // given
@@ -153,4 +166,34 @@ public class TypeTest {
         });
     }
 
+    @Test
+    public void nullAndEmptyCollectionTypesAreEqual() {
+        // given
+        DomainObject address = new DomainObject(DomainObjectType.VALUE_OBJECT, "Address");
+
+        // when
+        Type type1 = new Type(address, null);
+        Type type2 = new Type(address, "");
+
+        // then
+        assertEquals(type1, type2);
+        assertEquals(type1.hashCode(), type2.hashCode());
+        assertEquals(new Type("String", null), new Type("String"));
+    }
+
+    @Test
+    public void equalCollectionTypesHaveSameHashCode() {
+        // given
+        DomainObject address = new DomainObject(DomainObjectType.VALUE_OBJECT, "Address");
+
+        // when
+        Type type1 = new Type(address, "List");
+        Type type2 = new Type(new DomainObject(DomainObjectType.VALUE_OBJECT, "Address"), "List");
+
+        // then
+        assertEquals(type1, type2);
+        assertEquals(type1.hashCode(), type2.hashCode());
+        assertNotEquals(type1, new Type(new DomainObject(DomainObjectType.VALUE_OBJECT, "Address")));
+    }
+
 }
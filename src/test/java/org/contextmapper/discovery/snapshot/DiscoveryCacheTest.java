@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.snapshot;
+
+import org.contextmapper.discovery.model.BoundedContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DiscoveryCacheTest {
+
+    @TempDir
+    File cacheDirectory;
+
+    @Test
+    public void canLoadStoredBoundedContexts() {
+        // given
+        DiscoveryCache cache = new DiscoveryCache(cacheDirectory);
+        String key = cache.createKey("test", List.of("content".getBytes(StandardCharsets.UTF_8)));
+
+        // when
+        cache.store(key, Set.of(new BoundedContext("TestContext")));
+        Set<BoundedContext> boundedContexts = cache.load(key);
+
+        // then
+        assertEquals(1, boundedContexts.size());
+        assertEquals("TestContext", boundedContexts.iterator().next().getName());
+    }
+
+    @Test
+    public void returnsNullIfKeyIsUnknown() {
+        // given
+        DiscoveryCache cache = new DiscoveryCache(cacheDirectory);
+
+        // when
+        Set<BoundedContext> boundedContexts = cache.load(cache.createKey("test", List.of(new byte[0])));
+
+        // then
+        assertNull(boundedContexts);
+    }
+
+    @Test
+    public void returnsNullIfEntryIsCorrupt() throws IOException {
+        // given
+        DiscoveryCache cache = new DiscoveryCache(cacheDirectory);
+        String key = cache.createKey("test", List.of(new byte[0]));
+        Files.write(new File(cacheDirectory, key + ".cmds").toPath(), new byte[]{1, 2, 3});
+
+        // when
+        Set<BoundedContext> boundedContexts = cache.load(key);
+
+        // then
+        assertNull(boundedContexts);
+    }
+
+    @Test
+    public void keyDependsOnContentAndNamespace() {
+        // given
+        DiscoveryCache cache = new DiscoveryCache(cacheDirectory);
+        byte[] content = "content".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        String key = cache.createKey("test", List.of(content));
+        String sameKey = cache.createKey("test", List.of(content));
+        String otherContentKey = cache.createKey("test", List.of("other".getBytes(StandardCharsets.UTF_8)));
+        String otherNamespaceKey = cache.createKey("other", List.of(content));
+
+        // then
+        assertEquals(key, sameKey);
+        assertNotEquals(key, otherContentKey);
+        assertNotEquals(key, otherNamespaceKey);
+    }
+
+    @Test
+    public void throwsExceptionIfCacheLocationIsNoDirectory() throws IOException {
+        // given
+        File file = new File(cacheDirectory, "file.txt");
+        Files.write(file.toPath(), new byte[0]);
+
+        // when, then
+        assertThrows(IllegalArgumentException.class, () -> {
+            new DiscoveryCache(file);
+        });
+    }
+
+}
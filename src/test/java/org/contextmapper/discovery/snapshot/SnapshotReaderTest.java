@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.snapshot;
+
+import org.contextmapper.discovery.model.*;
+import org.contextmapper.discovery.strategies.boundedcontexts.SpringBootBoundedContextDiscoveryStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SnapshotReaderTest {
+
+    @Test
+    public void canReadWrittenSnapshot() throws IOException {
+        // given
+        BoundedContext boundedContext = new BoundedContext("CustomerManagement");
+        boundedContext.setTechnology("Spring Boot");
+        Aggregate aggregate = new Aggregate("Customers");
+        aggregate.setDiscoveryComment("customer aggregate");
+        DomainObject customer = new DomainObject(DomainObjectType.ENTITY, "Customer", "org.example.Customer");
+        DomainObject address = new DomainObject(DomainObjectType.VALUE_OBJECT, "Address");
+        Type addressList = new Type(address, "List");
+        customer.addAttribute(new Attribute(new Type("String"), "name"));
+        customer.addAttribute(new Attribute(addressList, "addresses"));
+        Method getAddress = new Method("getAddress");
+        getAddress.setReturnType(new Type(address));
+        getAddress.addParameter(new Parameter("id", new Type("long")));
+        customer.addMethod(getAddress);
+        aggregate.addDomainObject(customer);
+        aggregate.addDomainObject(address);
+        aggregate.setRootEntity(customer);
+        Service service = new Service("CustomersService");
+        Method changeName = new Method("changeName");
+        changeName.addParameter(new Parameter("customer", new Type(customer)));
+        service.addOperation(changeName);
+        aggregate.addService(service);
+        boundedContext.addAggregate(aggregate);
+
+        // when
+        Set<BoundedContext> boundedContexts = new SnapshotReader().readBoundedContexts(write(Set.of(boundedContext)));
+
+        // then
+        assertEquals(1, boundedContexts.size());
+        BoundedContext readContext = boundedContexts.iterator().next();
+        assertEquals("CustomerManagement", readContext.getName());
+        assertEquals("Spring Boot", readContext.getTechnology());
+        Aggregate readAggregate = readContext.getAggregates().iterator().next();
+        assertEquals("Customers", readAggregate.getName());
+        assertEquals("customer aggregate", readAggregate.getDiscoveryComment());
+        assertEquals(2, readAggregate.getDomainObjects().size());
+        DomainObject readCustomer = readAggregate.getDomainObjects().stream().filter(o -> o.getName().equals("Customer")).findFirst().get();
+        DomainObject readAddress = readAggregate.getDomainObjects().stream().filter(o -> o.getName().equals("Address")).findFirst().get();
+        assertSame(readCustomer, readAggregate.getRootEntity());
+        assertEquals(DomainObjectType.ENTITY, readCustomer.getType());
+        assertEquals("org.example.Customer", readCustomer.getOriginalType());
+        assertEquals(DomainObjectType.VALUE_OBJECT, readAddress.getType());
+        assertEquals(2, readCustomer.getAttributes().size());
+        Attribute readAddresses = readCustomer.getAttributes().stream().filter(a -> a.getName().equals("addresses")).findFirst().get();
+        assertSame(readAddress, readAddresses.getType().getDomainObjectType());
+        assertEquals("List", readAddresses.getType().getCollectionType());
+        Method readGetAddress = readCustomer.getMethods().iterator().next();
+        assertSame(readAddress, readGetAddress.getReturnType().getDomainObjectType());
+        assertFalse(readGetAddress.getReturnType().isCollectionType());
+        assertEquals("long", readGetAddress.getParameters().iterator().next().getType().getPrimitiveType());
+        Method readChangeName = readAggregate.getServices().iterator().next().getOperations().iterator().next();
+        assertEquals("changeName", readChangeName.getName());
+        assertNull(readChangeName.getReturnType());
+        assertSame(readCustomer, readChangeName.getParameters().iterator().next().getType().getDomainObjectType());
+    }
+
+    @Test
+    public void readTypesAreEqualToDiscoveredTypes() throws IOException {
+        // given
+        Set<BoundedContext> discoveredContexts = new SpringBootBoundedContextDiscoveryStrategy("test.application.spring.boot").discoverBoundedContexts();
+
+        // when
+        Set<BoundedContext> readContexts = new SnapshotReader().readBoundedContexts(write(discoveredContexts));
+
+        // then
+        Aggregate discoveredAggregate = discoveredContexts.iterator().next().getAggregates().iterator().next();
+        Aggregate readAggregate = readContexts.iterator().next().getAggregates().iterator().next();
+        assertFalse(discoveredAggregate.getDomainObjects().isEmpty());
+        for (DomainObject discoveredObject : discoveredAggregate.getDomainObjects()) {
+            DomainObject readObject = readAggregate.getDomainObjects().stream().filter(o -> o.equals(discoveredObject)).findFirst().get();
+            assertEquals(discoveredObject.getAttributes(), readObject.getAttributes());
+        }
+        for (Method discoveredMethod : discoveredAggregate.getRootEntity().getMethods()) {
+            Method readMethod = readAggregate.getRootEntity().getMethods().stream().filter(m -> m.equals(discoveredMethod)).findFirst().get();
+            assertEquals(discoveredMethod.getReturnType(), readMethod.getReturnType());
+            for (Parameter discoveredParameter : discoveredMethod.getParameters()) {
+                Parameter readParameter = readMethod.getParameters().stream().filter(p -> p.getName().equals(discoveredParameter.getName())).findFirst().get();
+                assertEquals(discoveredParameter.getType(), readParameter.getType());
+            }
+        }
+    }
+
+    @Test
+    public void canReadWrittenContextMap(@TempDir File tempDir) throws IOException {
+        // given
+        BoundedContext customers = new BoundedContext("CustomerManagement");
+        Aggregate customerAggregate = new Aggregate("Customers");
+        customerAggregate.addDomainObject(new DomainObject(DomainObjectType.ENTITY, "Customer"));
+        customers.addAggregate(customerAggregate);
+        customers.addAggregate(new Aggregate("Addresses"));
+        BoundedContext orders = new BoundedContext("OrderManagement");
+        ContextMap contextMap = new ContextMap();
+        contextMap.addBoundedContext(customers);
+        contextMap.addBoundedContext(orders);
+        Relationship relationship = new Relationship(customers, orders);
+        relationship.addExposedAggregate(customerAggregate);
+        relationship.setExposedAggregatesComment("exposed customers");
+        contextMap.addRelationship(relationship);
+        File snapshotFile = new File(tempDir, "context-map.snapshot");
+        try (OutputStream out = new FileOutputStream(snapshotFile)) {
+            new SnapshotWriter().writeContextMap(contextMap, out);
+        }
+
+        // when
+        ContextMap readContextMap = new SnapshotReader().readContextMap(snapshotFile);
+
+        // then
+        assertEquals(2, readContextMap.getBoundedContexts().size());
+        assertEquals(1, readContextMap.getRelationships().size());
+        Relationship readRelationship = readContextMap.getRelationships().iterator().next();
+        BoundedContext readCustomers = readContextMap.getBoundedContexts().stream().filter(bc -> bc.getName().equals("CustomerManagement")).findFirst().get();
+        BoundedContext readOrders = readContextMap.getBoundedContexts().stream().filter(bc -> bc.getName().equals("OrderManagement")).findFirst().get();
+        assertSame(readCustomers, readRelationship.getUpstream());
+        assertSame(readOrders, readRelationship.getDownstream());
+        Aggregate readCustomerAggregate = readCustomers.getAggregates().stream().filter(a -> a.getName().equals("Customers")).findFirst().get();
+        assertEquals(1, readRelationship.getExposedAggregates().size());
+        assertSame(readCustomerAggregate, readRelationship.getExposedAggregates().iterator().next());
+        assertEquals("exposed customers", readRelationship.getExposedAggregatesComment());
+    }
+
+    @Test
+    public void canReadRelationshipExposingAllAggregates() throws IOException {
+        // given
+        BoundedContext customers = new BoundedContext("CustomerManagement");
+        customers.addAggregate(new Aggregate("Customers"));
+        customers.addAggregate(new Aggregate("Addresses"));
+        BoundedContext orders = new BoundedContext("OrderManagement");
+        ContextMap contextMap = new ContextMap();
+        contextMap.addBoundedContext(customers);
+        contextMap.addBoundedContext(orders);
+        Relationship relationship = new Relationship(customers, orders);
+        relationship.exposeAllAggregates();
+        contextMap.addRelationship(relationship);
+
+        // when
+        ContextMap readContextMap = new SnapshotReader().readContextMap(write(contextMap));
+
+        // then
+        Relationship readRelationship = readContextMap.getRelationships().iterator().next();
+        assertTrue(readRelationship.isExposingAllAggregates());
+        assertEquals(2, readRelationship.getExposedAggregates().size());
+    }
+
+    @Test
+    public void canReadDomainObjectSharedByAggregates() throws IOException {
+        // given
+        BoundedContext boundedContext = new BoundedContext("CustomerManagement");
+        DomainObject address = new DomainObject(DomainObjectType.VALUE_OBJECT, "Address");
+        address.addAttribute(new Attribute(new Type("String"), "street"));
+        Aggregate customers = new Aggregate("Customers");
+        customers.addDomainObject(address);
+        Aggregate suppliers = new Aggregate("Suppliers");
+        suppliers.addDomainObject(address);
+        boundedContext.addAggregate(customers);
+        boundedContext.addAggregate(suppliers);
+        address.setParent(customers);
+
+        // when
+        BoundedContext readContext = new SnapshotReader().readBoundedContexts(write(Set.of(boundedContext))).iterator().next();
+
+        // then
+        Aggregate readCustomers = readContext.getAggregates().stream().filter(a -> a.getName().equals("Customers")).findFirst().get();
+        Aggregate readSuppliers = readContext.getAggregates().stream().filter(a -> a.getName().equals("Suppliers")).findFirst().get();
+        DomainObject readAddress = readCustomers.getDomainObjects().iterator().next();
+        assertSame(readAddress, readSuppliers.getDomainObjects().iterator().next());
+        assertSame(readCustomers, readAddress.getParent());
+        assertEquals(1, readAddress.getAttributes().size());
+    }
+
+    @Test
+    public void canReadContextMapOfBoundedContextSnapshot() throws IOException {
+        // when
+        ContextMap contextMap = new SnapshotReader().readContextMap(write(Set.of(new BoundedContext("TestContext"))));
+
+        // then
+        assertEquals(1, contextMap.getBoundedContexts().size());
+        assertTrue(contextMap.getRelationships().isEmpty());
+    }
+
+    @Test
+    public void cannotWriteRelationshipExposingAggregateNotInContextMap() {
+        // given
+        BoundedContext upstream = new BoundedContext("Upstream");
+        BoundedContext downstream = new BoundedContext("Downstream");
+        ContextMap contextMap = new ContextMap();
+        contextMap.addBoundedContext(upstream);
+        contextMap.addBoundedContext(downstream);
+        BoundedContext otherUpstream = new BoundedContext("Upstream");
+        Aggregate otherAggregate = new Aggregate("Other");
+        otherUpstream.addAggregate(otherAggregate);
+        Relationship relationship = new Relationship(otherUpstream, downstream);
+        relationship.addExposedAggregate(otherAggregate);
+        contextMap.addRelationship(relationship);
+
+        // when, then
+        assertThrows(IllegalArgumentException.class, () -> {
+            new SnapshotWriter().writeContextMap(contextMap, new ByteArrayOutputStream());
+        });
+    }
+
+    @Test
+    public void throwsExceptionIfInputIsNoSnapshot() {
+        // given
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        // when, then
+        assertThrows(IllegalArgumentException.class, () -> {
+            new SnapshotReader().readBoundedContexts(buffer);
+        });
+    }
+
+    @Test
+    public void throwsExceptionIfSnapshotIsIncomplete() throws IOException {
+        // given
+        ByteBuffer snapshot = write(Set.of(new BoundedContext("TestContext")));
+        snapshot.limit(snapshot.limit() - 2);
+
+        // when, then
+        assertThrows(IllegalArgumentException.class, () -> {
+            new SnapshotReader().readBoundedContexts(snapshot);
+        });
+    }
+
+    private ByteBuffer write(Set<BoundedContext> boundedContexts) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new SnapshotWriter().writeBoundedContexts(boundedContexts, out);
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+
+    private ByteBuffer write(ContextMap contextMap) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new SnapshotWriter().writeContextMap(contextMap, out);
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+
+}
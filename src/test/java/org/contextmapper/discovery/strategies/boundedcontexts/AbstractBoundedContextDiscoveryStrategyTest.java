@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.strategies.boundedcontexts;
+
+import org.contextmapper.discovery.model.BoundedContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AbstractBoundedContextDiscoveryStrategyTest {
+
+    private static final List<Integer> ITEMS = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8);
+
+    @Test
+    public void canMapConcurrently() {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        TestStrategy strategy = new TestStrategy();
+        strategy.setExecutor(executor);
+
+        // when
+        List<Integer> results;
+        try {
+            results = strategy.mapConcurrently(ITEMS, i -> i * 2);
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertEquals(Arrays.asList(2, 4, 6, 8, 10, 12, 14, 16), results);
+    }
+
+    @Test
+    public void rethrowsErrorsOfConcurrentTasks() {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        TestStrategy strategy = new TestStrategy();
+        strategy.setExecutor(executor);
+        Function<Integer, Integer> task = i -> {
+            if (i == 5)
+                throw new NoClassDefFoundError("test/MissingType");
+            return i;
+        };
+
+        // when, then
+        try {
+            NoClassDefFoundError error = assertThrows(NoClassDefFoundError.class, () -> strategy.mapConcurrently(ITEMS, task));
+            assertEquals("test/MissingType", error.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void rethrowsErrorsOfSequentialTasks() {
+        // given
+        TestStrategy strategy = new TestStrategy();
+
+        // when, then
+        assertThrows(LinkageError.class, () -> strategy.mapConcurrently(ITEMS, i -> {
+            throw new LinkageError("test");
+        }));
+    }
+
+    private static class TestStrategy extends AbstractBoundedContextDiscoveryStrategy {
+        @Override
+        public Set<BoundedContext> discoverBoundedContexts() {
+            return Set.of();
+        }
+    }
+
+}
@@ -24,11 +24,17 @@ import org.contextmapper.discovery.model.*;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -36,6 +42,7 @@ import static org.junit.jupiter.api.Assertions.*;
 public class OASBoundedContextDiscoveryStrategyTest {
 
     public static final String SAMPLE_CONTRACT_LOCATION = "./src/test/resources/test/oas-tests/sample-contract.yml";
+    public static final String SECOND_CONTRACT_LOCATION = "./src/test/resources/test/oas-tests/second-contract.yml";
 
     private TestAppender logAppender;
 
@@ -268,6 +275,148 @@ public class OASBoundedContextDiscoveryStrategyTest {
         assertFalse(logAppender.logEmpty());
     }
 
+    @Test
+    public void canDiscoverContextsOfMultipleSpecifications() {
+        // given
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(new OASBoundedContextDiscoveryStrategy(
+                        "./src/test/resources/test/oas-tests/sample-object-as-parameter-1.yml", SECOND_CONTRACT_LOCATION));
+
+        // when
+        ContextMap contextMap = discoverer.discoverContextMap();
+
+        // then
+        assertEquals(2, contextMap.getBoundedContexts().size());
+        BoundedContext referenceContext = contextMap.getBoundedContexts().stream().filter(bc -> bc.getName().equals("ReferenceManagementServiceAPI")).findFirst().get();
+        BoundedContext authorContext = contextMap.getBoundedContexts().stream().filter(bc -> bc.getName().equals("AuthorManagementServiceAPI")).findFirst().get();
+        DomainObject referenceParameterType = referenceContext.getAggregates().iterator().next().getDomainObjects().stream()
+                .filter(o -> o.getName().equals("Parameter1Type")).findFirst().get();
+        DomainObject authorParameterType = authorContext.getAggregates().iterator().next().getDomainObjects().stream()
+                .filter(o -> o.getName().equals("Parameter1Type")).findFirst().get();
+        assertEquals(3, referenceParameterType.getAttributes().size());
+        assertEquals(1, authorParameterType.getAttributes().size());
+        assertEquals("name", authorParameterType.getAttributes().iterator().next().getName());
+    }
+
+    @Test
+    public void discoversSameContextsWithExecutor() {
+        // given
+        OASBoundedContextDiscoveryStrategy sequentialStrategy = new OASBoundedContextDiscoveryStrategy(SAMPLE_CONTRACT_LOCATION, SECOND_CONTRACT_LOCATION);
+        OASBoundedContextDiscoveryStrategy parallelStrategy = new OASBoundedContextDiscoveryStrategy(SAMPLE_CONTRACT_LOCATION, SECOND_CONTRACT_LOCATION);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        Set<BoundedContext> sequentialContexts = sequentialStrategy.discoverBoundedContexts();
+        Set<BoundedContext> parallelContexts;
+        try {
+            parallelStrategy.setExecutor(executor);
+            parallelContexts = parallelStrategy.discoverBoundedContexts();
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertEquals(2, parallelContexts.size());
+        assertEquals(sequentialContexts, parallelContexts);
+        for (BoundedContext sequentialContext : sequentialContexts) {
+            BoundedContext parallelContext = parallelContexts.stream().filter(bc -> bc.getName().equals(sequentialContext.getName())).findFirst().get();
+            assertEquals(sequentialContext.getAggregates(), parallelContext.getAggregates());
+            for (Aggregate sequentialAggregate : sequentialContext.getAggregates()) {
+                Aggregate parallelAggregate = parallelContext.getAggregates().stream().filter(a -> a.getName().equals(sequentialAggregate.getName())).findFirst().get();
+                assertEquals(sequentialAggregate.getDomainObjects(), parallelAggregate.getDomainObjects());
+                assertEquals(sequentialAggregate.getServices(), parallelAggregate.getServices());
+            }
+        }
+    }
+
+    @Test
+    public void canReuseCachedBoundedContexts(@TempDir File cacheDirectory) {
+        // given
+        ContextMap firstContextMap = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(new OASBoundedContextDiscoveryStrategy(SAMPLE_CONTRACT_LOCATION).usingCache(cacheDirectory))
+                .discoverContextMap();
+
+        // when
+        ContextMap cachedContextMap = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(new OASBoundedContextDiscoveryStrategy(SAMPLE_CONTRACT_LOCATION).usingCache(cacheDirectory))
+                .discoverContextMap();
+
+        // then
+        assertEquals(1, cacheDirectory.listFiles().length);
+        BoundedContext firstContext = firstContextMap.getBoundedContexts().iterator().next();
+        BoundedContext cachedContext = cachedContextMap.getBoundedContexts().iterator().next();
+        assertEquals(firstContext.getName(), cachedContext.getName());
+        assertEquals(firstContext.getAggregates(), cachedContext.getAggregates());
+        Aggregate firstAggregate = firstContext.getAggregates().iterator().next();
+        Aggregate cachedAggregate = cachedContext.getAggregates().stream().filter(a -> a.getName().equals(firstAggregate.getName())).findFirst().get();
+        assertEquals(firstAggregate.getDomainObjects(), cachedAggregate.getDomainObjects());
+        assertEquals(firstAggregate.getServices().iterator().next().getOperations(), cachedAggregate.getServices().iterator().next().getOperations());
+    }
+
+    @Test
+    public void changedSpecificationIsNotLoadedFromCache(@TempDir File cacheDirectory, @TempDir File specificationDirectory) throws IOException {
+        // given
+        File specification = new File(specificationDirectory, "contract.yml");
+        Files.copy(new File(SAMPLE_CONTRACT_LOCATION).toPath(), specification.toPath());
+        new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(new OASBoundedContextDiscoveryStrategy(specification.getPath()).usingCache(cacheDirectory))
+                .discoverContextMap();
+        String changedSpecification = new String(Files.readAllBytes(specification.toPath()))
+                .replace("ReferenceManagementServiceAPI", "ChangedReferenceManagementServiceAPI");
+        Files.write(specification.toPath(), changedSpecification.getBytes());
+
+        // when
+        ContextMap contextMap = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(new OASBoundedContextDiscoveryStrategy(specification.getPath()).usingCache(cacheDirectory))
+                .discoverContextMap();
+
+        // then
+        assertEquals(2, cacheDirectory.listFiles().length);
+        assertEquals("ChangedReferenceManagementServiceAPI", contextMap.getBoundedContexts().iterator().next().getName());
+    }
+
+    @Test
+    public void isAffectedBySpecificationFiles() {
+        // given
+        OASBoundedContextDiscoveryStrategy strategy = new OASBoundedContextDiscoveryStrategy(SAMPLE_CONTRACT_LOCATION);
+
+        // when, then
+        assertTrue(strategy.isAffectedBy(SAMPLE_CONTRACT_LOCATION));
+        assertTrue(strategy.isAffectedBy(new File(SAMPLE_CONTRACT_LOCATION).getAbsolutePath()));
+        assertFalse(strategy.isAffectedBy(SECOND_CONTRACT_LOCATION));
+    }
+
+    @Test
+    public void isAffectedByReferencedFiles(@TempDir File specificationDirectory) throws IOException {
+        // given
+        File specification = new File(specificationDirectory, "contract.yml");
+        File schemas = new File(specificationDirectory, "schemas.yml");
+        Files.write(specification.toPath(), "paths: { $ref: 'schemas.yml#/Customer' }".getBytes());
+        Files.write(schemas.toPath(), "Customer: {}".getBytes());
+        OASBoundedContextDiscoveryStrategy strategy = new OASBoundedContextDiscoveryStrategy(specification.getPath());
+
+        // when, then
+        assertTrue(strategy.isAffectedBy(schemas.getPath()));
+        assertFalse(strategy.isAffectedBy(new File(specificationDirectory, "other.yml").getPath()));
+    }
+
+    @Test
+    public void isAffectedByDeletedReferencedFiles(@TempDir File specificationDirectory) throws IOException {
+        // given
+        File specification = new File(specificationDirectory, "contract.yml");
+        File schemas = new File(specificationDirectory, "schemas.yml");
+        Files.write(specification.toPath(), "paths: { $ref: 'schemas.yml#/Customer' }".getBytes());
+        Files.write(schemas.toPath(), "Customer: {}".getBytes());
+        OASBoundedContextDiscoveryStrategy strategy = new OASBoundedContextDiscoveryStrategy(specification.getPath());
+        assertTrue(strategy.isAffectedBy(schemas.getPath()));
+
+        // when
+        Files.delete(schemas.toPath());
+
+        // then
+        assertTrue(strategy.isAffectedBy(schemas.getPath()));
+    }
+
     private class TestAppender extends ListAppender<ILoggingEvent> {
         public void reset() {
             this.list.clear();
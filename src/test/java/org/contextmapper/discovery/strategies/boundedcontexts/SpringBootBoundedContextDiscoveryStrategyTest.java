@@ -16,10 +16,18 @@
 package org.contextmapper.discovery.strategies.boundedcontexts;
 
 import org.contextmapper.discovery.ContextMapDiscoverer;
+import org.contextmapper.discovery.metrics.DiscoveryCount;
+import org.contextmapper.discovery.metrics.DiscoveryPhase;
+import org.contextmapper.discovery.metrics.RecordingDiscoveryMetricsListener;
 import org.contextmapper.discovery.model.*;
+import org.contextmapper.discovery.strategies.names.SeparatorToCamelCaseBoundedContextNameMappingStrategy;
+import org.contextmapper.discovery.strategies.relationships.DockerComposeRelationshipDiscoveryStrategy;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -82,6 +90,7 @@ public class SpringBootBoundedContextDiscoveryStrategyTest {
         Set<DomainObject> domainObjects = customers.getDomainObjects().stream().filter(o -> o.getType().equals(DomainObjectType.ENTITY)).collect(Collectors.toSet());
         assertEquals(1, domainObjects.size());
         assertEquals("customers_RootEntity", domainObjects.iterator().next().getName());
+        assertSame(domainObjects.iterator().next(), customers.getRootEntity());
     }
 
     @Test
@@ -177,6 +186,35 @@ public class SpringBootBoundedContextDiscoveryStrategyTest {
         assertEquals("int", plzAttribute.getType().getName());
     }
 
+    @Test
+    public void canDiscoverDomainObjectAttributesOnSingleThreadedDiscoveryExecutor() {
+        // given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingParallelBoundedContextDiscovery(executor)
+                .usingBoundedContextDiscoveryStrategies(
+                        new SpringBootBoundedContextDiscoveryStrategy("test.cross.aggregate.reference")
+                );
+
+        // when
+        Set<BoundedContext> boundedContexts;
+        try {
+            boundedContexts = discoverer.discoverContextMap().getBoundedContexts();
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        BoundedContext bc = boundedContexts.iterator().next();
+        Aggregate customers = bc.getAggregates().stream().filter(a -> a.getName().equals("customers")).findFirst().get();
+        Aggregate orders = bc.getAggregates().stream().filter(a -> a.getName().equals("orders")).findFirst().get();
+        DomainObject customer = customers.getDomainObjects().stream().filter(e -> e.getName().equals("Customer")).findFirst().get();
+        DomainObject order = orders.getDomainObjects().stream().filter(e -> e.getName().equals("Order")).findFirst().get();
+        Attribute customerReference = order.getAttributes().stream().filter(a -> a.getName().equals("customer")).findFirst().get();
+        assertSame(customer, customerReference.getType().getDomainObjectType());
+        assertSame(order, customerReference.getParent());
+    }
+
     @Test
     public void canDiscoverDomainObjectReferences() {
         // given
@@ -200,6 +238,28 @@ public class SpringBootBoundedContextDiscoveryStrategyTest {
         assertEquals(customerIdDomainObject, singleReferences.iterator().next().getType().getDomainObjectType());
     }
 
+    @Test
+    public void canDiscoverDomainObjectReferencesToOtherAggregates() {
+        // given
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(
+                        new SpringBootBoundedContextDiscoveryStrategy("test.cross.aggregate.reference")
+                );
+
+        // when
+        Set<BoundedContext> boundedContexts = discoverer.discoverContextMap().getBoundedContexts();
+
+        // then
+        BoundedContext bc = boundedContexts.iterator().next();
+        Aggregate customers = bc.getAggregates().stream().filter(a -> a.getName().equals("customers")).findFirst().get();
+        Aggregate orders = bc.getAggregates().stream().filter(a -> a.getName().equals("orders")).findFirst().get();
+        DomainObject customer = customers.getDomainObjects().stream().filter(e -> e.getName().equals("Customer")).findFirst().get();
+        DomainObject order = orders.getDomainObjects().stream().filter(e -> e.getName().equals("Order")).findFirst().get();
+        Attribute customerReference = order.getAttributes().stream().filter(a -> a.getName().equals("customer")).findFirst().get();
+        assertTrue(customerReference.getType().isDomainObjectType());
+        assertSame(customer, customerReference.getType().getDomainObjectType());
+    }
+
     @Test
     public void canHandleCollectionTypes() {
         // given
@@ -321,4 +381,116 @@ public class SpringBootBoundedContextDiscoveryStrategyTest {
         DomainObject domainObject = aggregate.getDomainObjects().stream().filter(e -> e.getName().equals("Address")).findAny().get();
         assertEquals("This value object has been derived from the class test.application.spring.boot.model.Address.", domainObject.getDiscoveryComment());
     }
+
+    @Test
+    public void isAffectedBySuperclassesOfDomainObjectsOutsideScannedPackage() {
+        // given
+        SpringBootBoundedContextDiscoveryStrategy strategy = new SpringBootBoundedContextDiscoveryStrategy("test.inherited.application");
+        assertFalse(strategy.isAffectedBy("test.inherited.base.AuditedEntity"));
+
+        // when
+        Set<BoundedContext> boundedContexts = strategy.discoverBoundedContexts();
+
+        // then
+        DomainObject customer = boundedContexts.iterator().next().getAggregates().iterator().next().getDomainObjects().stream()
+                .filter(o -> o.getName().equals("Customer")).findFirst().get();
+        assertTrue(customer.getAttributes().stream().anyMatch(a -> a.getName().equals("createdBy")));
+        assertTrue(strategy.isAffectedBy("test.inherited.base.AuditedEntity"));
+        assertTrue(strategy.isAffectedBy("test.inherited.base"));
+        assertFalse(strategy.isAffectedBy("test.inherited.other.AuditedEntity"));
+    }
+
+    @Test
+    public void isAffectedByTypesAndPackagesWithinScannedPackage() {
+        // given
+        SpringBootBoundedContextDiscoveryStrategy strategy = new SpringBootBoundedContextDiscoveryStrategy("test.application.spring.boot");
+
+        // when, then
+        assertTrue(strategy.isAffectedBy("test.application.spring.boot"));
+        assertTrue(strategy.isAffectedBy("test.application.spring.boot.model.Address"));
+        assertTrue(strategy.isAffectedBy("test.application"));
+        assertFalse(strategy.isAffectedBy("test.application.spring.bootstrap"));
+        assertFalse(strategy.isAffectedBy("test.microservice.spring.boot"));
+    }
+
+    @Test
+    public void rediscoveryDoesNotDuplicateAggregateNames() {
+        // given
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(
+                        new SpringBootBoundedContextDiscoveryStrategy("test.application.spring.boot")
+                );
+        Set<String> aggregateNames = discoverer.discoverContextMap().getBoundedContexts().iterator().next()
+                .getAggregates().stream().map(Aggregate::getName).collect(Collectors.toSet());
+
+        // when
+        Set<BoundedContext> boundedContexts = discoverer.rediscoverContextMap("test.application.spring.boot.model.Address").getBoundedContexts();
+
+        // then
+        assertEquals(aggregateNames, boundedContexts.iterator().next().getAggregates().stream().map(Aggregate::getName).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void canResolveAggregatesLazily() {
+        // given
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(
+                        new SpringBootBoundedContextDiscoveryStrategy("test.microservice.spring.boot").usingLazyAggregates())
+                .usingRelationshipDiscoveryStrategies(
+                        new DockerComposeRelationshipDiscoveryStrategy(new File("./src/test/resources/test/microservice/spring-boot")))
+                .usingBoundedContextNameMappingStrategies(
+                        new SeparatorToCamelCaseBoundedContextNameMappingStrategy("-"));
+
+        // when
+        ContextMap contextMap = discoverer.discoverContextMap();
+
+        // then
+        assertEquals(Set.of("Microservice1", "Microservice2"), contextMap.getBoundedContexts().stream().map(BoundedContext::getName).collect(Collectors.toSet()));
+        assertTrue(contextMap.getBoundedContexts().stream().allMatch(BoundedContext::hasUnresolvedAggregates));
+        assertEquals(1, contextMap.getRelationships().size());
+        Relationship relationship = contextMap.getRelationships().iterator().next();
+        assertEquals(Set.of("customers"), relationship.getExposedAggregates().stream().map(Aggregate::getName).collect(Collectors.toSet()));
+        assertFalse(relationship.getUpstream().hasUnresolvedAggregates());
+    }
+
+    @Test
+    public void lazilyResolvedAggregatesReferenceEachOther() {
+        // given
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(
+                        new SpringBootBoundedContextDiscoveryStrategy("test.cross.aggregate.reference").usingLazyAggregates());
+
+        // when
+        BoundedContext boundedContext = discoverer.discoverContextMap().getBoundedContexts().iterator().next();
+
+        // then
+        DomainObject order = boundedContext.getAggregates().stream()
+                .flatMap(a -> a.getDomainObjects().stream())
+                .filter(o -> o.getName().equals("Order")).findFirst().get();
+        Attribute customer = order.getAttributes().stream().filter(a -> a.getName().equals("customer")).findFirst().get();
+        assertTrue(customer.getType().isDomainObjectType());
+        assertEquals("Customer", customer.getType().getDomainObjectType().getName());
+        assertEquals("customers", customer.getType().getDomainObjectType().getParent().getName());
+    }
+
+    @Test
+    public void reportsScanningAndReflectionMetrics() {
+        // given
+        RecordingDiscoveryMetricsListener listener = new RecordingDiscoveryMetricsListener();
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(
+                        new SpringBootBoundedContextDiscoveryStrategy("test.application.spring.boot"))
+                .usingMetricsListener(listener);
+
+        // when
+        discoverer.discoverContextMap();
+
+        // then
+        Set<DiscoveryPhase> phases = listener.getPhases().stream()
+                .filter(p -> p.getSource().equals("SpringBootBoundedContextDiscoveryStrategy"))
+                .map(p -> p.getPhase()).collect(Collectors.toSet());
+        assertTrue(phases.contains(DiscoveryPhase.CLASSPATH_SCANNING));
+        assertTrue(phases.contains(DiscoveryPhase.REFLECTION));
+        assertTrue(listener.getCounts().stream().anyMatch(c -> c.getCount() == DiscoveryCount.RESOURCE_TYPES && c.getValue() > 1));
+    }
 }
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.strategies.boundedcontexts;
+
+import org.contextmapper.discovery.ContextMapDiscoverer;
+import org.contextmapper.discovery.metrics.DiscoveryCount;
+import org.contextmapper.discovery.metrics.DiscoveryPhase;
+import org.contextmapper.discovery.metrics.RecordingDiscoveryMetricsListener;
+import org.contextmapper.discovery.model.*;
+import org.contextmapper.discovery.strategies.helper.bytecode.ClassFileIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import test.application.spring.boot.TestSpringBootApplication;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpringBootBytecodeBoundedContextDiscoveryStrategyTest {
+
+    private static final File TEST_CLASSES = getTestClassesDirectory();
+
+    @Test
+    public void canDiscoverSpringBootApplication() {
+        // given
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(
+                        new SpringBootBytecodeBoundedContextDiscoveryStrategy("test.application.spring.boot", TEST_CLASSES)
+                );
+
+        // when
+        Set<BoundedContext> boundedContexts = discoverer.discoverContextMap().getBoundedContexts();
+
+        // then
+        assertEquals(1, boundedContexts.size());
+        BoundedContext bc = boundedContexts.iterator().next();
+        assertEquals("TestSpringBoot", bc.getName());
+        assertEquals("Spring Boot", bc.getTechnology());
+        assertEquals(Set.of("customers"), bc.getAggregates().stream().map(Aggregate::getName).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void canDiscoverDomainObjectsAndReferences() {
+        // given
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(
+                        new SpringBootBytecodeBoundedContextDiscoveryStrategy("test.application.spring.boot", TEST_CLASSES)
+                );
+
+        // when
+        Set<BoundedContext> boundedContexts = discoverer.discoverContextMap().getBoundedContexts();
+
+        // then
+        Aggregate aggregate = boundedContexts.iterator().next().getAggregates().iterator().next();
+        assertEquals("customers_RootEntity", aggregate.getRootEntity().getName());
+        DomainObject customer = aggregate.getDomainObjects().stream().filter(o -> o.getName().equals("Customer")).findFirst().get();
+        DomainObject address = aggregate.getDomainObjects().stream().filter(o -> o.getName().equals("Address")).findFirst().get();
+        assertEquals("test.application.spring.boot.model.Customer", customer.getOriginalType());
+        Attribute addressList = customer.getAttributes().stream().filter(a -> a.getName().equals("addressList")).findFirst().get();
+        assertSame(address, addressList.getType().getDomainObjectType());
+        assertEquals("List", addressList.getType().getCollectionType());
+        Attribute arrayTest = address.getAttributes().stream().filter(a -> a.getName().equals("arrayTest")).findFirst().get();
+        assertEquals("String", arrayTest.getType().getPrimitiveType());
+        assertEquals("List", arrayTest.getType().getCollectionType());
+    }
+
+    @Test
+    public void canDiscoverReferencesToOtherAggregates() {
+        // given
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(
+                        new SpringBootBytecodeBoundedContextDiscoveryStrategy("test.cross.aggregate.reference", TEST_CLASSES)
+                );
+
+        // when
+        Set<BoundedContext> boundedContexts = discoverer.discoverContextMap().getBoundedContexts();
+
+        // then
+        BoundedContext bc = boundedContexts.iterator().next();
+        Aggregate customers = bc.getAggregates().stream().filter(a -> a.getName().equals("customers")).findFirst().get();
+        Aggregate orders = bc.getAggregates().stream().filter(a -> a.getName().equals("orders")).findFirst().get();
+        DomainObject customer = customers.getDomainObjects().stream().filter(e -> e.getName().equals("Customer")).findFirst().get();
+        DomainObject order = orders.getDomainObjects().stream().filter(e -> e.getName().equals("Order")).findFirst().get();
+        Attribute customerReference = order.getAttributes().stream().filter(a -> a.getName().equals("customer")).findFirst().get();
+        assertSame(customer, customerReference.getType().getDomainObjectType());
+    }
+
+    @Test
+    public void discoversSameModelAsReflectionBasedStrategy() {
+        for (String packageName : new String[]{"test.application.spring.boot", "test.microservice.spring.boot", "test.duplicate.aggregate.name", "test.cross.aggregate.reference",
+                "test.inherited.controller"}) {
+            // given
+            ClassFileIndex index = new ClassFileIndex(TEST_CLASSES);
+
+            // when
+            Set<BoundedContext> bytecodeBased = new SpringBootBytecodeBoundedContextDiscoveryStrategy(packageName, index).discoverBoundedContexts();
+            Set<BoundedContext> reflectionBased = new SpringBootBoundedContextDiscoveryStrategy(packageName).discoverBoundedContexts();
+
+            // then
+            assertEquals(describe(reflectionBased), describe(bytecodeBased), packageName);
+        }
+    }
+
+    @Test
+    public void canDiscoverControllersInheritingRequestMapping() {
+        // given
+        SpringBootBytecodeBoundedContextDiscoveryStrategy strategy = new SpringBootBytecodeBoundedContextDiscoveryStrategy("test.inherited.controller", TEST_CLASSES);
+
+        // when
+        Set<BoundedContext> boundedContexts = strategy.discoverBoundedContexts();
+
+        // then
+        BoundedContext bc = boundedContexts.iterator().next();
+        assertEquals("InheritedController", bc.getName());
+        assertEquals(Set.of("customers", "InheritedController_customers"), bc.getAggregates().stream().map(Aggregate::getName).collect(Collectors.toSet()));
+        Aggregate aggregate = bc.getAggregates().stream().filter(a -> a.getName().equals("InheritedController_customers")).findFirst().get();
+        assertEquals("This Aggregate has been created on the basis of the RESTful HTTP controller test.inherited.controller.interfaces.CustomerController.", aggregate.getDiscoveryComment());
+        assertTrue(aggregate.getDomainObjects().stream().anyMatch(o -> o.getName().equals("Address")));
+    }
+
+    @Test
+    public void canShareClassFileIndex() {
+        // given
+        ClassFileIndex index = new ClassFileIndex(TEST_CLASSES);
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(
+                        new SpringBootBytecodeBoundedContextDiscoveryStrategy("test.application.spring.boot", index),
+                        new SpringBootBytecodeBoundedContextDiscoveryStrategy("test.microservice.spring.boot", index)
+                );
+
+        // when
+        Set<BoundedContext> boundedContexts = discoverer.discoverContextMap().getBoundedContexts();
+
+        // then
+        assertEquals(Set.of("TestSpringBoot", "Microservice1", "Microservice2"), boundedContexts.stream().map(BoundedContext::getName).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void isAffectedBySuperclassesOfDomainObjectsOutsideScannedPackage() {
+        // given
+        SpringBootBytecodeBoundedContextDiscoveryStrategy strategy = new SpringBootBytecodeBoundedContextDiscoveryStrategy("test.inherited.application", TEST_CLASSES);
+        assertFalse(strategy.isAffectedBy("test.inherited.base.AuditedEntity"));
+
+        // when
+        Set<BoundedContext> boundedContexts = strategy.discoverBoundedContexts();
+
+        // then
+        DomainObject customer = boundedContexts.iterator().next().getAggregates().iterator().next().getDomainObjects().stream()
+                .filter(o -> o.getName().equals("Customer")).findFirst().get();
+        assertTrue(customer.getAttributes().stream().anyMatch(a -> a.getName().equals("createdBy")));
+        assertTrue(strategy.isAffectedBy("test.inherited.base.AuditedEntity"));
+        assertTrue(strategy.isAffectedBy("test.inherited.base"));
+        assertFalse(strategy.isAffectedBy("test.inherited.other.AuditedEntity"));
+    }
+
+    @Test
+    public void isAffectedByTypesAndPackagesWithinScannedPackage() {
+        // given
+        SpringBootBytecodeBoundedContextDiscoveryStrategy strategy = new SpringBootBytecodeBoundedContextDiscoveryStrategy("test.application.spring.boot", TEST_CLASSES);
+
+        // when, then
+        assertTrue(strategy.isAffectedBy("test.application.spring.boot.model.Address"));
+        assertTrue(strategy.isAffectedBy("test.application"));
+        assertFalse(strategy.isAffectedBy("test.duplicate.aggregate.name"));
+    }
+
+    @Test
+    public void reportsScanningAndReflectionMetrics() {
+        // given
+        RecordingDiscoveryMetricsListener listener = new RecordingDiscoveryMetricsListener();
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(
+                        new SpringBootBytecodeBoundedContextDiscoveryStrategy("test.application.spring.boot", TEST_CLASSES))
+                .usingMetricsListener(listener);
+
+        // when
+        discoverer.discoverContextMap();
+
+        // then
+        String source = SpringBootBytecodeBoundedContextDiscoveryStrategy.class.getSimpleName();
+        assertTrue(listener.getPhases().stream().anyMatch(p -> p.getSource().equals(source) && p.getPhase() == DiscoveryPhase.CLASSPATH_SCANNING));
+        assertTrue(listener.getPhases().stream().anyMatch(p -> p.getSource().equals(source) && p.getPhase() == DiscoveryPhase.REFLECTION));
+        assertTrue(listener.getCounts().stream().anyMatch(c -> c.getSource().equals(source) && c.getCount() == DiscoveryCount.SCANNED_CLASSES && c.getValue() > 0));
+    }
+
+    @Test
+    public void canDiscoverSpringBootJarsInDirectory(@TempDir File tempDir) throws IOException {
+        // given
+        createSpringBootJar(new File(tempDir, "service2.jar"), "test/microservice/spring/boot/service2");
+        createSpringBootJar(new File(tempDir, "service1.jar"), "test/microservice/spring/boot/service1");
+        Files.write(new File(tempDir, "README.txt").toPath(), new byte[0]);
+
+        // when
+        SpringBootBytecodeBoundedContextDiscoveryStrategy[] strategies = SpringBootBytecodeBoundedContextDiscoveryStrategy.forJarsIn("test.microservice.spring.boot", tempDir);
+        Set<BoundedContext> boundedContexts = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(strategies)
+                .usingParallelBoundedContextDiscovery()
+                .discoverContextMap().getBoundedContexts();
+
+        // then
+        assertEquals(2, strategies.length);
+        assertEquals(Set.of("Microservice1"), strategies[0].discoverBoundedContexts().stream().map(BoundedContext::getName).collect(Collectors.toSet()));
+        assertEquals(Set.of("Microservice1", "Microservice2"), boundedContexts.stream().map(BoundedContext::getName).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void cannotCreateStrategiesForDirectoryWithoutJars(@TempDir File tempDir) {
+        assertThrows(IllegalArgumentException.class, () -> SpringBootBytecodeBoundedContextDiscoveryStrategy.forJarsIn("test", tempDir));
+        assertThrows(IllegalArgumentException.class, () -> SpringBootBytecodeBoundedContextDiscoveryStrategy.forJarsIn("test", new File("./does-not-exist")));
+    }
+
+    @Test
+    public void cannotCreateStrategyForMissingClasspathEntry() {
+        assertThrows(IllegalArgumentException.class, () -> new SpringBootBytecodeBoundedContextDiscoveryStrategy("test", new File("./does-not-exist")));
+    }
+
+    /**
+     * Packs the compiled test classes of the given directory into a JAR with the layout of the Spring Boot plugins.
+     */
+    private void createSpringBootJar(File jar, String classesDirectory) throws IOException {
+        Path root = TEST_CLASSES.toPath();
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar));
+             Stream<Path> classFiles = Files.walk(root.resolve(classesDirectory))) {
+            for (Path classFile : (Iterable<Path>) classFiles.filter(Files::isRegularFile)::iterator) {
+                out.putNextEntry(new ZipEntry("BOOT-INF/classes/" + root.relativize(classFile).toString().replace(File.separatorChar, '/')));
+                out.write(Files.readAllBytes(classFile));
+                out.closeEntry();
+            }
+        }
+    }
+
+    /**
+     * Describes the discovered model independent of the order of its elements.
+     */
+    private Set<String> describe(Set<BoundedContext> boundedContexts) {
+        Set<String> description = new TreeSet<>();
+        for (BoundedContext bc : boundedContexts) {
+            description.add("BC " + bc.getName() + " " + bc.getTechnology());
+            for (Aggregate aggregate : bc.getAggregates()) {
+                String aggregatePath = bc.getName() + "/" + aggregate.getName();
+                description.add("AGG " + aggregatePath + " " + aggregate.getRootEntity().getName() + " " + aggregate.getDiscoveryComment());
+                for (DomainObject domainObject : aggregate.getDomainObjects()) {
+                    String path = aggregatePath + "/" + domainObject.getName();
+                    description.add("DO " + path + " " + domainObject.getType() + " " + domainObject.getOriginalType() + " " + domainObject.getDiscoveryComment());
+                    for (Attribute attribute : domainObject.getAttributes())
+                        description.add("ATTR " + path + "/" + attribute.getName() + " " + describe(attribute.getType()));
+                    for (Method method : domainObject.getMethods())
+                        description.add("METHOD " + path + "/" + method.getName() + " " + describe(method.getReturnType()) + " "
+                                + method.getParameters().stream().map(p -> p.getName() + ":" + describe(p.getType())).sorted().collect(Collectors.toList()));
+                }
+            }
+        }
+        return description;
+    }
+
+    private String describe(Type type) {
+        if (type == null)
+            return "void";
+        String name = type.isDomainObjectType() ? "@" + type.getDomainObjectType().getName() : type.getPrimitiveType();
+        return type.isCollectionType() ? type.getCollectionType() + "<" + name + ">" : name;
+    }
+
+    private static File getTestClassesDirectory() {
+        try {
+            return new File(TestSpringBootApplication.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
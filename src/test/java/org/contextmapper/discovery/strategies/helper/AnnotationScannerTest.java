@@ -0,0 +1,132 @@
+/*
+ * Copyright 2019 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.strategies.helper;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.web.bind.annotation.*;
+import test.application.spring.boot.TestSpringBootApplication;
+import test.application.spring.boot.interfaces.CustomerInformationHolder;
+import test.application.spring.boot.interfaces.IgnoredResource;
+import test.sibling.shop.ShopApplication;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AnnotationScannerTest {
+
+    @Test
+    public void canScanForAnnotatedTypes() {
+        // given
+        AnnotationScanner scanner = new AnnotationScanner();
+
+        // when
+        Set<Class<?>> types = scanner.scanForAnnotatedType("test.application.spring.boot", SpringBootApplication.class);
+
+        // then
+        assertEquals(1, types.size());
+        assertEquals(TestSpringBootApplication.class, types.iterator().next());
+    }
+
+    @Test
+    public void canAnswerSubPackageQueriesFromSharedIndex() {
+        // given
+        AnnotationScanner scanner = new AnnotationScanner();
+        scanner.scanForAnnotatedType("test", SpringBootApplication.class);
+
+        // when
+        Set<Class<?>> types = scanner.scanForAnnotatedType("test.application.spring.boot", RequestMapping.class);
+
+        // then
+        assertEquals(2, types.size());
+        assertTrue(types.contains(CustomerInformationHolder.class));
+        assertTrue(types.contains(IgnoredResource.class));
+    }
+
+    @Test
+    public void subPackageQueryDoesNotReturnTypesOutsideOfPackage() {
+        // given
+        AnnotationScanner scanner = new AnnotationScanner();
+        Set<Class<?>> allApplications = scanner.scanForAnnotatedType("test", SpringBootApplication.class);
+
+        // when
+        Set<Class<?>> applications = scanner.scanForAnnotatedType("test.microservice.spring.boot", SpringBootApplication.class);
+
+        // then
+        assertTrue(allApplications.size() > applications.size());
+        assertEquals(2, applications.size());
+        assertTrue(applications.stream().allMatch(t -> t.getName().startsWith("test.microservice.spring.boot")));
+    }
+
+    @Test
+    public void doesNotReturnTypesOfSiblingPackageWithSamePrefix() {
+        // given
+        AnnotationScanner scanner = new AnnotationScanner();
+
+        // when
+        Set<Class<?>> types = scanner.scanForAnnotatedType("test.sibling.shop", SpringBootApplication.class);
+
+        // then
+        assertEquals(Set.of(ShopApplication.class), types);
+    }
+
+    @Test
+    public void doesNotAnswerQueriesFromIndexOfSiblingPackageWithSamePrefix() {
+        // given
+        AnnotationScanner scanner = new AnnotationScanner();
+        scanner.scanForAnnotatedType("test.sibling.shop", SpringBootApplication.class);
+
+        // when
+        Set<Class<?>> types = scanner.scanForAnnotatedType("test.sibling.shopping", SpringBootApplication.class);
+
+        // then
+        assertEquals(1, types.size());
+        assertEquals("test.sibling.shopping.ShoppingApplication", types.iterator().next().getName());
+    }
+
+    @Test
+    public void canScanForAnnotatedMethods() {
+        // given
+        AnnotationScanner scanner = new AnnotationScanner();
+
+        // when
+        Set<Method> methods = scanner.scanForAnnotatedMethods(CustomerInformationHolder.class, PutMapping.class, GetMapping.class, DeleteMapping.class);
+
+        // then
+        assertEquals(4, methods.size());
+        Set<String> methodNames = methods.stream().map(m -> m.getName()).collect(Collectors.toSet());
+        assertTrue(methodNames.contains("changeAddress"));
+        assertTrue(methodNames.contains("getCustomer"));
+        assertTrue(methodNames.contains("getCustomers"));
+        assertTrue(methodNames.contains("deleteCustomer"));
+    }
+
+    @Test
+    public void methodScanIgnoresMethodsWithOtherAnnotations() {
+        // given
+        AnnotationScanner scanner = new AnnotationScanner();
+
+        // when
+        Set<Method> methods = scanner.scanForAnnotatedMethods(CustomerInformationHolder.class, PostMapping.class);
+
+        // then
+        assertTrue(methods.isEmpty());
+    }
+
+}
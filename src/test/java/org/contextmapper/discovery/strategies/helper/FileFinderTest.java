@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.strategies.helper;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FileFinderTest {
+
+    private static final List<String> INCLUDED_FILES = Arrays.asList("docker-compose*.{yml,yaml}", "compose.*.{yml,yaml}");
+    private static final List<String> EXCLUDED_DIRECTORIES = Arrays.asList(".git", "node_modules");
+
+    @Test
+    public void canFindFilesInSubDirectories(@TempDir Path root) throws IOException {
+        // given
+        createFile(root, "docker-compose.yml");
+        createFile(root, "service-a/docker-compose.override.yaml");
+        createFile(root, "service-b/deploy/compose.prod.yml");
+        createFile(root, "service-b/deploy/application.yml");
+        createFile(root, "service-b/compose.yml");
+
+        // when
+        List<Path> files = new FileFinder(INCLUDED_FILES, EXCLUDED_DIRECTORIES).find(root);
+
+        // then
+        assertEquals(Arrays.asList("docker-compose.yml", "service-a/docker-compose.override.yaml", "service-b/deploy/compose.prod.yml"), relativize(root, files));
+    }
+
+    @Test
+    public void doesNotSearchExcludedDirectories(@TempDir Path root) throws IOException {
+        // given
+        createFile(root, "service-a/docker-compose.yml");
+        createFile(root, "service-a/node_modules/library/docker-compose.yml");
+        createFile(root, ".git/docker-compose.yml");
+
+        // when
+        List<Path> files = new FileFinder(INCLUDED_FILES, EXCLUDED_DIRECTORIES).find(root);
+
+        // then
+        assertEquals(Collections.singletonList("service-a/docker-compose.yml"), relativize(root, files));
+    }
+
+    @Test
+    public void canMatchFilesWithoutFileSystemAccess(@TempDir Path root) {
+        // given
+        FileFinder finder = new FileFinder(INCLUDED_FILES, EXCLUDED_DIRECTORIES);
+
+        // when, then
+        assertTrue(finder.matches(root, root.resolve("service-a/docker-compose.yml")));
+        assertFalse(finder.matches(root, root.resolve("service-a/application.yml")));
+        assertFalse(finder.matches(root, root.resolve("node_modules/docker-compose.yml")));
+        assertFalse(finder.matches(root.resolve("service-a"), root.resolve("docker-compose.yml")));
+    }
+
+    @Test
+    public void cannotSearchMissingDirectory(@TempDir Path root) {
+        assertThrows(IllegalArgumentException.class, () -> new FileFinder(INCLUDED_FILES, EXCLUDED_DIRECTORIES).find(root.resolve("does-not-exist")));
+    }
+
+    @Test
+    public void cannotCreateFinderWithoutIncludePatterns() {
+        assertThrows(IllegalArgumentException.class, () -> new FileFinder(Collections.emptyList(), EXCLUDED_DIRECTORIES));
+    }
+
+    private void createFile(Path root, String path) throws IOException {
+        Path file = root.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.createFile(file);
+    }
+
+    private List<String> relativize(Path root, List<Path> files) {
+        return files.stream()
+                .map(f -> root.relativize(f).toString().replace(root.getFileSystem().getSeparator(), "/"))
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.strategies.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReflectionHelpersTest {
+
+    @Test
+    public void canGetFieldsIncludingSuperclassFields() {
+        // given
+        ReflectionHelpers helpers = new ReflectionHelpers();
+
+        // when
+        List<Field> fields = helpers.getAllFieldsOfType(TestCustomer.class);
+
+        // then
+        assertEquals(List.of("id", "name", "addresses", "tags", "rawList"), fields.stream().map(Field::getName).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void returnsModifiableListOfFields() {
+        // given
+        ReflectionHelpers helpers = new ReflectionHelpers();
+
+        // when
+        List<Field> fields1 = helpers.getAllFieldsOfType(TestCustomer.class);
+        fields1.add(fields1.get(0));
+        List<Field> fields2 = new ReflectionHelpers().getAllFieldsOfType(TestCustomer.class);
+
+        // then
+        assertEquals(6, fields1.size());
+        assertEquals(5, fields2.size());
+    }
+
+    @Test
+    public void returnsNoFieldsForNull() {
+        // given
+        ReflectionHelpers helpers = new ReflectionHelpers();
+
+        // when
+        List<Field> fields = helpers.getAllFieldsOfType(null);
+
+        // then
+        assertTrue(fields.isEmpty());
+    }
+
+    @Test
+    public void canGetFieldElementTypes() throws NoSuchFieldException {
+        // given
+        ReflectionHelpers helpers = new ReflectionHelpers();
+
+        // when
+        Class<?> idType = helpers.getFieldElementType(TestEntity.class.getDeclaredField("id"));
+        Class<?> addressesType = helpers.getFieldElementType(TestCustomer.class.getDeclaredField("addresses"));
+        Class<?> tagsType = helpers.getFieldElementType(TestCustomer.class.getDeclaredField("tags"));
+        Class<?> rawListType = helpers.getFieldElementType(TestCustomer.class.getDeclaredField("rawList"));
+
+        // then
+        assertEquals(long.class, idType);
+        assertEquals(TestAddress.class, addressesType);
+        assertEquals(String.class, tagsType);
+        assertEquals(List.class, rawListType);
+    }
+
+    @Test
+    public void canDetectCollectionTypes() {
+        // given
+        ReflectionHelpers helpers = new ReflectionHelpers();
+
+        // when, then
+        assertTrue(helpers.isCollectionType(List.class));
+        assertTrue(helpers.isCollectionType(Set.class));
+        assertFalse(helpers.isCollectionType(String.class));
+    }
+
+    private static class TestEntity {
+        private long id;
+    }
+
+    private static class TestCustomer extends TestEntity {
+        private String name;
+        private List<TestAddress> addresses;
+        private Set<String> tags;
+        @SuppressWarnings("rawtypes")
+        private List rawList;
+    }
+
+    private static class TestAddress {
+        private String street;
+    }
+
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.strategies.helper.bytecode;
+
+import org.contextmapper.discovery.strategies.helper.bytecode.ClassInfo.FieldInfo;
+import org.contextmapper.discovery.strategies.helper.bytecode.ClassInfo.MethodInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import test.application.spring.boot.TestSpringBootApplication;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClassFileIndexTest {
+
+    private static final String SPRING_BOOT_APPLICATION = "org.springframework.boot.autoconfigure.SpringBootApplication";
+    private static final String REQUEST_MAPPING = "org.springframework.web.bind.annotation.RequestMapping";
+
+    @Test
+    public void canFindAnnotatedTypes() {
+        // given
+        ClassFileIndex index = new ClassFileIndex(getTestClassesDirectory());
+
+        // when
+        Set<ClassInfo> applications = index.findTypesAnnotatedWith("test.application.spring.boot", SPRING_BOOT_APPLICATION);
+
+        // then
+        assertEquals(1, applications.size());
+        ClassInfo application = applications.iterator().next();
+        assertEquals("test.application.spring.boot.TestSpringBootApplication", application.getName());
+        assertEquals("TestSpringBootApplication", application.getSimpleName());
+        assertEquals("test.application.spring.boot", application.getPackageName());
+    }
+
+    @Test
+    public void doesNotFindTypesOfSiblingPackageWithSamePrefix() {
+        // given
+        ClassFileIndex index = new ClassFileIndex(getTestClassesDirectory());
+
+        // when
+        Set<ClassInfo> applications = index.findTypesAnnotatedWith("test.sibling.shop", SPRING_BOOT_APPLICATION);
+
+        // then
+        assertEquals(Set.of("test.sibling.shop.ShopApplication"), applications.stream().map(ClassInfo::getName).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void canFindSubtypesOfAnnotatedTypes() {
+        // given
+        ClassFileIndex index = new ClassFileIndex(getTestClassesDirectory());
+
+        // when
+        Set<ClassInfo> controllers = index.findTypesAnnotatedWith("test.inherited.controller.interfaces", REQUEST_MAPPING);
+
+        // then
+        assertEquals(Set.of("test.inherited.controller.interfaces.AbstractCustomerController", "test.inherited.controller.interfaces.CustomerController"),
+                controllers.stream().map(ClassInfo::getName).collect(Collectors.toSet()));
+        ClassInfo controller = index.getClassInfo("test.inherited.controller.interfaces.CustomerController");
+        assertFalse(controller.isAnnotatedWith(REQUEST_MAPPING));
+        assertEquals("[/customers]", index.findAnnotation(controller, REQUEST_MAPPING).getStringValues("value").toString());
+    }
+
+    @Test
+    public void canReadAnnotationValues() {
+        // given
+        ClassFileIndex index = new ClassFileIndex(getTestClassesDirectory());
+
+        // when
+        ClassInfo controller = index.getClassInfo("test.application.spring.boot.interfaces.CustomerInformationHolder");
+
+        // then
+        assertEquals("[/customers]", controller.getAnnotation(REQUEST_MAPPING).getStringValues("value").toString());
+        assertTrue(controller.getAnnotation(REQUEST_MAPPING).getStringValues("path").isEmpty());
+    }
+
+    @Test
+    public void canReadGenericFieldTypes() {
+        // given
+        ClassFileIndex index = new ClassFileIndex(getTestClassesDirectory());
+
+        // when
+        ClassInfo customer = index.getClassInfo("test.application.spring.boot.model.Customer");
+
+        // then
+        assertEquals("java.lang.Object", customer.getSuperclassName());
+        FieldInfo addressList = customer.getFields().stream().filter(f -> f.getName().equals("addressList")).findFirst().get();
+        assertEquals("java.util.List", addressList.getType().getClassName());
+        assertEquals("test.application.spring.boot.model.Address", addressList.getType().getTypeArguments().get(0).getClassName());
+        assertFalse(addressList.isStatic());
+    }
+
+    @Test
+    public void canReadAnnotatedMethods() {
+        // given
+        ClassFileIndex index = new ClassFileIndex(getTestClassesDirectory());
+
+        // when
+        ClassInfo controller = index.getClassInfo("test.application.spring.boot.interfaces.CustomerInformationHolder");
+
+        // then
+        MethodInfo getCustomer = controller.getMethods().stream().filter(m -> m.getName().equals("getCustomer")).findFirst().get();
+        assertTrue(getCustomer.isAnnotatedWith("org.springframework.web.bind.annotation.GetMapping"));
+        assertFalse(getCustomer.isBridgeOrSynthetic());
+        assertEquals("org.springframework.http.ResponseEntity", getCustomer.getReturnType().getClassName());
+        assertEquals("Customer", getCustomer.getReturnType().getTypeArguments().get(0).getSimpleName());
+        assertEquals(1, getCustomer.getParameterTypes().size());
+        assertEquals("CustomerId", getCustomer.getParameterTypes().get(0).getSimpleName());
+        assertEquals(1, getCustomer.getParameterNames().size());
+    }
+
+    @Test
+    public void canIndexJarFiles(@TempDir File tempDir) throws IOException {
+        // given
+        File jar = new File(tempDir, "application.jar");
+        File classFile = new File(getTestClassesDirectory(), "test/application/spring/boot/TestSpringBootApplication.class");
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+            out.putNextEntry(new ZipEntry("BOOT-INF/classes/test/application/spring/boot/TestSpringBootApplication.class"));
+            out.write(Files.readAllBytes(classFile.toPath()));
+            out.closeEntry();
+            out.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+            out.closeEntry();
+        }
+
+        // when
+        ClassFileIndex index = new ClassFileIndex(jar);
+
+        // then
+        assertEquals(1, index.size());
+        assertEquals(Set.of("test.application.spring.boot.TestSpringBootApplication"), index.findTypesAnnotatedWith("test", SPRING_BOOT_APPLICATION)
+                .stream().map(ClassInfo::getName).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void indexesOnlyApplicationClassesOfSpringBootJars(@TempDir File tempDir) throws IOException {
+        // given
+        File jar = new File(tempDir, "application.jar");
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+            addClassFile(out, "org/springframework/boot/loader/", "test/application/spring/boot/model/Address.class", false);
+            addClassFile(out, "BOOT-INF/classes/", "test/application/spring/boot/TestSpringBootApplication.class", false);
+            addClassFile(out, "BOOT-INF/classes/", "test/application/spring/boot/model/Customer.class", false);
+            out.putNextEntry(new ZipEntry("BOOT-INF/lib/library.jar"));
+            out.write(new byte[]{1, 2, 3, 4});
+            out.closeEntry();
+        }
+
+        // when
+        ClassFileIndex index = new ClassFileIndex(jar);
+
+        // then
+        assertEquals(2, index.size());
+        assertNotNull(index.getClassInfo("test.application.spring.boot.model.Customer"));
+        assertNull(index.getClassInfo("test.application.spring.boot.model.Address"));
+    }
+
+    @Test
+    public void canIndexStoredEntriesOfJarFiles(@TempDir File tempDir) throws IOException {
+        // given
+        File jar = new File(tempDir, "library.jar");
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+            addClassFile(out, "", "test/application/spring/boot/model/Customer.class", true);
+            addClassFile(out, "META-INF/versions/11/", "test/application/spring/boot/model/Address.class", true);
+        }
+
+        // when
+        ClassFileIndex index = new ClassFileIndex(jar);
+
+        // then
+        assertEquals(1, index.size());
+        assertEquals("test.application.spring.boot.model.Address", index.getClassInfo("test.application.spring.boot.model.Customer")
+                .getFields().stream().filter(f -> f.getName().equals("addressList")).findFirst().get().getType().getTypeArguments().get(0).getClassName());
+    }
+
+    @Test
+    public void throwsExceptionForInvalidClassFiles(@TempDir File tempDir) throws IOException {
+        // given
+        Files.write(new File(tempDir, "Invalid.class").toPath(), new byte[]{1, 2, 3, 4});
+        ClassFileIndex index = new ClassFileIndex(tempDir);
+
+        // when, then
+        assertThrows(UncheckedIOException.class, () -> index.getClassInfo("Invalid"));
+    }
+
+    @Test
+    public void cannotCreateIndexWithoutEntries() {
+        assertThrows(IllegalArgumentException.class, () -> new ClassFileIndex());
+        assertThrows(IllegalArgumentException.class, () -> new ClassFileIndex(new File("./does-not-exist")));
+    }
+
+    @Test
+    public void canValidateEntriesWithoutCreatingIndex(@TempDir File tempDir) {
+        // when, then
+        ClassFileIndex.validate(tempDir);
+        assertThrows(IllegalArgumentException.class, () -> ClassFileIndex.validate());
+        assertThrows(IllegalArgumentException.class, () -> ClassFileIndex.validate(tempDir, new File("./does-not-exist")));
+    }
+
+    /**
+     * Copies a compiled test class into a JAR (with the given prefix for the entry name), stored or deflated.
+     */
+    static void addClassFile(ZipOutputStream out, String prefix, String classFile, boolean stored) throws IOException {
+        byte[] content = Files.readAllBytes(new File(getTestClassesDirectory(), classFile).toPath());
+        ZipEntry entry = new ZipEntry(prefix + classFile);
+        if (stored) {
+            CRC32 crc = new CRC32();
+            entry.setMethod(ZipEntry.STORED);
+            crc.update(content);
+            entry.setSize(content.length);
+            entry.setCrc(crc.getValue());
+        }
+        out.putNextEntry(entry);
+        out.write(content);
+        out.closeEntry();
+    }
+
+    /**
+     * The directory (or JAR) containing the compiled test classes.
+     */
+    static File getTestClassesDirectory() {
+        try {
+            return new File(TestSpringBootApplication.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.strategies.helper.bytecode;
+
+import org.contextmapper.discovery.strategies.helper.JavaField;
+import org.contextmapper.discovery.strategies.helper.JavaMethod;
+import org.contextmapper.discovery.strategies.helper.JavaType;
+import org.contextmapper.discovery.strategies.helper.ReflectionJavaType;
+import org.junit.jupiter.api.Test;
+import test.application.spring.boot.model.Customer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClassFileJavaTypeTest {
+
+    @Test
+    public void readsSameFieldsAsReflection() {
+        // given
+        ClassFileIndex index = new ClassFileIndex(ClassFileIndexTest.getTestClassesDirectory());
+        JavaType classFileType = new ClassFileJavaType(index.getClassInfo(Customer.class.getName()), index);
+        JavaType reflectionType = new ReflectionJavaType(Customer.class);
+
+        // when
+        List<String> classFileFields = describeFields(classFileType);
+        List<String> reflectionFields = describeFields(reflectionType);
+
+        // then
+        assertEquals(reflectionFields, classFileFields);
+        assertTrue(classFileFields.contains("addressList: List<Address>"));
+    }
+
+    @Test
+    public void canFindResourceMethods() {
+        // given
+        ClassFileIndex index = new ClassFileIndex(ClassFileIndexTest.getTestClassesDirectory());
+        ClassFileJavaType controller = new ClassFileJavaType(index.getClassInfo("test.application.spring.boot.interfaces.CustomerInformationHolder"), index);
+
+        // when
+        List<JavaMethod> methods = controller.getMethodsAnnotatedWith(Arrays.asList("org.springframework.web.bind.annotation.GetMapping"));
+
+        // then
+        assertEquals(2, methods.size());
+        JavaMethod getCustomers = methods.stream().filter(m -> m.getName().equals("getCustomers")).findFirst().get();
+        JavaType customerList = getCustomers.getReturnType().getTypeArguments().get(0);
+        assertEquals("java.util.List", customerList.getName());
+        assertEquals(Customer.class.getName(), customerList.getTypeArguments().get(0).getName());
+    }
+
+    private List<String> describeFields(JavaType type) {
+        return type.getAllFields().stream()
+                .map(this::describeField)
+                .collect(Collectors.toList());
+    }
+
+    private String describeField(JavaField field) {
+        return field.getName() + ": " + field.getType().getSimpleName() + "<" + field.getElementType().getSimpleName() + ">";
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.strategies.helper.bytecode;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedJarFileTest {
+
+    @Test
+    public void canReadStoredAndDeflatedEntries(@TempDir File tempDir) throws IOException {
+        // given
+        File jar = new File(tempDir, "test.jar");
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+            out.putNextEntry(new ZipEntry("directory/"));
+            out.closeEntry();
+            addEntry(out, "directory/deflated.txt", "deflated content deflated content deflated content", false);
+            addEntry(out, "stored.txt", "stored content", true);
+            addEntry(out, "ignored.txt", "ignored content", false);
+            out.setComment("a comment after the central directory");
+        }
+
+        // when
+        Map<String, String> entries = new LinkedHashMap<>();
+        MappedJarFile mappedJar = new MappedJarFile(jar);
+        mappedJar.readEntries(name -> !name.startsWith("ignored"), (name, content) -> entries.put(name, toString(content)));
+
+        // then
+        assertTrue(mappedJar.isSupported());
+        assertEquals(2, entries.size());
+        assertEquals("deflated content deflated content deflated content", entries.get("directory/deflated.txt"));
+        assertEquals("stored content", entries.get("stored.txt"));
+    }
+
+    @Test
+    public void canCheckEntryNamesWithoutReadingEntries(@TempDir File tempDir) throws IOException {
+        // given
+        File jar = new File(tempDir, "test.jar");
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+            out.putNextEntry(new ZipEntry("BOOT-INF/classes/"));
+            out.closeEntry();
+            addEntry(out, "BOOT-INF/lib/library.jar", "library", false);
+        }
+
+        // when
+        MappedJarFile mappedJar = new MappedJarFile(jar);
+
+        // then
+        assertTrue(mappedJar.containsEntry(name -> name.startsWith("BOOT-INF/lib/")));
+        assertFalse(mappedJar.containsEntry(name -> name.startsWith("BOOT-INF/classes/")));
+    }
+
+    @Test
+    public void canReadArchiveWithLeadingBytes(@TempDir File tempDir) throws IOException {
+        // given
+        File jar = new File(tempDir, "executable.jar");
+        try (FileOutputStream file = new FileOutputStream(jar)) {
+            file.write("#!/bin/bash\necho 'launch script'\nexit 0\n".getBytes(StandardCharsets.UTF_8));
+            try (ZipOutputStream out = new ZipOutputStream(file)) {
+                addEntry(out, "BOOT-INF/classes/deflated.txt", "deflated content deflated content", false);
+                addEntry(out, "BOOT-INF/classes/stored.txt", "stored content", true);
+            }
+        }
+
+        // when
+        Map<String, String> entries = new LinkedHashMap<>();
+        MappedJarFile mappedJar = new MappedJarFile(jar);
+        mappedJar.readEntries(name -> true, (name, content) -> entries.put(name, toString(content)));
+
+        // then
+        assertTrue(mappedJar.isSupported());
+        assertTrue(mappedJar.containsEntry(name -> name.startsWith("BOOT-INF/classes/")));
+        assertEquals("deflated content deflated content", entries.get("BOOT-INF/classes/deflated.txt"));
+        assertEquals("stored content", entries.get("BOOT-INF/classes/stored.txt"));
+    }
+
+    @Test
+    public void doesNotSupportArchiveWithInvalidCentralDirectoryOffset(@TempDir File tempDir) throws IOException {
+        // given
+        File jar = new File(tempDir, "test.jar");
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+            addEntry(out, "stored.txt", "stored content", true);
+        }
+        byte[] bytes = Files.readAllBytes(jar.toPath());
+        bytes[bytes.length - 6] += 1; // the offset of the central directory in the end of central directory record
+        Files.write(jar.toPath(), bytes);
+
+        // when
+        MappedJarFile mappedJar = new MappedJarFile(jar);
+
+        // then
+        assertFalse(mappedJar.isSupported());
+    }
+
+    @Test
+    public void doesNotSupportOtherFiles(@TempDir File tempDir) throws IOException {
+        // given
+        File file = new File(tempDir, "test.jar");
+        Files.write(file.toPath(), "not a zip file".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        MappedJarFile mappedJar = new MappedJarFile(file);
+
+        // then
+        assertFalse(mappedJar.isSupported());
+        assertThrows(ZipException.class, () -> mappedJar.readEntries(name -> true, (name, content) -> {
+        }));
+    }
+
+    private void addEntry(ZipOutputStream out, String name, String content, boolean stored) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        ZipEntry entry = new ZipEntry(name);
+        if (stored) {
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(bytes.length);
+            entry.setCrc(crc.getValue());
+        }
+        out.putNextEntry(entry);
+        out.write(bytes);
+        out.closeEntry();
+    }
+
+    private String toString(ByteBuffer content) {
+        byte[] bytes = new byte[content.remaining()];
+        content.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
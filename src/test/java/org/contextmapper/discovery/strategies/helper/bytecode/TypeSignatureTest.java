@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.strategies.helper.bytecode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TypeSignatureTest {
+
+    @Test
+    public void canParsePrimitiveType() {
+        // given
+        String descriptor = "I";
+
+        // when
+        TypeSignature type = TypeSignature.parseFieldSignature(descriptor);
+
+        // then
+        assertEquals("int", type.getClassName());
+        assertEquals("int", type.getSimpleName());
+        assertEquals("", type.getPackageName());
+        assertFalse(type.isParameterized());
+    }
+
+    @Test
+    public void canParseClassType() {
+        // given
+        String descriptor = "Lcom/example/Outer$Inner;";
+
+        // when
+        TypeSignature type = TypeSignature.parseFieldSignature(descriptor);
+
+        // then
+        assertEquals("com.example.Outer$Inner", type.getClassName());
+        assertEquals("Inner", type.getSimpleName());
+        assertEquals("com.example", type.getPackageName());
+    }
+
+    @Test
+    public void canParseArrayType() {
+        // given
+        String descriptor = "[[Ljava/lang/String;";
+
+        // when
+        TypeSignature type = TypeSignature.parseFieldSignature(descriptor);
+
+        // then
+        assertTrue(type.isArray());
+        assertEquals("java.lang.String", type.getClassName());
+        assertEquals("String[][]", type.getSimpleName());
+        assertEquals("", type.getPackageName());
+    }
+
+    @Test
+    public void canParseParameterizedType() {
+        // given
+        String signature = "Ljava/util/Map<Ljava/lang/String;Ljava/util/List<Lcom/example/Customer;>;>;";
+
+        // when
+        TypeSignature type = TypeSignature.parseFieldSignature(signature);
+
+        // then
+        assertEquals("java.util.Map", type.getClassName());
+        assertEquals(2, type.getTypeArguments().size());
+        assertEquals("java.lang.String", type.getTypeArguments().get(0).getClassName());
+        TypeSignature list = type.getTypeArguments().get(1);
+        assertEquals("java.util.List", list.getClassName());
+        assertEquals("com.example.Customer", list.getTypeArguments().get(0).getClassName());
+    }
+
+    @Test
+    public void canParseTypeVariablesAndWildcards() {
+        // given
+        String signature = "Ljava/util/Map<TK;+Ljava/lang/Number;>;";
+
+        // when
+        TypeSignature type = TypeSignature.parseFieldSignature(signature);
+
+        // then
+        assertFalse(type.getTypeArguments().get(0).isClass());
+        assertEquals("K", type.getTypeArguments().get(0).getClassName());
+        assertFalse(type.getTypeArguments().get(1).isClass());
+    }
+
+    @Test
+    public void canParseInnerClassOfParameterizedClass() {
+        // given
+        String signature = "Lcom/example/Outer<Ljava/lang/String;>.Inner<Ljava/lang/Integer;>;";
+
+        // when
+        TypeSignature type = TypeSignature.parseFieldSignature(signature);
+
+        // then
+        assertEquals("com.example.Outer$Inner", type.getClassName());
+        assertEquals(1, type.getTypeArguments().size());
+        assertEquals("java.lang.Integer", type.getTypeArguments().get(0).getClassName());
+    }
+
+    @Test
+    public void canParseMethodSignature() {
+        // given
+        String signature = "<T:Ljava/lang/Object;>(Ljava/util/List<TT;>;J[I)Lorg/springframework/http/ResponseEntity<Lcom/example/Customer;>;^Ljava/io/IOException;";
+
+        // when
+        List<TypeSignature> types = TypeSignature.parseMethodSignature(signature);
+
+        // then
+        assertEquals(4, types.size());
+        assertEquals("java.util.List", types.get(0).getClassName());
+        assertEquals("long", types.get(1).getClassName());
+        assertEquals("int[]", types.get(2).getSimpleName());
+        assertEquals("org.springframework.http.ResponseEntity", types.get(3).getClassName());
+        assertEquals("com.example.Customer", types.get(3).getTypeArguments().get(0).getClassName());
+    }
+
+    @Test
+    public void canParseVoidMethodDescriptor() {
+        // given
+        String descriptor = "()V";
+
+        // when
+        List<TypeSignature> types = TypeSignature.parseMethodSignature(descriptor);
+
+        // then
+        assertEquals(1, types.size());
+        assertEquals("void", types.get(0).getClassName());
+    }
+
+    @Test
+    public void cannotParseInvalidSignature() {
+        assertThrows(IllegalArgumentException.class, () -> TypeSignature.parseFieldSignature("Ljava/lang/String"));
+        assertThrows(IllegalArgumentException.class, () -> TypeSignature.parseFieldSignature("X"));
+        assertThrows(IllegalArgumentException.class, () -> TypeSignature.parseFieldSignature("II"));
+    }
+
+}
@@ -16,6 +16,8 @@
 package org.contextmapper.discovery.strategies.relationships;
 
 import org.contextmapper.discovery.ContextMapDiscoverer;
+import org.contextmapper.discovery.metrics.DiscoveryPhase;
+import org.contextmapper.discovery.metrics.RecordingDiscoveryMetricsListener;
 import org.contextmapper.discovery.model.ContextMap;
 import org.contextmapper.discovery.model.Relationship;
 import org.contextmapper.discovery.strategies.boundedcontexts.SpringBootBoundedContextDiscoveryStrategy;
@@ -30,7 +32,7 @@ import java.io.File;
 import java.util.List;
 import java.util.stream.Stream;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class DockerComposeRelationshipDiscoveryStrategyTest {
 
@@ -82,6 +84,87 @@ public class DockerComposeRelationshipDiscoveryStrategyTest {
                 "(discovery strategy simply added all Aggregates).", relationship.getExposedAggregatesComment());
     }
 
+    @Test
+    public void canDiscoverRelationshipWithLongDependsOnSyntax() {
+        // given
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(
+                        new SpringBootBoundedContextDiscoveryStrategy("test.microservice.spring.boot"))
+                .usingRelationshipDiscoveryStrategies(
+                        new DockerComposeRelationshipDiscoveryStrategy(new File("./src/test/resources/test/docker/compose/long-syntax")))
+                .usingBoundedContextNameMappingStrategies(
+                        new SeparatorToCamelCaseBoundedContextNameMappingStrategy("-"));
+
+        // when
+        ContextMap contextmap = discoverer.discoverContextMap();
+
+        // then
+        assertEquals(1, contextmap.getRelationships().size());
+        Relationship relationship = contextmap.getRelationships().iterator().next();
+        assertEquals("Microservice1", relationship.getUpstream().getName());
+        assertEquals("Microservice2", relationship.getDownstream().getName());
+    }
+
+    @Test
+    public void canDiscoverRelationshipWithAliasedDependsOn() {
+        // given
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(
+                        new SpringBootBoundedContextDiscoveryStrategy("test.microservice.spring.boot"))
+                .usingRelationshipDiscoveryStrategies(
+                        new DockerComposeRelationshipDiscoveryStrategy(new File("./src/test/resources/test/docker/aliases")))
+                .usingBoundedContextNameMappingStrategies(
+                        new SeparatorToCamelCaseBoundedContextNameMappingStrategy("-"));
+
+        // when
+        ContextMap contextmap = discoverer.discoverContextMap();
+
+        // then
+        assertEquals(1, contextmap.getRelationships().size());
+        Relationship relationship = contextmap.getRelationships().iterator().next();
+        assertEquals("Microservice1", relationship.getUpstream().getName());
+        assertEquals("Microservice2", relationship.getDownstream().getName());
+    }
+
+    @Test
+    public void doesNotSearchExcludedDirectories() {
+        // given
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(
+                        new SpringBootBoundedContextDiscoveryStrategy("test.microservice.spring.boot"))
+                .usingRelationshipDiscoveryStrategies(
+                        new DockerComposeRelationshipDiscoveryStrategy(new File("./src/test/resources/test/microservice"))
+                                .usingFilePatterns(DockerComposeRelationshipDiscoveryStrategy.DEFAULT_FILE_PATTERNS, List.of("spring-*")))
+                .usingBoundedContextNameMappingStrategies(
+                        new SeparatorToCamelCaseBoundedContextNameMappingStrategy("-"));
+
+        // when
+        ContextMap contextmap = discoverer.discoverContextMap();
+
+        // then
+        assertEquals(0, contextmap.getRelationships().size());
+    }
+
+    @Test
+    public void reportsParsingTimePerFile() {
+        // given
+        RecordingDiscoveryMetricsListener listener = new RecordingDiscoveryMetricsListener();
+        ContextMapDiscoverer discoverer = new ContextMapDiscoverer()
+                .usingBoundedContextDiscoveryStrategies(
+                        new SpringBootBoundedContextDiscoveryStrategy("test.microservice.spring.boot"))
+                .usingRelationshipDiscoveryStrategies(
+                        new DockerComposeRelationshipDiscoveryStrategy(new File("./src/test/resources/test/docker/compose")))
+                .usingMetricsListener(listener);
+
+        // when
+        discoverer.discoverContextMap();
+
+        // then
+        assertEquals(3, listener.getPhases().stream()
+                .filter(p -> p.getSource().equals("DockerComposeRelationshipDiscoveryStrategy") && p.getPhase() == DiscoveryPhase.SPECIFICATION_PARSING)
+                .findFirst().get().getInvocations());
+    }
+
     @ParameterizedTest
     @MethodSource("noServicesDockerComposeFiles")
     public void emptyResultIfDockerComposeFileDoesNotContainServices(String sourcePath) {
@@ -121,6 +204,19 @@ public class DockerComposeRelationshipDiscoveryStrategyTest {
         });
     }
 
+    @Test
+    public void isAffectedByDockerComposeFilesWithinSourcePath() {
+        // given
+        DockerComposeRelationshipDiscoveryStrategy strategy = new DockerComposeRelationshipDiscoveryStrategy(new File("./src/test/resources/test/microservice"));
+
+        // when, then
+        assertTrue(strategy.isAffectedBy("./src/test/resources/test/microservice/spring-boot/docker-compose.yml"));
+        assertFalse(strategy.isAffectedBy("./src/test/resources/test/microservice/spring-boot/application.yml"));
+        assertFalse(strategy.isAffectedBy("./src/test/resources/test/docker-compose.yml"));
+        assertTrue(strategy.isAffectedBy("./src/test/resources/test/microservice/compose.override.yaml"));
+        assertFalse(strategy.isAffectedBy("./src/test/resources/test/microservice/node_modules/docker-compose.yml"));
+    }
+
     private class TestDockerComposeStrategy extends DockerComposeRelationshipDiscoveryStrategy {
         public TestDockerComposeStrategy(File sourcePath) {
             super(sourcePath);
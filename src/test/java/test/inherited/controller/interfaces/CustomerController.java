@@ -0,0 +1,30 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package test.inherited.controller.interfaces;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import test.inherited.controller.model.Address;
+
+public class CustomerController extends AbstractCustomerController {
+
+    @GetMapping({"/{id}/address"})
+    public ResponseEntity<Address> getAddress(@PathVariable String id) {
+        // method will never be called; this is just for our reflection (scanning) tests;
+        return null;
+    }
+
+}
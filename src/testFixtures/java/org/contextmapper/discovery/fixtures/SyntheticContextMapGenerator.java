@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.fixtures;
+
+import org.contextmapper.discovery.model.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates discovered Context Maps of a given size (as they are passed to the CML converter and serializer).
+ */
+public class SyntheticContextMapGenerator {
+
+    private final int boundedContexts;
+    private final int aggregatesPerContext;
+    private final int domainObjectsPerAggregate;
+
+    public SyntheticContextMapGenerator(int boundedContexts, int aggregatesPerContext, int domainObjectsPerAggregate) {
+        if (boundedContexts < 1 || aggregatesPerContext < 1 || domainObjectsPerAggregate < 1)
+            throw new IllegalArgumentException("A Context Map needs at least one Bounded Context, Aggregate and Domain Object.");
+        this.boundedContexts = boundedContexts;
+        this.aggregatesPerContext = aggregatesPerContext;
+        this.domainObjectsPerAggregate = domainObjectsPerAggregate;
+    }
+
+    /**
+     * Generates the Context Map. Every Bounded Context is upstream of its successor and exposes its first Aggregate.
+     *
+     * @return the generated Context Map
+     */
+    public ContextMap generate() {
+        ContextMap contextMap = new ContextMap();
+        List<BoundedContext> contexts = new ArrayList<>();
+        for (int i = 0; i < boundedContexts; i++) {
+            BoundedContext boundedContext = new BoundedContext("Context" + i);
+            boundedContext.setTechnology("Synthetic");
+            for (int j = 0; j < aggregatesPerContext; j++) {
+                boundedContext.addAggregate(createAggregate("Context" + i + "Aggregate" + j));
+            }
+            contexts.add(boundedContext);
+            contextMap.addBoundedContext(boundedContext);
+        }
+        for (int i = 0; i + 1 < contexts.size(); i++) {
+            Relationship relationship = new Relationship(contexts.get(i), contexts.get(i + 1));
+            relationship.addExposedAggregate(contexts.get(i).getAggregates().iterator().next());
+            relationship.setExposedAggregatesComment("synthetic relationship");
+            contextMap.addRelationship(relationship);
+        }
+        return contextMap;
+    }
+
+    private Aggregate createAggregate(String name) {
+        Aggregate aggregate = new Aggregate(name);
+        aggregate.setDiscoveryComment("synthetic aggregate");
+        Service service = new Service(name + "Service");
+        DomainObject previous = null;
+        for (int i = 0; i < domainObjectsPerAggregate; i++) {
+            DomainObject domainObject = new DomainObject(i == 0 ? DomainObjectType.ENTITY : DomainObjectType.VALUE_OBJECT, name + "Object" + i);
+            domainObject.addAttribute(new Attribute(new Type("String"), "name"));
+            domainObject.addAttribute(new Attribute(new Type("long"), "amount"));
+            if (previous != null) {
+                domainObject.addAttribute(new Attribute(new Type(previous, "List"), "parts"));
+            }
+            Method method = new Method("update" + i);
+            method.addParameter(new Parameter("value", new Type("String")));
+            domainObject.addMethod(method);
+            aggregate.addDomainObject(domainObject);
+
+            Method operation = new Method("read" + domainObject.getName());
+            operation.setReturnType(new Type(domainObject));
+            operation.addParameter(new Parameter("id", new Type("String")));
+            service.addOperation(operation);
+            previous = domainObject;
+        }
+        aggregate.addService(service);
+        return aggregate;
+    }
+
+}
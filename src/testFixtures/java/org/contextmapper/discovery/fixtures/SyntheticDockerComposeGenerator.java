@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.fixtures;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Generates docker-compose files with a given number of services. Every service depends on (up to) a given number of
+ * its predecessors.
+ */
+public class SyntheticDockerComposeGenerator {
+
+    private final int services;
+    private final int dependenciesPerService;
+
+    public SyntheticDockerComposeGenerator(int services, int dependenciesPerService) {
+        if (services < 1 || dependenciesPerService < 0)
+            throw new IllegalArgumentException("A compose file needs at least one service and a non-negative number of dependencies.");
+        this.services = services;
+        this.dependenciesPerService = dependenciesPerService;
+    }
+
+    /**
+     * Gets the name of a generated service (and of the Bounded Context it is expected to implement).
+     *
+     * @param index the index of the service
+     * @return the name of the service
+     */
+    public static String serviceName(int index) {
+        return "service" + index;
+    }
+
+    /**
+     * Writes a docker-compose.yml file into the given directory.
+     *
+     * @param directory the directory in which the file shall be created
+     * @return the written file
+     * @throws IOException if the file cannot be written
+     */
+    public File generate(File directory) throws IOException {
+        Files.createDirectories(directory.toPath());
+        File file = new File(directory, "docker-compose.yml");
+        Files.write(file.toPath(), generate().getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    /**
+     * Generates the compose file as YAML.
+     *
+     * @return the YAML document
+     */
+    public String generate() {
+        StringBuilder yaml = new StringBuilder();
+        yaml.append("version: \"3\"\n");
+        yaml.append("services:\n");
+        for (int i = 0; i < services; i++) {
+            yaml.append("  ").append(serviceName(i)).append(":\n");
+            yaml.append("    image: synthetic/").append(serviceName(i)).append("\n");
+            if (i > 0 && dependenciesPerService > 0) {
+                yaml.append("    depends_on:\n");
+                for (int j = Math.max(0, i - dependenciesPerService); j < i; j++) {
+                    yaml.append("      - ").append(serviceName(j)).append("\n");
+                }
+            }
+        }
+        return yaml.toString();
+    }
+
+}
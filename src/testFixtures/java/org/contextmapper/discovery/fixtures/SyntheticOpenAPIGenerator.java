@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.fixtures;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Generates OpenAPI specifications of a given size. Every endpoint gets a read and an update operation, and every
+ * schema references the next one, so that the schemas form a chain as deep as the number of schemas.
+ */
+public class SyntheticOpenAPIGenerator {
+
+    private final int endpoints;
+    private final int schemas;
+
+    public SyntheticOpenAPIGenerator(int endpoints, int schemas) {
+        if (endpoints < 1 || schemas < 1)
+            throw new IllegalArgumentException("A specification needs at least one endpoint and one schema.");
+        this.endpoints = endpoints;
+        this.schemas = schemas;
+    }
+
+    /**
+     * Writes the specification to the given file.
+     *
+     * @param title the title of the API (becomes the name of the Bounded Context)
+     * @param file  the file to be written
+     * @return the written file
+     * @throws IOException if the file cannot be written
+     */
+    public File generate(String title, File file) throws IOException {
+        Files.write(file.toPath(), generate(title).getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    /**
+     * Generates the specification as YAML.
+     *
+     * @param title the title of the API (becomes the name of the Bounded Context)
+     * @return the YAML document
+     */
+    public String generate(String title) {
+        StringBuilder yaml = new StringBuilder();
+        yaml.append("openapi: 3.0.1\n");
+        yaml.append("info:\n");
+        yaml.append("  title: ").append(title).append("\n");
+        yaml.append("  version: \"1.0\"\n");
+        yaml.append("paths:\n");
+        for (int i = 0; i < endpoints; i++) {
+            appendEndpoint(yaml, i);
+        }
+        yaml.append("components:\n");
+        yaml.append("  schemas:\n");
+        for (int i = 0; i < schemas; i++) {
+            appendSchema(yaml, i);
+        }
+        return yaml.toString();
+    }
+
+    private void appendEndpoint(StringBuilder yaml, int index) {
+        String resource = "Resource" + index;
+        yaml.append("  /").append(resource).append(":\n");
+        yaml.append("    get:\n");
+        yaml.append("      tags:\n");
+        yaml.append("        - ").append(resource).append("\n");
+        yaml.append("      operationId: read").append(resource).append("\n");
+        yaml.append("      parameters:\n");
+        yaml.append("        - name: id\n");
+        yaml.append("          in: query\n");
+        yaml.append("          required: true\n");
+        yaml.append("          schema:\n");
+        yaml.append("            type: string\n");
+        appendResponse(yaml, schemaName(index % schemas));
+        yaml.append("    put:\n");
+        yaml.append("      tags:\n");
+        yaml.append("        - ").append(resource).append("\n");
+        yaml.append("      operationId: update").append(resource).append("\n");
+        yaml.append("      requestBody:\n");
+        yaml.append("        content:\n");
+        yaml.append("          application/json:\n");
+        yaml.append("            schema:\n");
+        yaml.append("              $ref: '#/components/schemas/").append(schemaName((index + 1) % schemas)).append("'\n");
+        appendResponse(yaml, schemaName(index % schemas));
+    }
+
+    private void appendResponse(StringBuilder yaml, String schema) {
+        yaml.append("      responses:\n");
+        yaml.append("        \"200\":\n");
+        yaml.append("          description: success\n");
+        yaml.append("          content:\n");
+        yaml.append("            application/json:\n");
+        yaml.append("              schema:\n");
+        yaml.append("                $ref: '#/components/schemas/").append(schema).append("'\n");
+    }
+
+    private void appendSchema(StringBuilder yaml, int index) {
+        yaml.append("    ").append(schemaName(index)).append(":\n");
+        yaml.append("      type: object\n");
+        yaml.append("      properties:\n");
+        yaml.append("        name:\n");
+        yaml.append("          type: string\n");
+        yaml.append("        amount:\n");
+        yaml.append("          type: integer\n");
+        yaml.append("        tags:\n");
+        yaml.append("          type: array\n");
+        yaml.append("          items:\n");
+        yaml.append("            type: string\n");
+        if (index + 1 < schemas) {
+            yaml.append("        next:\n");
+            yaml.append("          $ref: '#/components/schemas/").append(schemaName(index + 1)).append("'\n");
+        }
+    }
+
+    private String schemaName(int index) {
+        return "Schema" + index + "DTO";
+    }
+
+}
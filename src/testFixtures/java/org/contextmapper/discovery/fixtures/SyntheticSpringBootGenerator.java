@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.discovery.fixtures;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.Callable;
+
+/**
+ * Generates and compiles Spring Boot style applications: every application has a given number of
+ * {@link RequestMapping} controllers, and every controller exposes a chain of DTOs as deep as configured.
+ * <p>
+ * The classes are compiled with the system Java compiler (a JDK is required) and loaded with a new class loader.
+ * Discovery strategies find them if they run within {@link #runWithClassLoader(ClassLoader, Callable)}.
+ */
+public class SyntheticSpringBootGenerator {
+
+    private final String basePackage;
+    private final int applications;
+    private final int controllersPerApplication;
+    private final int dtoDepth;
+
+    public SyntheticSpringBootGenerator(String basePackage, int applications, int controllersPerApplication, int dtoDepth) {
+        if (basePackage == null || "".equals(basePackage))
+            throw new IllegalArgumentException("The base package must not be empty.");
+        if (applications < 1 || controllersPerApplication < 1 || dtoDepth < 1)
+            throw new IllegalArgumentException("At least one application, controller and DTO level must be generated.");
+        this.basePackage = basePackage;
+        this.applications = applications;
+        this.controllersPerApplication = controllersPerApplication;
+        this.dtoDepth = dtoDepth;
+    }
+
+    /**
+     * Gets the package of a generated application (and of its controllers and DTOs).
+     *
+     * @param application the index of the application
+     * @return the package name
+     */
+    public String getApplicationPackage(int application) {
+        return basePackage + ".app" + application;
+    }
+
+    /**
+     * Gets the (globally unique) simple name of a generated DTO.
+     *
+     * @param application the index of the application
+     * @param controller  the index of the controller using the DTO
+     * @param level       the depth of the DTO in the chain (0 is used by the controller directly)
+     * @return the simple class name
+     */
+    public String dtoName(int application, int controller, int level) {
+        return "App" + application + "Resource" + controller + "Level" + level + "DTO";
+    }
+
+    /**
+     * Generates the sources into the given directory, compiles them and returns a class loader for the compiled classes.
+     * Close the returned class loader when it is not used anymore.
+     *
+     * @param directory the (empty) directory for the sources and classes
+     * @return a class loader loading the generated classes (its parent is the class loader of this generator)
+     * @throws IOException if the sources or classes cannot be written
+     */
+    public URLClassLoader generate(File directory) throws IOException {
+        Path sourceDirectory = directory.toPath().resolve("src");
+        Path classDirectory = directory.toPath().resolve("classes");
+        Files.createDirectories(classDirectory);
+        List<File> sources = new ArrayList<>();
+        for (Map.Entry<String, String> generatedSource : generateSources().entrySet()) {
+            Path source = sourceDirectory.resolve(generatedSource.getKey().replace('.', File.separatorChar) + ".java");
+            Files.createDirectories(source.getParent());
+            Files.write(source, generatedSource.getValue().getBytes(StandardCharsets.UTF_8));
+            sources.add(source.toFile());
+        }
+        compile(sources, classDirectory.toFile());
+        return new URLClassLoader(new URL[]{classDirectory.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    /**
+     * Generates the sources of all applications.
+     *
+     * @return the sources by fully qualified class name
+     */
+    public Map<String, String> generateSources() {
+        Map<String, String> sources = new LinkedHashMap<>();
+        for (int i = 0; i < applications; i++) {
+            String applicationPackage = getApplicationPackage(i);
+            sources.put(applicationPackage + ".App" + i + "Application", generateApplication(applicationPackage, i));
+            for (int j = 0; j < controllersPerApplication; j++) {
+                sources.put(applicationPackage + ".interfaces.Resource" + j + "Controller", generateController(applicationPackage, i, j));
+                for (int k = 0; k < dtoDepth; k++) {
+                    sources.put(applicationPackage + ".model." + dtoName(i, j, k), generateDTO(applicationPackage, i, j, k));
+                }
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * Runs the given action with the given class loader as context class loader, which is used by the classpath
+     * scanning of the discovery strategies.
+     *
+     * @param classLoader the class loader of the generated classes
+     * @param action      the action to be run
+     * @param <T>         the result type of the action
+     * @return the result of the action
+     * @throws Exception if the action fails
+     */
+    public static <T> T runWithClassLoader(ClassLoader classLoader, Callable<T> action) throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader previousClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            return action.call();
+        } finally {
+            thread.setContextClassLoader(previousClassLoader);
+        }
+    }
+
+    private String generateApplication(String applicationPackage, int index) {
+        return "package " + applicationPackage + ";\n\n" +
+                "@org.springframework.boot.autoconfigure.SpringBootApplication\n" +
+                "public class App" + index + "Application {\n" +
+                "}\n";
+    }
+
+    private String generateController(String applicationPackage, int application, int index) {
+        String dto = applicationPackage + ".model." + dtoName(application, index, 0);
+        return "package " + applicationPackage + ".interfaces;\n\n" +
+                "import org.springframework.web.bind.annotation.*;\n\n" +
+                "@RestController\n" +
+                "@RequestMapping({\"/resource" + index + "\"})\n" +
+                "public class Resource" + index + "Controller {\n\n" +
+                "    @GetMapping({\"/{id}\"})\n" +
+                "    public " + dto + " getResource" + index + "(@PathVariable String id) {\n" +
+                "        return null;\n" +
+                "    }\n\n" +
+                "    @GetMapping({\"/\"})\n" +
+                "    public java.util.List<" + dto + "> getAllResource" + index + "() {\n" +
+                "        return null;\n" +
+                "    }\n\n" +
+                "    @PutMapping({\"/{id}\"})\n" +
+                "    public " + dto + " updateResource" + index + "(@PathVariable String id, @RequestBody " + dto + " dto) {\n" +
+                "        return null;\n" +
+                "    }\n\n" +
+                "    @DeleteMapping({\"/{id}\"})\n" +
+                "    public void deleteResource" + index + "(@PathVariable String id) {\n" +
+                "    }\n\n" +
+                "}\n";
+    }
+
+    private String generateDTO(String applicationPackage, int application, int controller, int level) {
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(applicationPackage).append(".model;\n\n");
+        source.append("public class ").append(dtoName(application, controller, level)).append(" {\n\n");
+        source.append("    private String name;\n");
+        source.append("    private long amount;\n");
+        source.append("    private java.util.Set<String> tags;\n");
+        if (level + 1 < dtoDepth)
+            source.append("    private java.util.List<").append(dtoName(application, controller, level + 1)).append("> children;\n");
+        source.append("\n    public String getName() {\n        return name;\n    }\n");
+        source.append("\n}\n");
+        return source.toString();
+    }
+
+    private void compile(List<File> sources, File classDirectory) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null)
+            throw new IllegalStateException("No Java compiler available; the synthetic applications can only be generated on a JDK.");
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjectsFromFiles(sources);
+            List<String> options = Arrays.asList("-d", classDirectory.getPath(), "-classpath", getCompileClasspath(), "-proc:none");
+            StringWriter diagnostics = new StringWriter();
+            if (!compiler.getTask(diagnostics, fileManager, null, options, null, compilationUnits).call())
+                throw new IllegalStateException("Could not compile the synthetic applications: " + diagnostics);
+        }
+    }
+
+    /**
+     * The generated classes only depend on the Spring annotations. Their locations are added explicitly, since the
+     * class path of the running JVM may not list them (e.g. if started with a manifest-only jar).
+     */
+    private String getCompileClasspath() {
+        Set<String> entries = new LinkedHashSet<>(Arrays.asList(System.getProperty("java.class.path").split(File.pathSeparator)));
+        for (Class<?> type : Arrays.asList(SpringBootApplication.class, RequestMapping.class)) {
+            try {
+                entries.add(new File(type.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath());
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException("Cannot locate the classpath entry of " + type.getName() + ".", e);
+            }
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+
+}